@@ -1,14 +1,11 @@
 package co.com.camilo.config;
 
-import org.springframework.context.annotation.ComponentScan;
+import co.com.camilo.usecase.user.UserUseCase;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 
+// Casos de uso registrados explícitamente: evita escanear el classpath de co.com.camilo.usecase al arrancar
 @Configuration
-@ComponentScan(basePackages = "co.com.camilo.usecase",
-        includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$")
-        },
-        useDefaultFilters = false)
+@Import(UserUseCase.class)
 public class UseCasesConfig {
 }
@@ -0,0 +1,81 @@
+package co.com.camilo.config.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de Log4j2 que deja pasar uno de cada {@code rate} eventos con nivel {@code level} o menos severo;
+ * los más severos pasan siempre. Pensado para adjuntarse a un logger del hot path, junto a un
+ * {@code BurstFilter} que acota el volumen en picos:
+ * {@code <SamplingFilter level="DEBUG" rate="100"/>}.
+ */
+@Plugin(name = "SamplingFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class SamplingFilter extends AbstractFilter {
+
+    private final Level level;
+    private final long rate;
+    private final AtomicLong counter = new AtomicLong();
+
+    private SamplingFilter(Level level, long rate, Result onMatch, Result onMismatch) {
+        super(onMatch, onMismatch);
+        this.level = level;
+        this.rate = rate;
+    }
+
+    @Override
+    public Result filter(LogEvent event) {
+        return filter(event.getLevel());
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg,
+                         Object... params) {
+        return filter(level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+        return filter(level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+        return filter(level);
+    }
+
+    private Result filter(Level eventLevel) {
+        if (!eventLevel.isLessSpecificThan(level)) {
+            return onMatch;
+        }
+        return counter.getAndIncrement() % rate == 0 ? onMatch : onMismatch;
+    }
+
+    @Override
+    public String toString() {
+        return "level=" + level + ", rate=" + rate;
+    }
+
+    @PluginFactory
+    public static SamplingFilter createFilter(
+            @PluginAttribute("level") Level level,
+            @PluginAttribute("rate") Long rate,
+            @PluginAttribute("onMatch") Result onMatch,
+            @PluginAttribute("onMismatch") Result onMismatch) {
+        return new SamplingFilter(
+                level == null ? Level.DEBUG : level,
+                rate == null || rate < 1 ? 1 : rate,
+                onMatch == null ? Result.NEUTRAL : onMatch,
+                onMismatch == null ? Result.DENY : onMismatch);
+    }
+}
@@ -1,11 +1,15 @@
 package co.com.camilo.config;
 
+import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.usecase.user.UserUseCase;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class UseCasesConfigTest {
 
@@ -23,6 +27,7 @@ public class UseCasesConfigTest {
             }
 
             assertTrue(useCaseBeanFound, "No beans ending with 'Use Case' were found");
+            assertNotNull(context.getBean(UserUseCase.class));
         }
     }
 
@@ -30,6 +35,11 @@ public class UseCasesConfigTest {
     @Import(UseCasesConfig.class)
     static class TestConfig {
 
+        @Bean
+        public UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
         @Bean
         public MyUseCase myUseCase() {
             return new MyUseCase();
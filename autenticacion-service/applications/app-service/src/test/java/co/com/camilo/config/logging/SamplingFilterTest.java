@@ -0,0 +1,37 @@
+package co.com.camilo.config.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SamplingFilterTest {
+
+    private final SamplingFilter filter = SamplingFilter.createFilter(Level.DEBUG, 10L, null, null);
+
+    @Test
+    void shouldPassOneOfEveryRateEvents() {
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.filter(event(Level.DEBUG)) != Filter.Result.DENY) {
+                passed++;
+            }
+        }
+
+        assertEquals(10, passed);
+    }
+
+    @Test
+    void shouldAlwaysPassMoreSevereEvents() {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Filter.Result.NEUTRAL, filter.filter(event(Level.INFO)));
+        }
+    }
+
+    private static LogEvent event(Level level) {
+        return Log4jLogEvent.newBuilder().setLevel(level).setLoggerName("co.com.camilo.api.Handler").build();
+    }
+}
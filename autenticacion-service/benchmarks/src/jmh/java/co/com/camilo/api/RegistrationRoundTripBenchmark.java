@@ -0,0 +1,71 @@
+package co.com.camilo.api;
+
+import co.com.camilo.api.config.BulkImportProperties;
+import co.com.camilo.api.config.FuzzySearchProperties;
+import co.com.camilo.api.config.PipelineMetricsProperties;
+import co.com.camilo.api.config.UserListingProperties;
+import co.com.camilo.api.config.UserLookupProperties;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.api.metrics.PipelineMetrics;
+import co.com.camilo.benchmark.support.InMemoryUserRepository;
+import co.com.camilo.usecase.user.UserUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code POST /api/v1/usuarios} completo a través de {@link WebTestClient} enlazado a las rutas, sin red:
+ * codecs, filtros de WebFlux, handler y caso de uso contra un gateway en memoria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistrationRoundTripBenchmark {
+
+    private InMemoryUserRepository repository;
+    private WebTestClient client;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryUserRepository();
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+        Handler handler = new Handler(new UserUseCase(repository), exceptionHandler, new BulkImportProperties(null, null),
+                new UserListingProperties(null, null, null),
+                new FuzzySearchProperties(null, null, null),
+                new UserLookupProperties(null, null),
+                new PipelineMetrics(new SimpleMeterRegistry(), new PipelineMetricsProperties(true), exceptionHandler));
+        client = WebTestClient.bindToRouterFunction(new RouterRest().routerFunction(handler)).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearRepository() {
+        repository.clear();
+    }
+
+    @Benchmark
+    public byte[] saveUser() {
+        String body = RegistrationStagesBenchmark.REQUEST_JSON
+                .replace("juan@email.com", "usuario" + sequence++ + "@benchmark.test");
+
+        return client.post()
+                .uri("/api/v1/usuarios")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+    }
+}
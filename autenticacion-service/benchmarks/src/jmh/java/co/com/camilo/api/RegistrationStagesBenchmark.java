@@ -0,0 +1,131 @@
+package co.com.camilo.api;
+
+import co.com.camilo.api.DTO.CreateUserRequest;
+import co.com.camilo.api.config.BulkImportProperties;
+import co.com.camilo.api.config.FuzzySearchProperties;
+import co.com.camilo.api.config.PipelineMetricsProperties;
+import co.com.camilo.api.config.UserListingProperties;
+import co.com.camilo.api.config.UserLookupProperties;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.api.metrics.PipelineMetrics;
+import co.com.camilo.api.validation.RequestValidator;
+import co.com.camilo.benchmark.support.InMemoryUserRepository;
+import co.com.camilo.model.user.User;
+import co.com.camilo.usecase.user.UserUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Etapas de {@link Handler#listenSaveUser} medidas por separado, solo a través de API pública:
+ * decodificación JSON, validación con {@link RequestValidator}, cadena de {@link UserUseCase#saveUser}
+ * contra un gateway en memoria, el handler completo sobre un {@link MockServerRequest} ya decodificado
+ * y codificación de la respuesta. El mapeo a dominio y los timers de etapa quedan dentro de
+ * {@code handleRequest}; su costo es lo que sobra al restar validación y registro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegistrationStagesBenchmark {
+
+    static final String REQUEST_JSON = """
+            {"nombre":"Juan","apellido":"Pérez","correoElectronico":"juan@email.com",\
+            "fechaNacimiento":"1990-01-01","direccion":"Calle 123 #45-67",\
+            "telefono":"+57 300 123 4567","salarioBase":1500000}""";
+
+    private ObjectMapper objectMapper;
+    private InMemoryUserRepository repository;
+    private UserUseCase useCase;
+    private Handler handler;
+    private byte[] requestBody;
+    private CreateUserRequest request;
+    private CreateUserRequest handlerRequest;
+    private User user;
+    private User savedUser;
+    private long sequence;
+    private RequestValidator<CreateUserRequest> validator;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Misma configuración base que aplica Spring Boot al codec JSON de WebFlux
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        repository = new InMemoryUserRepository();
+        useCase = new UserUseCase(repository);
+        validator = RequestValidator.of(CreateUserRequest.class);
+        GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+        handler = new Handler(useCase, exceptionHandler, new BulkImportProperties(null, null),
+                new UserListingProperties(null, null, null),
+                new FuzzySearchProperties(null, null, null),
+                new UserLookupProperties(null, null),
+                new PipelineMetrics(new SimpleMeterRegistry(), new PipelineMetricsProperties(true), exceptionHandler));
+
+        requestBody = REQUEST_JSON.getBytes(StandardCharsets.UTF_8);
+        request = objectMapper.readValue(requestBody, CreateUserRequest.class);
+        handlerRequest = objectMapper.readValue(requestBody, CreateUserRequest.class);
+        user = User.builder()
+                .nombre(request.getNombre())
+                .apellido(request.getApellido())
+                .correoElectronico(request.getCorreoElectronico())
+                .fechaNacimiento(request.getFechaNacimiento())
+                .direccion(request.getDireccion())
+                .telefono(request.getTelefono())
+                .salarioBase(request.getSalarioBase())
+                .build();
+        savedUser = user.toBuilder().id(1).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearRepository() {
+        repository.clear();
+    }
+
+    @Benchmark
+    public CreateUserRequest decodeRequest() throws IOException {
+        return objectMapper.readValue(requestBody, CreateUserRequest.class);
+    }
+
+    @Benchmark
+    public List<String> validateRequest() {
+        return validator.validate(request);
+    }
+
+    @Benchmark
+    public User saveUser() {
+        // Cada invocación registra un correo nuevo; la copia forma parte del costo medido
+        User next = user.toBuilder().correoElectronico("usuario" + sequence++ + "@benchmark.test").build();
+        return useCase.saveUser(next).block();
+    }
+
+    @Benchmark
+    public ServerResponse handleRequest() {
+        // Como saveUser: un correo nuevo por invocación; el MockServerRequest forma parte del costo medido
+        handlerRequest.setCorreoElectronico("handler" + sequence++ + "@benchmark.test");
+        return handler.listenSaveUser(MockServerRequest.builder()
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                        .body(Mono.just(handlerRequest)))
+                .block();
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(savedUser);
+    }
+}
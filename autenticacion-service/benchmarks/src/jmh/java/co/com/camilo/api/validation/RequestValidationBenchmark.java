@@ -0,0 +1,66 @@
+package co.com.camilo.api.validation;
+
+import co.com.camilo.api.DTO.CreateUserRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Validación de {@link CreateUserRequest} con Hibernate Validator (como la hacía el handler: validate más
+ * stream de mensajes) frente a {@link RequestValidator}, para una solicitud válida y una con errores.
+ * Corre con varios hilos para reflejar los event loops atendiendo en paralelo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RequestValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String scenario;
+
+    private Validator jakartaValidator;
+    private RequestValidator<CreateUserRequest> requestValidator;
+    private CreateUserRequest request;
+
+    @Setup
+    public void setUp() {
+        jakartaValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        requestValidator = RequestValidator.of(CreateUserRequest.class);
+
+        request = new CreateUserRequest();
+        request.setNombre("Juan");
+        request.setApellido("Pérez");
+        request.setCorreoElectronico("valid".equals(scenario) ? "juan@email.com" : "juan-email");
+        request.setFechaNacimiento(LocalDate.of(1990, 1, 1));
+        request.setDireccion("Calle 123 #45-67");
+        request.setTelefono("+57 300 123 4567");
+        request.setSalarioBase("valid".equals(scenario) ? 1_500_000 : 20_000_000);
+    }
+
+    @Benchmark
+    public List<String> hibernateValidator() {
+        return jakartaValidator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> requestValidator() {
+        return requestValidator.validate(request);
+    }
+}
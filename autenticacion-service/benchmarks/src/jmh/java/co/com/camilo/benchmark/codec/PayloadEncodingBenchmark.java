@@ -0,0 +1,135 @@
+package co.com.camilo.benchmark.codec;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserPage;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tamaño y tiempo de codificación de las respuestas de usuarios en JSON, CBOR y Smile, con y sin gzip,
+ * para un usuario y para un listado de 10.000. El tamaño de cada combinación se imprime una vez al
+ * iniciar el trial, con el prefijo {@code [payload]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    @Param({"1", "10000"})
+    public int users;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private Encoder<Object> encoder;
+    private MimeType mimeType;
+    private ResolvableType type;
+    private Object payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (format) {
+            case "cbor" -> {
+                encoder = new Jackson2CborEncoder(builder().factory(new CBORFactory()).build());
+                mimeType = MediaType.APPLICATION_CBOR;
+            }
+            case "smile" -> {
+                encoder = new Jackson2SmileEncoder(builder().factory(new SmileFactory()).build());
+                mimeType = MediaType.valueOf("application/x-jackson-smile");
+            }
+            default -> {
+                encoder = new Jackson2JsonEncoder(builder().build());
+                mimeType = MediaType.APPLICATION_JSON;
+            }
+        }
+
+        if (users == 1) {
+            payload = user(1);
+            type = ResolvableType.forClass(User.class);
+        } else {
+            List<User> page = new ArrayList<>(users);
+            for (int id = 1; id <= users; id++) {
+                page.add(user(id));
+            }
+            payload = new UserPage(page, users);
+            type = ResolvableType.forClass(UserPage.class);
+        }
+
+        System.out.printf("%n[payload] formato=%s compresion=%s usuarios=%d bytes=%d%n",
+                format, compression, users, encode());
+    }
+
+    @Benchmark
+    public int encode() {
+        DataBuffer buffer = encoder.encodeValue(payload, bufferFactory, type, mimeType, Map.of());
+        try {
+            return "gzip".equals(compression) ? gzip(buffer) : buffer.readableByteCount();
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static int gzip(DataBuffer buffer) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(buffer.readableByteCount() / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            buffer.asInputStream().transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.size();
+    }
+
+    // Misma configuración base que el builder de Spring Boot usado por BinaryCodecsConfig
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static User user(int id) {
+        return User.builder()
+                .id(id)
+                .nombre("Juan")
+                .apellido("Pérez")
+                .correoElectronico("usuario" + id + "@email.com")
+                .fechaNacimiento(LocalDate.of(1990, 1, 1).plusDays(id % 3650))
+                .direccion("Calle " + (id % 200) + " #45-67")
+                .telefono("+57 300 " + (1_000_000 + id))
+                .salarioBase(1_000_000 + id)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package co.com.camilo.benchmark.logging;
+
+import co.com.camilo.api.DTO.CreateUserRequest;
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tiempo que un debug del handler ocupa en el hilo que loguea (el event loop en producción) con la
+ * configuración síncrona de desarrollo, con loggers asíncronos y JSON, y con el DEBUG limitado en ráfagas.
+ * Cada valor de {@code config} corre en su propio fork, con la configuración de Log4j2 fijada antes de iniciar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class HotPathLoggingBenchmark {
+
+    @Param({"sync", "async", "async-burst"})
+    public String config;
+
+    private Logger log;
+    private CreateUserRequest request;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("log4j2.configurationFile", "log4j2-bench-" + config + ".xml");
+        System.setProperty("log4j2.formatMsgAsync", "true");
+        System.setProperty("log4j2.asyncQueueFullPolicy", "Discard");
+        log = LoggerFactory.getLogger("co.com.camilo.api.Handler");
+
+        request = new CreateUserRequest();
+        request.setNombre("Juan");
+        request.setApellido("Pérez");
+        request.setCorreoElectronico("juan@email.com");
+        request.setFechaNacimiento(LocalDate.of(1990, 1, 1));
+        request.setDireccion("Calle 123 #45-67");
+        request.setTelefono("+57 300 123 4567");
+        request.setSalarioBase(1_500_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LogManager.shutdown();
+    }
+
+    /** Como antes del cambio: el objeto completo como argumento. */
+    @Benchmark
+    public void debugRequest() {
+        log.debug("Request a procesar {}", request);
+    }
+
+    /** Como el handler actual: argumento perezoso con solo el correo. */
+    @Benchmark
+    public void debugLazyEmail() {
+        log.atDebug()
+                .setMessage("Usuario validado y mapeado {}")
+                .addArgument(request::getCorreoElectronico)
+                .log();
+    }
+}
@@ -0,0 +1,145 @@
+package co.com.camilo.benchmark.mapper;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.r2dbc.UserReactiveRepository;
+import co.com.camilo.r2dbc.entity.UserEntity;
+import co.com.camilo.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.camilo.r2dbc.mapper.UserEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por fila del mapeo reflexivo ({@link ObjectMapperImp}) frente al generado por MapStruct
+ * ({@link UserEntityMapper}). Con el perfilador {@code gc} se reporta además la asignación por operación
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private User user;
+    private UserEntity entity;
+    private ObjectMapper reflective;
+    private UserEntityMapper generated;
+    private UserAdapter reflectiveAdapter;
+    private UserAdapter generatedAdapter;
+
+    @Setup
+    public void setUp() {
+        user = user(1);
+        entity = entity(1);
+        reflective = new ObjectMapperImp();
+        generated = Mappers.getMapper(UserEntityMapper.class);
+
+        List<UserEntity> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(entity(i));
+        }
+        UserReactiveRepository repository = stubRepository(rows);
+        reflectiveAdapter = new UserAdapter(repository, reflective);
+        generatedAdapter = new UserAdapter(repository, generated);
+    }
+
+    @Benchmark
+    public UserEntity toDataReflective() {
+        return reflective.map(user, UserEntity.class);
+    }
+
+    @Benchmark
+    public UserEntity toDataGenerated() {
+        return generated.toData(user);
+    }
+
+    @Benchmark
+    public User toEntityReflective() {
+        return reflective.map(entity, User.class);
+    }
+
+    @Benchmark
+    public User toEntityGenerated() {
+        return generated.toEntity(entity);
+    }
+
+    @Benchmark
+    public User saveReflective() {
+        return reflectiveAdapter.save(user).block();
+    }
+
+    @Benchmark
+    public User saveGenerated() {
+        return generatedAdapter.save(user).block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long findAllReflective() {
+        return reflectiveAdapter.findAll().count().block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Long findAllGenerated() {
+        return generatedAdapter.findAll().count().block();
+    }
+
+    /** Repositorio en memoria: {@code save} devuelve la misma fila y {@code findAll} emite las filas dadas. */
+    private static UserReactiveRepository stubRepository(List<UserEntity> rows) {
+        return (UserReactiveRepository) Proxy.newProxyInstance(
+                UserReactiveRepository.class.getClassLoader(),
+                new Class<?>[]{UserReactiveRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> Mono.just(args[0]);
+                    case "findAll" -> Flux.fromIterable(rows);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static User user(int id) {
+        return User.builder()
+                .id(id)
+                .nombre("Nombre" + id)
+                .apellido("Apellido" + id)
+                .correoElectronico("usuario" + id + "@benchmark.test")
+                .fechaNacimiento(LocalDate.of(1990, 1, 1))
+                .direccion("Calle " + id)
+                .telefono("3000000000")
+                .salarioBase(1_500_000)
+                .build();
+    }
+
+    private static UserEntity entity(int id) {
+        return new UserEntity(id, "usuario" + id + "@benchmark.test", "Nombre" + id, "Apellido" + id,
+                LocalDate.of(1990, 1, 1), "Calle " + id, "3000000000", 1_500_000);
+    }
+
+    static final class UserAdapter extends ReactiveAdapterOperations<User, UserEntity, Integer, UserReactiveRepository> {
+
+        UserAdapter(UserReactiveRepository repository, ObjectMapper mapper) {
+            super(repository, mapper, data -> mapper.map(data, User.class));
+        }
+
+        UserAdapter(UserReactiveRepository repository, UserEntityMapper mapper) {
+            super(repository, mapper::toData, mapper::toEntity);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package co.com.camilo.benchmark.startup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Tiempo de arranque del {@code MainApplication} empaquetado (bootJar extraído, igual que en
+ * deployment/Dockerfile) en cada modo: sin CDS de la aplicación, con AppCDS, con Spring AOT y con AOT +
+ * AppCDS, tanto con el perfil por defecto como con el perfil {@code prod} de los pods. Cada invocación
+ * lanza una JVM nueva que termina al refrescar el contexto (servidor Netty ya escuchando), sin esperar la
+ * base de datos. El código AOT se genera con el perfil {@code prod}.
+ * <p>
+ * Requiere el jar con código AOT: {@code ./gradlew -Paot :benchmarks:jmh -PjmhInclude=Startup}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+public class StartupBenchmark {
+
+    @Param({"default", "cds", "aot", "aot_cds"})
+    public String mode;
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private Path workDir;
+    private Path applicationJar;
+    private List<String> modeArgs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        Path bootJar = Paths.get(System.getProperty("startup.jar", ""));
+        if (!Files.isRegularFile(bootJar)) {
+            throw new IllegalStateException("No se encontró el bootJar en -Dstartup.jar=" + bootJar);
+        }
+        boolean aot = mode.startsWith("aot");
+        if (aot && !hasAotContext(bootJar)) {
+            throw new IllegalStateException("El bootJar no incluye código AOT; ejecutar con ./gradlew -Paot");
+        }
+
+        workDir = Files.createTempDirectory("startup-" + mode);
+        run(List.of(java(), "-Djarmode=tools", "-jar", bootJar.toString(), "extract",
+                "--destination", workDir.resolve("app").toString()));
+        applicationJar = workDir.resolve("app").resolve(bootJar.getFileName());
+
+        modeArgs = new ArrayList<>();
+        if (aot) {
+            modeArgs.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.endsWith("cds")) {
+            Path archive = workDir.resolve("application.jsa");
+            // Ejecución de entrenamiento, igual a la del Dockerfile
+            run(command("-XX:ArchiveClassesAtExit=" + archive));
+            modeArgs.add("-XX:SharedArchiveFile=" + archive);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int startUntilRefreshed() throws IOException, InterruptedException {
+        return run(command());
+    }
+
+    private List<String> command(String... extraArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(modeArgs);
+        command.addAll(List.of(extraArgs));
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-jar");
+        command.add(applicationJar.toString());
+        command.add("--server.port=0");
+        command.add("--spring.profiles.active=" + profile);
+        return command;
+    }
+
+    private int run(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("output.log").toFile())
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Falló " + String.join(" ", command) + " con código " + exitCode
+                    + "; ver " + workDir.resolve("output.log"));
+        }
+        return exitCode;
+    }
+
+    private static boolean hasAotContext(Path bootJar) {
+        try (JarFile jar = new JarFile(bootJar.toFile())) {
+            return jar.stream().anyMatch(entry -> entry.getName().endsWith("__ApplicationContextInitializer.class"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String java() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
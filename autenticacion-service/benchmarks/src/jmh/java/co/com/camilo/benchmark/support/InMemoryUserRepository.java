@@ -0,0 +1,106 @@
+package co.com.camilo.benchmark.support;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserSearchCriteria;
+import co.com.camilo.model.user.gateways.UserRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gateway en memoria para medir el caso de uso y el handler sin base de datos. Conserva la semántica
+ * de {@code saveIfAbsent}: vacío cuando el correo ya está registrado.
+ */
+public class InMemoryUserRepository implements UserRepository {
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    @Override
+    public Mono<User> save(User user) {
+        return Mono.fromSupplier(() -> {
+            User saved = withId(user);
+            users.put(saved.getCorreoElectronico(), saved);
+            return saved;
+        });
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return Mono.justOrEmpty(users.get(email));
+    }
+
+    @Override
+    public Mono<User> saveIfAbsent(User user) {
+        return Mono.fromSupplier(() -> {
+            User saved = withId(user);
+            return users.putIfAbsent(saved.getCorreoElectronico(), saved) == null ? saved : null;
+        });
+    }
+
+    @Override
+    public Flux<User> saveAllIfAbsent(List<User> batch) {
+        return Flux.fromIterable(batch).concatMap(this::saveIfAbsent);
+    }
+
+    @Override
+    public Flux<User> findPageAfter(int afterId, int limit) {
+        return Flux.fromStream(() -> users.values().stream()
+                .filter(user -> user.getId() > afterId)
+                .sorted(Comparator.comparing(User::getId))
+                .limit(limit));
+    }
+
+    @Override
+    public Flux<User> search(UserSearchCriteria criteria) {
+        return Flux.fromStream(() -> users.values().stream()
+                .filter(user -> user.getId() > criteria.getDespues())
+                .filter(user -> criteria.getSalarioMinimo() == null || user.getSalarioBase() >= criteria.getSalarioMinimo())
+                .filter(user -> criteria.getSalarioMaximo() == null || user.getSalarioBase() <= criteria.getSalarioMaximo())
+                .filter(user -> criteria.getNacidoDesde() == null || !user.getFechaNacimiento().isBefore(criteria.getNacidoDesde()))
+                .filter(user -> criteria.getNacidoHasta() == null || !user.getFechaNacimiento().isAfter(criteria.getNacidoHasta()))
+                .filter(user -> criteria.getPrefijoNombre() == null
+                        || user.getNombre().toLowerCase().startsWith(criteria.getPrefijoNombre().toLowerCase()))
+                .filter(user -> criteria.getTelefono() == null || criteria.getTelefono().equals(user.getTelefono()))
+                .sorted(Comparator.comparing(User::getId))
+                .limit(criteria.getLimite()));
+    }
+
+    // Sin trigramas: coincidencia por contenido con puntaje fijo, suficiente para los benchmarks del handler
+    @Override
+    public Flux<UserMatch> fuzzySearch(String text, double threshold, int limit) {
+        String lower = text.toLowerCase();
+        return Flux.fromStream(() -> users.values().stream()
+                .filter(user -> (user.getNombre() + " " + user.getApellido()).toLowerCase().contains(lower))
+                .sorted(Comparator.comparing(User::getId))
+                .limit(limit)
+                .map(user -> new UserMatch(user, 1.0)));
+    }
+
+    @Override
+    public Flux<User> findAllByEmails(List<String> emails) {
+        return Flux.fromStream(() -> emails.stream().map(users::get).filter(Objects::nonNull));
+    }
+
+    @Override
+    public Flux<User> findAllByIds(List<Integer> ids) {
+        Set<Integer> wanted = Set.copyOf(ids);
+        return Flux.fromStream(() -> users.values().stream().filter(user -> wanted.contains(user.getId())));
+    }
+
+    public void clear() {
+        users.clear();
+    }
+
+    private User withId(User user) {
+        return user.toBuilder().id(ids.incrementAndGet()).build();
+    }
+}
@@ -0,0 +1,4 @@
+-- Unicidad del correo a nivel de base de datos: respalda el INSERT ... ON CONFLICT
+-- de UserReactiveRepository.insertIfAbsent y evita duplicados por registros concurrentes.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS usuarios_correo_electronico_uk
+    ON usuarios (correo_electronico);
@@ -0,0 +1,24 @@
+-- Índices de la búsqueda del back-office (UserSearchQuery). Cada uno termina en id para que la
+-- subconsulta de ids (filtro + ORDER BY id + LIMIT) se resuelva con un index-only scan.
+--
+-- No ejecutar dentro de un bloque de transacción (BEGIN ... COMMIT, psql --single-transaction ni
+-- herramientas de migración que envuelven cada script en una): CREATE INDEX CONCURRENTLY y VACUUM
+-- fallan ahí. Con psql basta con "psql -f 002_usuarios_busqueda_indices.sql" en modo autocommit.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS usuarios_salario_base_id_idx
+    ON usuarios (salario_base, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS usuarios_fecha_nacimiento_id_idx
+    ON usuarios (fecha_nacimiento, id);
+
+-- Rango de prefijo (~>=~ / ~<~) sobre lower(nombre); INCLUDE (nombre) porque el planificador solo considera
+-- index-only scans con índices de expresión cuando la columna base también está en el índice.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS usuarios_nombre_prefijo_idx
+    ON usuarios (lower(nombre) text_pattern_ops, id) INCLUDE (nombre);
+
+-- Parcial: las filas sin teléfono nunca coinciden con telefono = $n.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS usuarios_telefono_id_idx
+    ON usuarios (telefono, id)
+    WHERE telefono IS NOT NULL;
+
+-- Index-only scans dependen del mapa de visibilidad; tras cargas masivas conviene un VACUUM.
+VACUUM (ANALYZE) usuarios;
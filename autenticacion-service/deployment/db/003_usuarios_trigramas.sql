@@ -0,0 +1,9 @@
+-- Búsqueda aproximada por nombre completo y dirección (UserRepositoryAdapter.fuzzySearch).
+-- Las expresiones deben ser idénticas a las de la consulta para que PostgreSQL use los índices.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS usuarios_nombre_completo_trgm_idx
+    ON usuarios USING gin ((lower(coalesce(nombre, '') || ' ' || coalesce(apellido, ''))) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS usuarios_direccion_trgm_idx
+    ON usuarios USING gin ((lower(coalesce(direccion, ''))) gin_trgm_ops);
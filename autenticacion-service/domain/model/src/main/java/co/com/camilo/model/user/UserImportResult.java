@@ -0,0 +1,38 @@
+package co.com.camilo.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserImportResult {
+
+    public enum Estado { CREADO, DUPLICADO, INVALIDO, ERROR }
+
+    private final Estado estado;
+    private final String correoElectronico;
+    private final Integer id;
+    private final String mensaje;
+
+    public static UserImportResult creado(User user) {
+        return new UserImportResult(Estado.CREADO, user.getCorreoElectronico(), user.getId(), null);
+    }
+
+    public static UserImportResult duplicado(String correoElectronico) {
+        return new UserImportResult(Estado.DUPLICADO, correoElectronico, null, "El usuario ya existe.");
+    }
+
+    public static UserImportResult invalido(String correoElectronico, String mensaje) {
+        return new UserImportResult(Estado.INVALIDO, correoElectronico, null, mensaje);
+    }
+
+    public static UserImportResult error(String mensaje) {
+        return error(null, mensaje);
+    }
+
+    public static UserImportResult error(String correoElectronico, String mensaje) {
+        return new UserImportResult(Estado.ERROR, correoElectronico, null, mensaje);
+    }
+}
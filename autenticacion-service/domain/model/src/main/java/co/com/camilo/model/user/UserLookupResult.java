@@ -0,0 +1,26 @@
+package co.com.camilo.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Resultado de la consulta masiva para una clave pedida (correo o id), con el usuario si existe. */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserLookupResult {
+
+    public enum Estado { ENCONTRADO, NO_ENCONTRADO }
+
+    private final Estado estado;
+    private final String clave;
+    private final User usuario;
+
+    public static UserLookupResult encontrado(String clave, User user) {
+        return new UserLookupResult(Estado.ENCONTRADO, clave, user);
+    }
+
+    public static UserLookupResult noEncontrado(String clave) {
+        return new UserLookupResult(Estado.NO_ENCONTRADO, clave, null);
+    }
+}
@@ -0,0 +1,15 @@
+package co.com.camilo.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Resultado de la búsqueda aproximada: el usuario y su similitud con el texto buscado, entre 0 y 1. */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserMatch {
+
+    private final User usuario;
+    private final double puntaje;
+}
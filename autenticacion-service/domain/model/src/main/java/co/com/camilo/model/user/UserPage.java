@@ -0,0 +1,17 @@
+package co.com.camilo.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserPage {
+
+    private final List<User> usuarios;
+    // id desde el cual pedir la siguiente página; null cuando esta es la última
+    private final Integer siguiente;
+}
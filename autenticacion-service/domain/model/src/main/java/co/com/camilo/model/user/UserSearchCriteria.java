@@ -0,0 +1,26 @@
+package co.com.camilo.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros de la búsqueda de usuarios del back-office. Los criterios nulos no filtran; los rangos
+ * son inclusivos. La paginación es por llave: {@code despues} es el id del último usuario recibido.
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserSearchCriteria {
+
+    private final Integer salarioMinimo;
+    private final Integer salarioMaximo;
+    private final LocalDate nacidoDesde;
+    private final LocalDate nacidoHasta;
+    private final String prefijoNombre;
+    private final String telefono;
+    private final int despues;
+    private final int limite;
+}
@@ -1,11 +1,55 @@
 package co.com.camilo.model.user.gateways;
 
 import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserSearchCriteria;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface UserRepository {
 
     Mono<User> save(User user);
     Mono<User> findByEmail(String email);
 
+    /**
+     * Inserta el usuario en una sola operación atómica solo si su correo no está registrado.
+     * Emite el usuario guardado, o vacío si el correo ya existía.
+     */
+    Mono<User> saveIfAbsent(User user);
+
+    /**
+     * Inserta el lote completo en una sola sentencia, omitiendo los correos ya registrados.
+     * Emite únicamente los usuarios que quedaron guardados, sin garantizar el orden de entrada.
+     */
+    Flux<User> saveAllIfAbsent(List<User> users);
+
+    /**
+     * Emite hasta {@code limit} usuarios con id mayor a {@code afterId}, ordenados por id.
+     * El costo no depende de la posición en la tabla, a diferencia de una paginación por OFFSET.
+     */
+    Flux<User> findPageAfter(int afterId, int limit);
+
+    /**
+     * Emite hasta {@code criteria.getLimite()} usuarios que cumplen todos los criterios y cuyo id es
+     * mayor a {@code criteria.getDespues()}, ordenados por id.
+     */
+    Flux<User> search(UserSearchCriteria criteria);
+
+    /**
+     * Emite hasta {@code limit} usuarios cuyo nombre completo o dirección se parece a {@code text} con
+     * una similitud de al menos {@code threshold}, del más parecido al menos parecido.
+     */
+    Flux<UserMatch> fuzzySearch(String text, double threshold, int limit);
+
+    /**
+     * Emite, con una sola consulta, los usuarios registrados con alguno de los correos, sin garantizar
+     * el orden. Los correos no registrados simplemente no aparecen.
+     */
+    Flux<User> findAllByEmails(List<String> emails);
+
+    /** Igual que {@link #findAllByEmails(List)}, por id. */
+    Flux<User> findAllByIds(List<Integer> ids);
+
 }
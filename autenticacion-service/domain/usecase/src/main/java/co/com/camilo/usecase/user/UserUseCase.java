@@ -1,14 +1,29 @@
 package co.com.camilo.usecase.user;
 
 import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserImportResult;
+import co.com.camilo.model.user.UserLookupResult;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserPage;
+import co.com.camilo.model.user.UserSearchCriteria;
 import co.com.camilo.model.user.gateways.UserRepository;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 
 //@RequiredArgsConstructor
 public class UserUseCase {
 
+    public static final int MIN_FUZZY_TEXT_LENGTH = 3;
+
     private final UserRepository userRepository;
 
     public UserUseCase(UserRepository userRepository) {
@@ -17,18 +32,201 @@ public class UserUseCase {
 
     public Mono<User> saveUser(User user) {
 
-        return userRepository.findByEmail(user.getCorreoElectronico())
-                .flatMap(existingUser ->
-                        Mono.<User>error(new IllegalStateException("El usuario ya existe.")))
-                .switchIfEmpty(userRepository.save(user));
+        return validateUser(user)
+                .flatMap(userRepository::saveIfAbsent)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("El usuario ya existe.")));
+    }
+
+    /**
+     * Registra un lote ya validado y devuelve un resultado por fila, en el mismo orden de entrada.
+     * Si un correo aparece varias veces en el lote, solo la primera aparición queda como creada.
+     */
+    public Flux<UserImportResult> importUsers(List<User> users) {
+        if (users == null || users.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return userRepository.saveAllIfAbsent(users)
+                .collectMap(User::getCorreoElectronico)
+                .flatMapIterable(saved -> toImportResults(users, saved));
+    }
+
+    /**
+     * Devuelve la página de hasta {@code size} usuarios siguiente a {@code afterId}. Se pide una fila
+     * de más para saber si existe otra página sin tener que contar la tabla.
+     */
+    public Mono<UserPage> listUsers(int afterId, int size) {
+        return validatePage(afterId, size)
+                .thenMany(Flux.defer(() -> userRepository.findPageAfter(afterId, size + 1)))
+                .collectList()
+                .map(users -> toPage(users, size));
+    }
+
+    /**
+     * Recorre todos los usuarios posteriores a {@code afterId} en orden de id, pidiendo a la base
+     * bloques de {@code chunkSize}. El siguiente bloque se consulta solo cuando el anterior fue
+     * consumido, por lo que la memoria queda acotada al tamaño del bloque.
+     */
+    public Flux<User> exportUsers(int afterId, int chunkSize) {
+        return validatePage(afterId, chunkSize)
+                .thenMany(Flux.defer(() -> userRepository.findPageAfter(afterId, chunkSize).collectList()
+                        .expand(chunk -> chunk.size() < chunkSize
+                                ? Mono.empty()
+                                : userRepository.findPageAfter(lastId(chunk), chunkSize).collectList())
+                        .concatMapIterable(chunk -> chunk)));
+    }
+
+    /** Página de usuarios que cumplen los criterios, con la misma paginación por llave de {@link #listUsers}. */
+    public Mono<UserPage> searchUsers(UserSearchCriteria criteria) {
+        if (criteria == null) {
+            return Mono.error(new IllegalArgumentException("Los criterios de búsqueda no pueden ser nulos"));
+        }
+        return validatePage(criteria.getDespues(), criteria.getLimite())
+                .then(validateRanges(criteria))
+                .thenMany(Flux.defer(() -> userRepository.search(
+                        criteria.toBuilder().limite(criteria.getLimite() + 1).build())))
+                .collectList()
+                .map(users -> toPage(users, criteria.getLimite()));
+    }
+
+    /**
+     * Búsqueda tolerante a errores de escritura sobre nombre, apellido y dirección. El texto debe tener
+     * al menos {@value #MIN_FUZZY_TEXT_LENGTH} caracteres: con menos no hay trigramas suficientes para
+     * distinguir resultados.
+     */
+    public Flux<UserMatch> fuzzySearch(String text, double threshold, int limit) {
+        if (text == null || text.trim().length() < MIN_FUZZY_TEXT_LENGTH) {
+            return Flux.error(new IllegalArgumentException(
+                    "El texto a buscar debe tener al menos " + MIN_FUZZY_TEXT_LENGTH + " caracteres"));
+        }
+        if (threshold <= 0 || threshold > 1) {
+            return Flux.error(new IllegalArgumentException("El umbral de similitud debe estar entre 0 y 1"));
+        }
+        if (limit < 1) {
+            return Flux.error(new IllegalArgumentException("El límite de resultados debe ser mayor a cero"));
+        }
+        return userRepository.fuzzySearch(text.trim(), threshold, limit);
+    }
+
+    /**
+     * Resuelve los correos con una consulta por bloque de hasta {@code chunkSize} y emite un resultado
+     * por correo pedido, en el mismo orden y con los repetidos incluidos. Cada bloque se emite en cuanto
+     * se resuelve, sin esperar al resto.
+     */
+    public Flux<UserLookupResult> lookupByEmails(List<String> emails, int chunkSize) {
+        return lookup(emails, chunkSize, email -> !isBlank(email),
+                userRepository::findAllByEmails, User::getCorreoElectronico);
+    }
+
+    /** Igual que {@link #lookupByEmails(List, int)}, por id. */
+    public Flux<UserLookupResult> lookupByIds(List<Integer> ids, int chunkSize) {
+        return lookup(ids, chunkSize, id -> id != null && id > 0,
+                userRepository::findAllByIds, User::getId);
+    }
+
+    private static <K> Flux<UserLookupResult> lookup(List<K> keys, int chunkSize, Predicate<K> valid,
+                                                     Function<List<K>, Flux<User>> finder,
+                                                     Function<User, K> keyOf) {
+        if (keys == null || keys.isEmpty()) {
+            return Flux.error(new IllegalArgumentException("Debe indicar al menos un correo o id"));
+        }
+        if (chunkSize < 1) {
+            return Flux.error(new IllegalArgumentException("El tamaño de bloque debe ser mayor a cero"));
+        }
+
+        // Las claves inválidas no llegan a la base: se responden como no encontradas
+        return Flux.range(0, (keys.size() + chunkSize - 1) / chunkSize)
+                .map(chunk -> keys.subList(chunk * chunkSize, Math.min(keys.size(), (chunk + 1) * chunkSize)))
+                .concatMap(chunk -> {
+                    List<K> distinct = chunk.stream().filter(valid).distinct().toList();
+                    Mono<Map<K, User>> found = distinct.isEmpty()
+                            ? Mono.just(Map.of())
+                            : finder.apply(distinct).collectMap(keyOf);
+                    return found.flatMapIterable(users -> toLookupResults(chunk, users));
+                });
+    }
+
+    private static <K> List<UserLookupResult> toLookupResults(List<K> keys, Map<K, User> found) {
+        List<UserLookupResult> results = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            User user = key != null ? found.get(key) : null;
+            String clave = Objects.toString(key, null);
+            results.add(user != null ? UserLookupResult.encontrado(clave, user) : UserLookupResult.noEncontrado(clave));
+        }
+        return results;
+    }
+
+    private static Mono<Void> validateRanges(UserSearchCriteria criteria) {
+        if (criteria.getSalarioMinimo() != null && criteria.getSalarioMaximo() != null
+                && criteria.getSalarioMinimo() > criteria.getSalarioMaximo()) {
+            return Mono.error(new IllegalArgumentException("El salario mínimo no puede superar al máximo"));
+        }
+        if (criteria.getNacidoDesde() != null && criteria.getNacidoHasta() != null
+                && criteria.getNacidoDesde().isAfter(criteria.getNacidoHasta())) {
+            return Mono.error(new IllegalArgumentException("La fecha de nacimiento inicial no puede ser posterior a la final"));
+        }
+        return Mono.empty();
+    }
+
+    private static Mono<Void> validatePage(int afterId, int size) {
+        if (afterId < 0) {
+            return Mono.error(new IllegalArgumentException("El cursor de paginación no puede ser negativo"));
+        }
+        if (size < 1) {
+            return Mono.error(new IllegalArgumentException("El tamaño de página debe ser mayor a cero"));
+        }
+        return Mono.empty();
+    }
+
+    private static UserPage toPage(List<User> users, int size) {
+        if (users.size() <= size) {
+            return new UserPage(users, null);
+        }
+        List<User> page = users.subList(0, size);
+        return new UserPage(page, lastId(page));
+    }
+
+    private static int lastId(List<User> users) {
+        return users.get(users.size() - 1).getId();
+    }
+
+    private static List<UserImportResult> toImportResults(List<User> users, Map<String, User> saved) {
+        List<UserImportResult> results = new ArrayList<>(users.size());
+        for (User user : users) {
+            User created = saved.remove(user.getCorreoElectronico());
+            results.add(created != null
+                    ? UserImportResult.creado(created)
+                    : UserImportResult.duplicado(user.getCorreoElectronico()));
+        }
+        return results;
+    }
+
+    private Mono<User> validateUser(User user) {
+        if (user == null) {
+            return Mono.error(new IllegalArgumentException("El usuario no puede ser nulo"));
+        }
+        if (isBlank(user.getCorreoElectronico())) {
+            return Mono.error(new IllegalArgumentException("El email no puede ser nulo o vacío"));
+        }
+        if (isBlank(user.getNombre())) {
+            return Mono.error(new IllegalArgumentException("El nombre no puede ser nulo o vacío"));
+        }
+        if (user.getSalarioBase() < 0) {
+            return Mono.error(new IllegalArgumentException("El salario base no puede ser negativo"));
+        }
+        return Mono.just(user);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
     }
 
 
     public Mono<User> findUserByEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            throw new IllegalArgumentException("El email no puede ser nulo o vacío");
+        if (isBlank(email)) {
+            return Mono.error(new IllegalArgumentException("El email no puede ser nulo o vacío"));
         }
-        
+
         return userRepository.findByEmail(email);
     }
 }
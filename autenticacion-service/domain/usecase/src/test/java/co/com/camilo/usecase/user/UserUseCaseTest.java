@@ -1,6 +1,10 @@
 package co.com.camilo.usecase.user;
 
 import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserImportResult;
+import co.com.camilo.model.user.UserLookupResult;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserSearchCriteria;
 import co.com.camilo.model.user.gateways.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +14,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,9 +76,7 @@ class UserUseCaseTest {
         @DisplayName("Should save user successfully when user does not exist")
         void shouldSaveUserSuccessfullyWhenUserDoesNotExist() {
             // Arrange
-            when(userRepository.findByEmail(validUser.getCorreoElectronico()))
-                    .thenReturn(Mono.empty());
-            when(userRepository.save(validUser))
+            when(userRepository.saveIfAbsent(validUser))
                     .thenReturn(Mono.just(existingUser));
 
             // Act
@@ -77,23 +87,23 @@ class UserUseCaseTest {
                     .expectNext(existingUser)
                     .verifyComplete();
 
-            verify(userRepository).findByEmail(validUser.getCorreoElectronico());
-            verify(userRepository).save(validUser);
+            verify(userRepository).saveIfAbsent(validUser);
+            verify(userRepository, never()).findByEmail(any());
         }
 
         @Test
         @DisplayName("Should throw exception when user already exists")
         void shouldThrowExceptionWhenUserAlreadyExists() {
             // Arrange
-            when(userRepository.findByEmail(validUser.getCorreoElectronico()))
-                    .thenReturn(Mono.just(existingUser));
+            when(userRepository.saveIfAbsent(validUser))
+                    .thenReturn(Mono.empty());
 
             // Act & Assert
             StepVerifier.create(userUseCase.saveUser(validUser))
                     .expectError(IllegalStateException.class)
                     .verify();
 
-            verify(userRepository).findByEmail(validUser.getCorreoElectronico());
+            verify(userRepository).saveIfAbsent(validUser);
             verify(userRepository, never()).save(any());
         }
 
@@ -105,7 +115,7 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
@@ -122,7 +132,7 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
@@ -139,7 +149,7 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
@@ -156,7 +166,7 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
@@ -173,7 +183,7 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
@@ -190,7 +200,7 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
@@ -207,28 +217,231 @@ class UserUseCaseTest {
                     .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository, never()).findByEmail(any());
+            verify(userRepository, never()).saveIfAbsent(any());
             verify(userRepository, never()).save(any());
         }
 
         @Test
-        @DisplayName("Should throw exception when salary is below minimum")
-        void shouldThrowExceptionWhenSalaryIsBelowMinimum() {
+        @DisplayName("Should save user with a low salary: only negative salaries are rejected")
+        void shouldSaveUserWithALowSalary() {
             // Arrange
             User userWithLowSalary = validUser.toBuilder()
                     .salarioBase(50000)
                     .build();
-
-            when(userRepository.findByEmail(userWithLowSalary.getCorreoElectronico()))
-                    .thenReturn(Mono.empty());
+            when(userRepository.saveIfAbsent(userWithLowSalary))
+                    .thenReturn(Mono.just(existingUser));
 
             // Act & Assert
             StepVerifier.create(userUseCase.saveUser(userWithLowSalary))
-                    .expectError(IllegalStateException.class)
+                    .expectNext(existingUser)
+                    .verifyComplete();
+
+            verify(userRepository).saveIfAbsent(userWithLowSalary);
+        }
+
+        @Test
+        @DisplayName("Should save user when salary is zero")
+        void shouldSaveUserWhenSalaryIsZero() {
+            // Arrange
+            User userWithZeroSalary = validUser.toBuilder()
+                    .salarioBase(0)
+                    .build();
+            when(userRepository.saveIfAbsent(userWithZeroSalary))
+                    .thenReturn(Mono.just(existingUser));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.saveUser(userWithZeroSalary))
+                    .expectNext(existingUser)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("List Users Tests")
+    class ListUsersTests {
+
+        @Test
+        @DisplayName("Should return the next cursor when there are more users")
+        void shouldReturnTheNextCursorWhenThereAreMoreUsers() {
+            // Arrange
+            when(userRepository.findPageAfter(0, 3))
+                    .thenReturn(Flux.just(userWithId(1), userWithId(2), userWithId(3)));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.listUsers(0, 2))
+                    .expectNextMatches(page -> page.getUsuarios().size() == 2
+                            && page.getSiguiente() == 2)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not return a cursor on the last page")
+        void shouldNotReturnACursorOnTheLastPage() {
+            // Arrange
+            when(userRepository.findPageAfter(2, 3))
+                    .thenReturn(Flux.just(userWithId(3)));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.listUsers(2, 2))
+                    .expectNextMatches(page -> page.getUsuarios().size() == 1
+                            && page.getSiguiente() == null)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject non positive page sizes")
+        void shouldRejectNonPositivePageSizes() {
+            StepVerifier.create(userUseCase.listUsers(0, 0))
+                    .expectError(IllegalArgumentException.class)
                     .verify();
 
-            verify(userRepository).findByEmail(userWithLowSalary.getCorreoElectronico());
-            verify(userRepository, never()).save(any());
+            verify(userRepository, never()).findPageAfter(anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should export every user chunk by chunk")
+        void shouldExportEveryUserChunkByChunk() {
+            // Arrange
+            when(userRepository.findPageAfter(0, 2))
+                    .thenReturn(Flux.just(userWithId(1), userWithId(2)));
+            when(userRepository.findPageAfter(2, 2))
+                    .thenReturn(Flux.just(userWithId(3), userWithId(4)));
+            when(userRepository.findPageAfter(4, 2))
+                    .thenReturn(Flux.just(userWithId(5)));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.exportUsers(0, 2).map(User::getId))
+                    .expectNext(1, 2, 3, 4, 5)
+                    .verifyComplete();
+
+            verify(userRepository, times(3)).findPageAfter(anyInt(), eq(2));
+        }
+
+        @Test
+        @DisplayName("Should search with one extra row to detect the next page")
+        void shouldSearchWithOneExtraRow() {
+            // Arrange
+            UserSearchCriteria criteria = UserSearchCriteria.builder()
+                    .salarioMinimo(100000)
+                    .limite(1)
+                    .build();
+            when(userRepository.search(argThat(c -> c.getLimite() == 2 && c.getSalarioMinimo() == 100000)))
+                    .thenReturn(Flux.just(userWithId(1), userWithId(2)));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.searchUsers(criteria))
+                    .expectNextMatches(page -> page.getUsuarios().size() == 1
+                            && page.getSiguiente() == 1)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject inverted salary ranges")
+        void shouldRejectInvertedSalaryRanges() {
+            UserSearchCriteria criteria = UserSearchCriteria.builder()
+                    .salarioMinimo(200)
+                    .salarioMaximo(100)
+                    .limite(10)
+                    .build();
+
+            StepVerifier.create(userUseCase.searchUsers(criteria))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+
+            verify(userRepository, never()).search(any());
+        }
+
+        private User userWithId(int id) {
+            return existingUser.toBuilder().id(id).build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Fuzzy Search Tests")
+    class FuzzySearchTests {
+
+        @Test
+        @DisplayName("Should delegate the trimmed text to the repository")
+        void shouldDelegateTrimmedText() {
+            // Arrange
+            UserMatch match = new UserMatch(existingUser, 0.8);
+            when(userRepository.fuzzySearch("Jaun Peres", 0.3, 20))
+                    .thenReturn(Flux.just(match));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.fuzzySearch("  Jaun Peres ", 0.3, 20))
+                    .expectNext(match)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject texts too short to produce trigrams")
+        void shouldRejectShortTexts() {
+            StepVerifier.create(userUseCase.fuzzySearch(" ab ", 0.3, 20))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+
+            verify(userRepository, never()).fuzzySearch(any(), anyDouble(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should reject thresholds outside (0, 1]")
+        void shouldRejectInvalidThresholds() {
+            StepVerifier.create(userUseCase.fuzzySearch("Juan", 1.5, 20))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+            StepVerifier.create(userUseCase.fuzzySearch("Juan", 0, 20))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Import Users Tests")
+    class ImportUsersTests {
+
+        @Test
+        @DisplayName("Should report one result per row in input order")
+        void shouldReportOneResultPerRowInInputOrder() {
+            // Arrange
+            User duplicated = validUser.toBuilder().correoElectronico("ana@email.com").build();
+            List<User> batch = List.of(validUser, duplicated);
+            when(userRepository.saveAllIfAbsent(batch))
+                    .thenReturn(Flux.just(existingUser));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.importUsers(batch))
+                    .expectNextMatches(result -> result.getEstado() == UserImportResult.Estado.CREADO
+                            && result.getId() == 1)
+                    .expectNextMatches(result -> result.getEstado() == UserImportResult.Estado.DUPLICADO
+                            && "ana@email.com".equals(result.getCorreoElectronico()))
+                    .verifyComplete();
+
+            verify(userRepository, never()).findByEmail(any());
+        }
+
+        @Test
+        @DisplayName("Should mark repeated emails inside the batch as duplicated")
+        void shouldMarkRepeatedEmailsInsideTheBatchAsDuplicated() {
+            // Arrange
+            List<User> batch = List.of(validUser, validUser.toBuilder().build());
+            when(userRepository.saveAllIfAbsent(batch))
+                    .thenReturn(Flux.just(existingUser));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.importUsers(batch))
+                    .expectNextMatches(result -> result.getEstado() == UserImportResult.Estado.CREADO)
+                    .expectNextMatches(result -> result.getEstado() == UserImportResult.Estado.DUPLICADO)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not call the repository for an empty batch")
+        void shouldNotCallTheRepositoryForAnEmptyBatch() {
+            StepVerifier.create(userUseCase.importUsers(List.of()))
+                    .verifyComplete();
+
+            verify(userRepository, never()).saveAllIfAbsent(any());
         }
     }
 
@@ -255,6 +468,20 @@ class UserUseCaseTest {
             verify(userRepository).findByEmail(email);
         }
 
+        @Test
+        @DisplayName("Should propagate repository errors")
+        void shouldPropagateRepositoryErrors() {
+            // Arrange
+            RuntimeException repositoryError = new RuntimeException("Database connection failed");
+            when(userRepository.findByEmail(validUser.getCorreoElectronico()))
+                    .thenReturn(Mono.error(repositoryError));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.findUserByEmail(validUser.getCorreoElectronico()))
+                    .expectErrorMatches(error -> error == repositoryError)
+                    .verify();
+        }
+
         @Test
         @DisplayName("Should throw exception when email is null")
         void shouldThrowExceptionWhenEmailIsNull() {
@@ -298,9 +525,7 @@ class UserUseCaseTest {
         void shouldPropagateRepositoryErrorsDuringSave() {
             // Arrange
             RuntimeException repositoryError = new RuntimeException("Database connection failed");
-            when(userRepository.findByEmail(validUser.getCorreoElectronico()))
-                    .thenReturn(Mono.empty());
-            when(userRepository.save(validUser))
+            when(userRepository.saveIfAbsent(validUser))
                     .thenReturn(Mono.error(repositoryError));
 
             // Act & Assert
@@ -308,25 +533,92 @@ class UserUseCaseTest {
                     .expectError(RuntimeException.class)
                     .verify();
 
-            verify(userRepository).findByEmail(validUser.getCorreoElectronico());
-            verify(userRepository).save(validUser);
+            verify(userRepository).saveIfAbsent(validUser);
         }
 
         @Test
-        @DisplayName("Should propagate repository errors during findByEmail")
-        void shouldPropagateRepositoryErrorsDuringFindByEmail() {
-            // Arrange
+        @DisplayName("Should propagate repository errors during the duplicate check")
+        void shouldPropagateRepositoryErrorsDuringTheDuplicateCheck() {
+            // Arrange: el chequeo de duplicado es el propio INSERT ... ON CONFLICT
             RuntimeException repositoryError = new RuntimeException("Database connection failed");
-            when(userRepository.findByEmail(validUser.getCorreoElectronico()))
+            when(userRepository.saveIfAbsent(validUser))
                     .thenReturn(Mono.error(repositoryError));
 
-            // Act & Assert
+            // Act & Assert: el error no se confunde con un usuario existente
             StepVerifier.create(userUseCase.saveUser(validUser))
-                    .expectError(RuntimeException.class)
+                    .expectErrorMatches(error -> error == repositoryError)
                     .verify();
 
-            verify(userRepository).findByEmail(validUser.getCorreoElectronico());
+            verify(userRepository).saveIfAbsent(validUser);
+            verify(userRepository, never()).findByEmail(any());
             verify(userRepository, never()).save(any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Lookup Users Tests")
+    class LookupUsersTests {
+
+        @Test
+        @DisplayName("Should answer in request order with not-found markers and duplicates")
+        void shouldKeepRequestOrder() {
+            // Arrange
+            User ana = existingUser.toBuilder().id(2).correoElectronico("ana@email.com").build();
+            when(userRepository.findAllByEmails(List.of("ana@email.com", "nadie@email.com", "juan@email.com")))
+                    .thenReturn(Flux.just(existingUser, ana));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.lookupByEmails(
+                            List.of("ana@email.com", "nadie@email.com", "juan@email.com", "ana@email.com"), 10))
+                    .expectNextMatches(r -> r.getEstado() == UserLookupResult.Estado.ENCONTRADO
+                            && r.getUsuario().getId() == 2)
+                    .expectNextMatches(r -> r.getEstado() == UserLookupResult.Estado.NO_ENCONTRADO
+                            && "nadie@email.com".equals(r.getClave()))
+                    .expectNextMatches(r -> r.getUsuario() == existingUser)
+                    .expectNextMatches(r -> r.getUsuario() == ana)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should issue one query per chunk")
+        void shouldQueryOncePerChunk() {
+            // Arrange
+            when(userRepository.findAllByIds(anyList())).thenReturn(Flux.empty());
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.lookupByIds(List.of(1, 2, 3, 4, 5), 2))
+                    .expectNextCount(5)
+                    .verifyComplete();
+            verify(userRepository).findAllByIds(List.of(1, 2));
+            verify(userRepository).findAllByIds(List.of(3, 4));
+            verify(userRepository).findAllByIds(List.of(5));
+        }
+
+        @Test
+        @DisplayName("Should mark invalid keys as not found without querying them")
+        void shouldNotQueryInvalidKeys() {
+            // Arrange
+            List<String> emails = new ArrayList<>(List.of(" ", "juan@email.com"));
+            emails.add(null);
+            when(userRepository.findAllByEmails(List.of("juan@email.com"))).thenReturn(Flux.just(existingUser));
+
+            // Act & Assert
+            StepVerifier.create(userUseCase.lookupByEmails(emails, 10))
+                    .expectNextMatches(r -> r.getEstado() == UserLookupResult.Estado.NO_ENCONTRADO)
+                    .expectNextMatches(r -> r.getEstado() == UserLookupResult.Estado.ENCONTRADO)
+                    .expectNextMatches(r -> r.getEstado() == UserLookupResult.Estado.NO_ENCONTRADO
+                            && r.getClave() == null)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject an empty lookup")
+        void shouldRejectEmptyLookup() {
+            // Act & Assert
+            StepVerifier.create(userUseCase.lookupByEmails(List.of(), 10))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+            verify(userRepository, never()).findAllByEmails(anyList());
+        }
+    }
+}
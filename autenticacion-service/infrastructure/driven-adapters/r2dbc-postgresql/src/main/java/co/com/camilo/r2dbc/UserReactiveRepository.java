@@ -2,7 +2,10 @@ package co.com.camilo.r2dbc;
 
 import co.com.camilo.r2dbc.entity.UserEntity;
 
+import java.time.LocalDate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
@@ -11,4 +14,22 @@ public interface UserReactiveRepository extends ReactiveCrudRepository<UserEntit
 
     Mono<UserEntity> findByCorreoElectronico(String email);
 
+    @Query("SELECT coalesce(max(id), 0) FROM usuarios")
+    Mono<Integer> findMaxId();
+
+    // Paginación por llave sobre la llave primaria: cada página es un recorrido acotado del índice
+    @Query("SELECT * FROM usuarios WHERE id > $1 ORDER BY id LIMIT $2")
+    Flux<UserEntity> findPageAfter(int afterId, int limit);
+
+    // Requiere el índice único de deployment/db/001_usuarios_correo_electronico_unique.sql
+    @Query("""
+            INSERT INTO usuarios (nombre, apellido, correo_electronico, fecha_nacimiento, direccion, telefono, salario_base)
+            VALUES ($1, $2, $3, $4, $5, $6, $7)
+            ON CONFLICT (correo_electronico) DO NOTHING
+            RETURNING *
+            """)
+    Mono<UserEntity> insertIfAbsent(String nombre, String apellido, String correoElectronico,
+                                    LocalDate fechaNacimiento, String direccion, String telefono,
+                                    int salarioBase);
+
 }
@@ -1,12 +1,29 @@
 package co.com.camilo.r2dbc;
 
 import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserSearchCriteria;
 import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.r2dbc.config.BulkLoadProperties;
 import co.com.camilo.r2dbc.entity.UserEntity;
 import co.com.camilo.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.camilo.r2dbc.loader.UserCopyLoader;
+import co.com.camilo.r2dbc.mapper.UserEntityMapper;
+import co.com.camilo.r2dbc.metrics.QueryMetrics;
+import co.com.camilo.r2dbc.routing.ReadOnlyRouting;
+import co.com.camilo.r2dbc.search.UserSearchQuery;
+import io.r2dbc.spi.Readable;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
 
 @Repository
 public class UserRepositoryAdapter extends ReactiveAdapterOperations<
@@ -16,20 +33,84 @@ public class UserRepositoryAdapter extends ReactiveAdapterOperations<
         UserReactiveRepository
         > implements UserRepository {
 
-    public UserRepositoryAdapter(UserReactiveRepository repository, ObjectMapper mapper) {
-        /**
-         *  Could be use mapper.mapBuilder if your domain model implement builder pattern
-         *  super(repository, mapper, d -> mapper.mapBuilder(d,ObjectModel.ObjectModelBuilder.class).build());
-         *  Or using mapper.map with the class of the object model
-         */
-        super(repository, mapper, entity -> mapper.map(entity, User.class));
+    // Una sola sentencia para cualquier tamaño de lote (un arreglo por columna), así el driver la prepara
+    // una vez por conexión y no desplaza de la caché de sentencias a las consultas frecuentes
+    static final String INSERT_BATCH_SQL = """
+            INSERT INTO usuarios (nombre, apellido, correo_electronico, fecha_nacimiento, direccion, telefono, salario_base)
+            SELECT * FROM unnest($1::varchar[], $2::varchar[], $3::varchar[], $4::date[], $5::varchar[], $6::varchar[], $7::int[])
+            ON CONFLICT (correo_electronico) DO NOTHING
+            RETURNING *
+            """;
+    // Acota el tamaño de los arreglos enviados en una sola sentencia. No limita el tamaño de lote de la API
+    // (usuarios.importacion.tamano-lote): en modo INSERT cada lote recibido se parte en sentencias de a lo
+    // sumo este número de filas; en modo COPY se envía completo
+    public static final int MAX_ROWS_PER_INSERT = 5_000;
+
+    // Umbral de los operadores <% de pg_trgm. Con is_local = true vale solo hasta el fin de la transacción
+    // de la búsqueda: la conexión vuelve al pool con el umbral por defecto
+    private static final String SET_WORD_SIMILARITY_THRESHOLD =
+            "SELECT set_config('pg_trgm.word_similarity_threshold', $1, true)";
+    // Las expresiones coinciden con los índices GIN de deployment/db/003_usuarios_trigramas.sql
+    private static final String FUZZY_SEARCH_SQL = """
+            SELECT u.*, greatest(
+                       word_similarity($1, lower(coalesce(u.nombre, '') || ' ' || coalesce(u.apellido, ''))),
+                       word_similarity($1, lower(coalesce(u.direccion, ''))))::float8 AS puntaje
+            FROM usuarios u
+            WHERE $1 <% lower(coalesce(u.nombre, '') || ' ' || coalesce(u.apellido, ''))
+               OR $1 <% lower(coalesce(u.direccion, ''))
+            ORDER BY puntaje DESC, u.id
+            LIMIT $2
+            """;
+
+    // Un solo parámetro de tipo arreglo: la sentencia es la misma para cualquier cantidad de claves,
+    // así el driver la prepara una vez por conexión y la búsqueda usa el índice único de correo o la llave
+    private static final String FIND_ALL_BY_EMAILS_SQL = "SELECT * FROM usuarios WHERE correo_electronico = ANY($1)";
+    private static final String FIND_ALL_BY_IDS_SQL = "SELECT * FROM usuarios WHERE id = ANY($1)";
+
+    private static final String FIND_EMAILS_AFTER_SQL = "SELECT id, correo_electronico FROM usuarios WHERE id > $1";
+
+    private final DatabaseClient databaseClient;
+    private final UserCopyLoader copyLoader;
+    private final BulkLoadProperties.Mode bulkLoadMode;
+    private final QueryMetrics queryMetrics;
+
+    public UserRepositoryAdapter(UserReactiveRepository repository, UserEntityMapper entityMapper,
+                                 DatabaseClient databaseClient, UserCopyLoader copyLoader,
+                                 BulkLoadProperties bulkLoadProperties, QueryMetrics queryMetrics) {
+        super(repository, entityMapper::toData, entityMapper::toEntity);
+        this.databaseClient = databaseClient;
+        this.copyLoader = copyLoader;
+        this.bulkLoadMode = bulkLoadProperties.mode();
+        this.queryMetrics = queryMetrics;
     }
 
     @Override
     public Mono<User> save(User user) {
-        return super.save(user);
+        return super.save(user)
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new IllegalStateException("El usuario ya existe.", e));
+    }
+
+    @Override
+    public Mono<User> saveIfAbsent(User user) {
+        return Mono.fromCallable(() -> toData(user))
+                .flatMap(entity -> repository.insertIfAbsent(
+                        entity.getNombre(),
+                        entity.getApellido(),
+                        entity.getCorreoElectronico(),
+                        entity.getFechaNacimiento(),
+                        entity.getDireccion(),
+                        entity.getTelefono(),
+                        entity.getSalarioBase()))
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<User> saveAllIfAbsent(List<User> users) {
+        return saveAllEntities(Flux.fromIterable(users));
     }
 
+    // Va al primario: lo usan el registro y la caché, que necesitan ver el usuario recién creado
     @Override
     public Mono<User> findByEmail(String email) {
         if (email.trim().isEmpty()) {
@@ -37,7 +118,155 @@ public class UserRepositoryAdapter extends ReactiveAdapterOperations<
         }
 
         return repository.findByCorreoElectronico(email)
-                .map(entity -> mapper.map(entity, User.class));
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<User> findPageAfter(int afterId, int limit) {
+        return ReadOnlyRouting.readOnly(repository.findPageAfter(afterId, limit))
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<User> search(UserSearchCriteria criteria) {
+        return queryMetrics.timed("UserRepositoryAdapter.search",
+                        ReadOnlyRouting.readOnly(UserSearchQuery.bind(databaseClient, criteria)
+                                .map(UserRepositoryAdapter::readEntity)
+                                .all()))
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<UserMatch> fuzzySearch(String text, double threshold, int limit) {
+        String term = text.toLowerCase(Locale.ROOT);
+        // Umbral y búsqueda en una misma transacción; si se cancela o falla se revierte igual
+        Flux<UserMatch> matches = databaseClient.inConnectionMany(connection -> Flux.usingWhen(
+                Mono.from(connection.beginTransaction()).thenReturn(connection),
+                transaction -> Flux.from(transaction.createStatement(SET_WORD_SIMILARITY_THRESHOLD)
+                                .bind(0, Double.toString(threshold))
+                                .execute())
+                        .concatMap(result -> result.map(row -> Boolean.TRUE))
+                        .thenMany(Flux.defer(() -> Flux.from(transaction.createStatement(FUZZY_SEARCH_SQL)
+                                .bind(0, term)
+                                .bind(1, limit)
+                                .execute())))
+                        .concatMap(result -> result.map(row -> new UserMatch(
+                                toEntity(readEntity(row)),
+                                row.get("puntaje", Double.class)))),
+                transaction -> transaction.commitTransaction(),
+                (transaction, error) -> transaction.rollbackTransaction(),
+                transaction -> transaction.rollbackTransaction()));
+        return queryMetrics.timed("UserRepositoryAdapter.fuzzySearch", ReadOnlyRouting.readOnly(matches));
+    }
+
+    // Consultas masivas de procesos por lotes: van a la réplica, con el retraso acotado por read-routing.max-lag
+    @Override
+    public Flux<User> findAllByEmails(List<String> emails) {
+        if (emails.isEmpty()) {
+            return Flux.empty();
+        }
+        return queryMetrics.timed("UserRepositoryAdapter.findAllByEmails",
+                        ReadOnlyRouting.readOnly(databaseClient.sql(FIND_ALL_BY_EMAILS_SQL)
+                                .bind(0, emails.toArray(String[]::new))
+                                .map(UserRepositoryAdapter::readEntity)
+                                .all()))
+                .map(this::toEntity);
+    }
+
+    @Override
+    public Flux<User> findAllByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return queryMetrics.timed("UserRepositoryAdapter.findAllByIds",
+                        ReadOnlyRouting.readOnly(databaseClient.sql(FIND_ALL_BY_IDS_SQL)
+                                .bind(0, ids.toArray(Integer[]::new))
+                                .map(UserRepositoryAdapter::readEntity)
+                                .all()))
+                .map(this::toEntity);
+    }
+
+    public Mono<Long> count() {
+        return ReadOnlyRouting.readOnly(repository.count());
+    }
+
+    // Las dos siguientes van siempre al primario: un correo ausente por retraso de la réplica sería un
+    // falso negativo del filtro
+    public Mono<Integer> findMaxId() {
+        return repository.findMaxId();
+    }
+
+    /** Id y correo de los usuarios con id mayor a {@code afterId}, sin orden; con 0 recorre toda la tabla. */
+    public Flux<Tuple2<Integer, String>> findEmailsAfter(int afterId) {
+        return databaseClient.sql(FIND_EMAILS_AFTER_SQL)
+                .bind(0, afterId)
+                .map(row -> Tuples.of(row.get("id", Integer.class), row.get("correo_electronico", String.class)))
+                .all();
+    }
+
+    /**
+     * Inserta el lote con INSERT ... SELECT FROM unnest (hasta {@link #MAX_ROWS_PER_INSERT} filas por sentencia) o,
+     * en modo {@code COPY}, con {@link UserCopyLoader}. Las filas cuyo correo ya existe se omiten,
+     * por lo que solo se emiten las insertadas.
+     */
+    @Override
+    protected Flux<UserEntity> saveData(Flux<UserEntity> data) {
+        if (bulkLoadMode == BulkLoadProperties.Mode.COPY) {
+            return data.collectList()
+                    .flatMapMany(batch -> queryMetrics.timed("UserCopyLoader.load",
+                            copyLoader.load(batch, UserRepositoryAdapter::readEntity)));
+        }
+        return data.buffer(MAX_ROWS_PER_INSERT)
+                .concatMap(this::insertBatch);
+    }
+
+    private Flux<UserEntity> insertBatch(List<UserEntity> batch) {
+        if (batch.isEmpty()) {
+            return Flux.empty();
+        }
+
+        int size = batch.size();
+        String[] nombres = new String[size];
+        String[] apellidos = new String[size];
+        String[] correos = new String[size];
+        LocalDate[] fechasNacimiento = new LocalDate[size];
+        String[] direcciones = new String[size];
+        String[] telefonos = new String[size];
+        Integer[] salarios = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            UserEntity entity = batch.get(i);
+            nombres[i] = entity.getNombre();
+            apellidos[i] = entity.getApellido();
+            correos[i] = entity.getCorreoElectronico();
+            fechasNacimiento[i] = entity.getFechaNacimiento();
+            direcciones[i] = entity.getDireccion();
+            telefonos[i] = entity.getTelefono();
+            salarios[i] = entity.getSalarioBase();
+        }
+
+        return queryMetrics.timed("UserRepositoryAdapter.insertBatch", databaseClient.sql(INSERT_BATCH_SQL)
+                .bind(0, nombres)
+                .bind(1, apellidos)
+                .bind(2, correos)
+                .bind(3, fechasNacimiento)
+                .bind(4, direcciones)
+                .bind(5, telefonos)
+                .bind(6, salarios)
+                .map(UserRepositoryAdapter::readEntity)
+                .all());
+    }
+
+    static UserEntity readEntity(Readable row) {
+        return UserEntity.builder()
+                .id(row.get("id", Integer.class))
+                .nombre(row.get("nombre", String.class))
+                .apellido(row.get("apellido", String.class))
+                .correoElectronico(row.get("correo_electronico", String.class))
+                .fechaNacimiento(row.get("fecha_nacimiento", LocalDate.class))
+                .direccion(row.get("direccion", String.class))
+                .telefono(row.get("telefono", String.class))
+                .salarioBase(row.get("salario_base", Integer.class))
+                .build();
     }
 
 }
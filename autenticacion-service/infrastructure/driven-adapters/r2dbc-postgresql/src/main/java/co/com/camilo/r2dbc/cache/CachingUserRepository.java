@@ -0,0 +1,174 @@
+package co.com.camilo.r2dbc.cache;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserSearchCriteria;
+import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.r2dbc.config.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorador de {@link UserRepository} que cachea {@code findByEmail}, incluidos los correos no
+ * registrados (con una vida más corta). Las entradas viejas se recargan en segundo plano en la
+ * primera lectura después de {@code refreshAfterWrite}, sin bloquear a quien consulta. Toda
+ * escritura invalida los correos involucrados.
+ */
+public class CachingUserRepository implements UserRepository {
+
+    public static final String CACHE_NAME = "usuarios.por.correo";
+
+    // Estimación en bytes de los objetos que acompañan a cada entrada (nodo, Optional, User, LocalDate)
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int USER_OVERHEAD = 96;
+
+    private final UserRepository delegate;
+    private final AsyncLoadingCache<String, Optional<User>> cache;
+
+    public CachingUserRepository(UserRepository delegate, UserCacheProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    CachingUserRepository(UserRepository delegate, UserCacheProperties properties,
+                          MeterRegistry meterRegistry, Ticker ticker) {
+        this.delegate = delegate;
+
+        Caffeine<String, Optional<User>> builder = Caffeine.newBuilder()
+                .ticker(ticker)
+                .recordStats()
+                .expireAfter(new PresenceExpiry(properties))
+                .refreshAfterWrite(properties.refreshAfterWrite());
+        if (properties.weighted()) {
+            builder.maximumWeight(properties.maximumWeight())
+                    .weigher(CachingUserRepository::weigh);
+        } else {
+            builder.maximumSize(properties.maximumSize());
+        }
+
+        this.cache = builder.buildAsync((email, executor) -> load(email));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return delegate.findByEmail(email);
+        }
+        // El futuro es compartido entre suscriptores concurrentes; cancelar uno no debe cancelar la carga
+        return Mono.fromFuture(() -> cache.get(email), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user)
+                .doFinally(signal -> invalidate(user));
+    }
+
+    @Override
+    public Mono<User> saveIfAbsent(User user) {
+        return delegate.saveIfAbsent(user)
+                .doFinally(signal -> invalidate(user));
+    }
+
+    @Override
+    public Flux<User> saveAllIfAbsent(List<User> users) {
+        return delegate.saveAllIfAbsent(users)
+                .doFinally(signal -> users.forEach(this::invalidate));
+    }
+
+    @Override
+    public Flux<User> findPageAfter(int afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Flux<User> search(UserSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+
+    @Override
+    public Flux<UserMatch> fuzzySearch(String text, double threshold, int limit) {
+        return delegate.fuzzySearch(text, threshold, limit);
+    }
+
+    // Las consultas masivas no pasan por la caché: resolverlas ya cuesta una sola consulta por bloque
+    @Override
+    public Flux<User> findAllByEmails(List<String> emails) {
+        return delegate.findAllByEmails(emails);
+    }
+
+    @Override
+    public Flux<User> findAllByIds(List<Integer> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    private CompletableFuture<Optional<User>> load(String email) {
+        return delegate.findByEmail(email)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    private void invalidate(User user) {
+        if (user != null && user.getCorreoElectronico() != null) {
+            cache.synchronous().invalidate(user.getCorreoElectronico());
+        }
+    }
+
+    static int weigh(String email, Optional<User> value) {
+        int weight = ENTRY_OVERHEAD + chars(email);
+        if (value.isPresent()) {
+            User user = value.get();
+            weight += USER_OVERHEAD
+                    + chars(user.getNombre())
+                    + chars(user.getApellido())
+                    + chars(user.getCorreoElectronico())
+                    + chars(user.getDireccion())
+                    + chars(user.getTelefono());
+        }
+        return weight;
+    }
+
+    private static int chars(String value) {
+        return value == null ? 0 : value.length() * 2;
+    }
+
+    /** Vida distinta para usuarios encontrados y para correos no registrados. */
+    private static final class PresenceExpiry implements Expiry<String, Optional<User>> {
+
+        private final long presentNanos;
+        private final long absentNanos;
+
+        private PresenceExpiry(UserCacheProperties properties) {
+            this.presentNanos = properties.expireAfterWrite().toNanos();
+            this.absentNanos = properties.negativeExpireAfterWrite().toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String email, Optional<User> value, long currentTime) {
+            return value.isPresent() ? presentNanos : absentNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String email, Optional<User> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(email, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String email, Optional<User> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package co.com.camilo.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.bulk-load")
+public record BulkLoadProperties(Mode mode) {
+
+    public enum Mode {
+        /** INSERT ... SELECT FROM unnest (un arreglo por columna) con ON CONFLICT DO NOTHING. */
+        INSERT,
+        /** COPY FROM STDIN a una tabla temporal y merge hacia usuarios. */
+        COPY
+    }
+
+    public BulkLoadProperties {
+        mode = mode == null ? Mode.INSERT : mode;
+    }
+}
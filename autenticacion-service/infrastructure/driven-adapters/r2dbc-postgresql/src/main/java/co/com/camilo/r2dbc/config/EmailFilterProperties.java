@@ -0,0 +1,40 @@
+package co.com.camilo.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Filtro de existencia de correos delante de {@code UserRepository.findByEmail}.
+ *
+ * @param enabled                activa el filtro
+ * @param falsePositiveRate      tasa objetivo de falsos positivos (consultas que igual llegan a la base)
+ * @param growthFactor           holgura sobre el conteo de usuarios al dimensionar el filtro
+ * @param minExpectedInsertions  capacidad mínima del filtro, aunque la tabla esté casi vacía
+ * @param refreshInterval        cada cuánto se agregan al filtro los usuarios insertados por otros pods o
+ *                               fuera de la aplicación
+ * @param maxStaleness           edad máxima de la última sincronización exitosa para responder "no existe"
+ *                               sin consultar la base; pasada esa edad se consulta siempre
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.email-filter")
+public record EmailFilterProperties(
+        Boolean enabled,
+        Double falsePositiveRate,
+        Double growthFactor,
+        Long minExpectedInsertions,
+        Duration refreshInterval,
+        Duration maxStaleness) {
+
+    public EmailFilterProperties {
+        enabled = enabled == null || enabled;
+        falsePositiveRate = falsePositiveRate == null ? 0.01 : falsePositiveRate;
+        growthFactor = growthFactor == null ? 2.0 : Math.max(growthFactor, 1.0);
+        minExpectedInsertions = minExpectedInsertions == null ? 100_000L : minExpectedInsertions;
+        refreshInterval = refreshInterval == null ? Duration.ofSeconds(1) : refreshInterval;
+        maxStaleness = maxStaleness == null ? refreshInterval.multipliedBy(5) : maxStaleness;
+    }
+
+    public long expectedInsertions(long currentRows) {
+        return Math.max((long) Math.ceil(currentRows * growthFactor), minExpectedInsertions);
+    }
+}
@@ -1,24 +1,85 @@
 package co.com.camilo.r2dbc.config;
 
+import co.com.camilo.r2dbc.metrics.StatementMetricsListener;
+import co.com.camilo.r2dbc.pool.AdaptiveAllocationStrategy;
+import co.com.camilo.r2dbc.pool.MeteredConnectionPool;
+import co.com.camilo.r2dbc.pool.MicrometerPoolMetricsRecorder;
+import co.com.camilo.r2dbc.routing.ReadOnlyRouting;
+import co.com.camilo.r2dbc.routing.ReadWriteRoutingConnectionFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
+/**
+ * Pool R2DBC configurado desde {@code adapters.r2dbc.pool}. Se publican los tiempos de asignación y de
+ * adquisición de cada pool. Las métricas de ocupación ({@code r2dbc.pool.acquired}, {@code idle},
+ * {@code pending}, ...) las publica Spring Boot Actuator solo para los {@link ConnectionPool} expuestos
+ * como bean; con réplicas el único bean es el enrutador, así que aquí se registran para el primario y
+ * para cada réplica.
+ */
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
+    /* Valores por defecto cuando adapters.r2dbc.pool no los define */
     public static final int INITIAL_SIZE = 12;
     public static final int MAX_SIZE = 15;
     public static final int MAX_IDLE_TIME = 30;
+    public static final int ACQUIRE_RETRY = 1;
+    public static final String VALIDATION_QUERY = "SELECT 1";
     public static final int DEFAULT_PORT = 5432;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
+    public static final int STATEMENT_CACHE_SIZE = 256;
 
+    /**
+     * Sin réplicas configuradas expone directamente el pool del primario. Con réplicas, un
+     * {@link ReadWriteRoutingConnectionFactory} envía al primario todo lo que no esté marcado con
+     * {@link ReadOnlyRouting} y reparte las lecturas marcadas entre las réplicas sanas.
+     */
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	public ConnectionFactory getConnectionConfig(PostgresqlConnectionProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        ConnectionPool writer = createConnectionPool(properties, registry);
+        if (properties.replicas() == null || properties.replicas().isEmpty()) {
+            return writer;
+        }
+
+        bindOccupancyGauges(writer, POOL_NAME, registry);
+        Map<String, ConnectionFactory> readers = new LinkedHashMap<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            String name = POOL_NAME + "-replica-" + (i + 1);
+            ConnectionPool reader = createConnectionPool(properties.replicas().get(i).withDefaults(properties), name, registry);
+            bindOccupancyGauges(reader, name, registry);
+            readers.put(name, reader);
+        }
+
+        ReadWriteRoutingConnectionFactory routing =
+                new ReadWriteRoutingConnectionFactory(writer, readers, properties.readRouting(), registry);
+        routing.start();
+        return routing;
+	}
+
+    public static ConnectionPool createConnectionPool(PostgresqlConnectionProperties properties,
+                                                      MeterRegistry meterRegistry) {
+        return createConnectionPool(properties, POOL_NAME, meterRegistry);
+    }
+
+    public static ConnectionPool createConnectionPool(PostgresqlConnectionProperties properties, String name,
+                                                      MeterRegistry meterRegistry) {
+        PostgresqlConnectionProperties.Statements statements = properties.statements();
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -26,17 +87,81 @@ public class PostgreSQLConnectionPool {
                 .schema(properties.schema())
                 .username(properties.username())
                 .password(properties.password())
+                .preparedStatementCacheQueries(statements.cacheSize())
                 .build();
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
+        ConnectionFactory connectionFactory = new PostgresqlConnectionFactory(dbConfiguration);
+        if (statements.metricsEnabled()) {
+            // El proxy queda debajo del pool: mide cada sentencia en el driver, no la espera de conexión
+            connectionFactory = ProxyConnectionFactory.builder(connectionFactory)
+                    .listener(new StatementMetricsListener(name, meterRegistry, statements.maxFingerprints(),
+                            statements.latencySlos()))
+                    .build();
+        }
 
-		return new ConnectionPool(poolConfiguration);
+        PostgresqlConnectionProperties.Pool pool = properties.pool();
+        ConnectionPoolConfiguration.Builder poolConfiguration = ConnectionPoolConfiguration.builder()
+                .connectionFactory(connectionFactory)
+                .name(name)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .acquireRetry(pool.acquireRetry())
+                .validationDepth(pool.validationDepth())
+                .metricsRecorder(new MicrometerPoolMetricsRecorder(name, meterRegistry));
+
+        if (pool.maxLifeTime() != null) {
+            poolConfiguration.maxLifeTime(pool.maxLifeTime());
+        }
+        if (pool.maxAcquireTime() != null) {
+            poolConfiguration.maxAcquireTime(pool.maxAcquireTime());
+        }
+        if (pool.backgroundEvictionInterval() != null) {
+            poolConfiguration.backgroundEvictionInterval(pool.backgroundEvictionInterval());
+        }
+        if (!pool.validationQuery().isBlank()) {
+            poolConfiguration.validationQuery(pool.validationQuery());
+        }
+
+        AdaptiveAllocationStrategy allocationStrategy = null;
+        if (pool.adaptive().enabled()) {
+            PostgresqlConnectionProperties.Adaptive adaptive = pool.adaptive();
+            int minSize = adaptive.minSize() == null ? pool.initialSize() : Math.min(adaptive.minSize(), pool.maxSize());
+            allocationStrategy = new AdaptiveAllocationStrategy(minSize, Math.max(minSize, pool.initialSize()),
+                    pool.maxSize(), adaptive.targetAcquireLatency(), adaptive.adjustInterval());
+            AdaptiveAllocationStrategy strategy = allocationStrategy;
+            poolConfiguration.customizer(builder -> builder.allocationStrategy(strategy));
+        }
+
+		return new MeteredConnectionPool(poolConfiguration.build(), name, meterRegistry, allocationStrategy);
 	}
-}
\ No newline at end of file
+
+    /**
+     * Mismos medidores y etiqueta {@code name} que publica Actuator para un pool expuesto como bean.
+     */
+    static void bindOccupancyGauges(ConnectionPool pool, String name, MeterRegistry registry) {
+        pool.getMetrics().ifPresent(metrics -> {
+            occupancyGauge("r2dbc.pool.acquired", "Conexiones adquiridas en uso",
+                    metrics, PoolMetrics::acquiredSize, name, registry);
+            occupancyGauge("r2dbc.pool.allocated", "Conexiones abiertas, en uso u ociosas",
+                    metrics, PoolMetrics::allocatedSize, name, registry);
+            occupancyGauge("r2dbc.pool.idle", "Conexiones ociosas",
+                    metrics, PoolMetrics::idleSize, name, registry);
+            occupancyGauge("r2dbc.pool.pending", "Solicitudes esperando una conexión",
+                    metrics, PoolMetrics::pendingAcquireSize, name, registry);
+            occupancyGauge("r2dbc.pool.max.allocated", "Máximo de conexiones que puede abrir el pool",
+                    metrics, PoolMetrics::getMaxAllocatedSize, name, registry);
+            occupancyGauge("r2dbc.pool.max.pending", "Máximo de solicitudes que pueden esperar una conexión",
+                    metrics, PoolMetrics::getMaxPendingAcquireSize, name, registry);
+        });
+    }
+
+    private static void occupancyGauge(String meter, String description, PoolMetrics metrics,
+                                       ToDoubleFunction<PoolMetrics> value, String name, MeterRegistry registry) {
+        Gauge.builder(meter, metrics, value)
+                .description(description)
+                .tag("name", name)
+                .baseUnit("connections")
+                .register(registry);
+    }
+}
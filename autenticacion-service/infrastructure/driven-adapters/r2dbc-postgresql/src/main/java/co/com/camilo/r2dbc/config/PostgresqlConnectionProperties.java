@@ -1,8 +1,13 @@
 package co.com.camilo.r2dbc.config;
 
 // TODO: Load properties from the application.yaml file or from secrets manager
+import co.com.camilo.r2dbc.metrics.StatementMetricsListener;
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.List;
+
 @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
         String host,
@@ -10,5 +15,151 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        Pool pool,
+        List<Replica> replicas,
+        ReadRouting readRouting,
+        Statements statements) {
+
+    public PostgresqlConnectionProperties {
+        pool = pool == null ? new Pool(null, null, null, null, null, null, null, null, null, null) : pool;
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+        readRouting = readRouting == null ? new ReadRouting(null, null, null) : readRouting;
+        statements = statements == null ? new Statements(null, null, null, null) : statements;
+    }
+
+    public PostgresqlConnectionProperties(String host, Integer port, String database, String schema,
+                                          String username, String password) {
+        this(host, port, database, schema, username, password, null, null, null, null);
+    }
+
+    /**
+     * Réplica de solo lectura. Lo que no se define (puerto, base, credenciales, pool) se toma del primario.
+     */
+    public record Replica(
+            String host,
+            Integer port,
+            String database,
+            String username,
+            String password,
+            Pool pool) {
+
+        public PostgresqlConnectionProperties withDefaults(PostgresqlConnectionProperties primary) {
+            return new PostgresqlConnectionProperties(
+                    host,
+                    port == null ? primary.port() : port,
+                    database == null ? primary.database() : database,
+                    primary.schema(),
+                    username == null ? primary.username() : username,
+                    password == null ? primary.password() : password,
+                    pool == null ? primary.pool() : pool,
+                    null,
+                    null,
+                    primary.statements());
+        }
+    }
+
+    /**
+     * Enrutamiento de las lecturas marcadas hacia las réplicas.
+     *
+     * @param maxLag              retraso máximo de replicación; por encima la réplica deja de recibir lecturas
+     * @param healthCheckInterval cada cuánto se consulta el estado y el retraso de cada réplica
+     * @param healthCheckTimeout  tiempo máximo de la consulta de estado; si se supera la réplica queda fuera
+     */
+    public record ReadRouting(
+            Duration maxLag,
+            Duration healthCheckInterval,
+            Duration healthCheckTimeout) {
+
+        public ReadRouting {
+            maxLag = maxLag == null ? Duration.ofSeconds(5) : maxLag;
+            healthCheckInterval = healthCheckInterval == null ? Duration.ofSeconds(5) : healthCheckInterval;
+            healthCheckTimeout = healthCheckTimeout == null ? Duration.ofSeconds(2) : healthCheckTimeout;
+        }
+    }
+
+    /**
+     * Sentencias preparadas del driver y sus métricas. El driver solo prepara (Parse) las sentencias con
+     * parámetros; con la caché, cada conexión las prepara una vez y en las siguientes ejecuciones solo
+     * envía Bind/Execute.
+     *
+     * @param cacheSize       sentencias preparadas por conexión: {@code -1} sin límite, {@code 0} sin caché
+     *                        (se preparan en cada ejecución), {@code N} las N más usadas (LRU)
+     * @param metricsEnabled  publica {@code r2dbc.statement.execution} y {@code r2dbc.statement.rows} por sentencia
+     * @param maxFingerprints sentencias distintas con métricas propias; las siguientes se agrupan como "otras"
+     * @param latencySlos     límites de los buckets de latencia de {@code r2dbc.statement.execution}
+     */
+    public record Statements(
+            Integer cacheSize,
+            Boolean metricsEnabled,
+            Integer maxFingerprints,
+            List<Duration> latencySlos) {
+
+        public Statements {
+            cacheSize = cacheSize == null ? PostgreSQLConnectionPool.STATEMENT_CACHE_SIZE : Math.max(cacheSize, -1);
+            metricsEnabled = metricsEnabled == null || metricsEnabled;
+            maxFingerprints = maxFingerprints == null ? 200 : Math.max(maxFingerprints, 1);
+            latencySlos = latencySlos == null || latencySlos.isEmpty()
+                    ? StatementMetricsListener.DEFAULT_LATENCY_SLOS : List.copyOf(latencySlos);
+        }
+    }
+
+    /**
+     * Pool de conexiones (r2dbc-pool). Los valores ausentes toman los de {@link PostgreSQLConnectionPool}.
+     *
+     * @param initialSize                conexiones abiertas al iniciar
+     * @param maxSize                    máximo de conexiones del pool
+     * @param maxIdleTime                tiempo máximo ociosa antes de cerrarse
+     * @param maxLifeTime                vida máxima de una conexión; sin valor no se recicla por edad
+     * @param maxAcquireTime             espera máxima para obtener una conexión; sin valor espera indefinidamente
+     * @param acquireRetry               reintentos cuando falla la creación de una conexión
+     * @param backgroundEvictionInterval intervalo del desalojo en segundo plano; sin valor solo se desaloja al adquirir
+     * @param validationQuery            consulta de validación; vacía para validar con {@code validationDepth}
+     * @param validationDepth            validación {@code LOCAL} o {@code REMOTE} cuando no hay consulta
+     * @param adaptive                   ajuste del tamaño según la latencia de adquisición
+     */
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration maxAcquireTime,
+            Integer acquireRetry,
+            Duration backgroundEvictionInterval,
+            String validationQuery,
+            ValidationDepth validationDepth,
+            Adaptive adaptive) {
+
+        public Pool {
+            initialSize = initialSize == null ? PostgreSQLConnectionPool.INITIAL_SIZE : Math.max(initialSize, 0);
+            maxSize = maxSize == null ? PostgreSQLConnectionPool.MAX_SIZE : Math.max(maxSize, Math.max(initialSize, 1));
+            maxIdleTime = maxIdleTime == null ? Duration.ofMinutes(PostgreSQLConnectionPool.MAX_IDLE_TIME) : maxIdleTime;
+            acquireRetry = acquireRetry == null ? PostgreSQLConnectionPool.ACQUIRE_RETRY : Math.max(acquireRetry, 0);
+            validationQuery = validationQuery == null ? PostgreSQLConnectionPool.VALIDATION_QUERY : validationQuery;
+            validationDepth = validationDepth == null ? ValidationDepth.LOCAL : validationDepth;
+            adaptive = adaptive == null ? new Adaptive(null, null, null, null) : adaptive;
+        }
+    }
+
+    /**
+     * Modo adaptativo: el límite de conexiones crece mientras la latencia promedio de adquisición supera
+     * el objetivo y decrece cuando queda muy por debajo, siempre entre {@code minSize} y {@code maxSize}.
+     *
+     * @param enabled               activa el modo adaptativo
+     * @param minSize               límite inferior; por defecto {@code initialSize}
+     * @param targetAcquireLatency  latencia de adquisición objetivo
+     * @param adjustInterval        tiempo mínimo entre dos ajustes del límite
+     */
+    public record Adaptive(
+            Boolean enabled,
+            Integer minSize,
+            Duration targetAcquireLatency,
+            Duration adjustInterval) {
+
+        public Adaptive {
+            enabled = enabled != null && enabled;
+            targetAcquireLatency = targetAcquireLatency == null ? Duration.ofMillis(20) : targetAcquireLatency;
+            adjustInterval = adjustInterval == null ? Duration.ofSeconds(10) : adjustInterval;
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package co.com.camilo.r2dbc.config;
+
+import co.com.camilo.r2dbc.metrics.QueryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registra {@link QueryMetrics} y envuelve los repositorios Spring Data del proyecto para medir cada
+ * consulta.
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+    private static final String PROJECT_PACKAGE = "co.com.camilo";
+
+    @Bean
+    public QueryMetrics queryMetrics(QueryMetricsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new QueryMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), properties.enabled());
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                for (Class<?> type : ClassUtils.getAllInterfacesForClass(bean.getClass())) {
+                    if (Repository.class.isAssignableFrom(type) && type.getPackageName().startsWith(PROJECT_PACKAGE)) {
+                        return queryMetrics.getObject().instrument(bean, (Class) type);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
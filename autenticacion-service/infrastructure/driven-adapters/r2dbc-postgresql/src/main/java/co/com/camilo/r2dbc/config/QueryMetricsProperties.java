@@ -0,0 +1,16 @@
+package co.com.camilo.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Timers por consulta ({@code usuarios.db.consulta}) de los repositorios R2DBC y del adaptador.
+ *
+ * @param enabled activa la medición; desactivada los repositorios no se envuelven
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.metrics")
+public record QueryMetricsProperties(Boolean enabled) {
+
+    public QueryMetricsProperties {
+        enabled = enabled == null || enabled;
+    }
+}
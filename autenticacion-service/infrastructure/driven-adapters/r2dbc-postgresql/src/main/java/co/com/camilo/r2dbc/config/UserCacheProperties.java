@@ -0,0 +1,54 @@
+package co.com.camilo.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Caché de usuarios por correo delante de {@code UserRepository.findByEmail}.
+ *
+ * @param enabled                  activa la caché
+ * @param maximumSize              máximo de correos en caché; se ignora si se define {@code maximumWeight}
+ * @param maximumWeight            peso máximo aproximado en bytes; 0 para acotar solo por cantidad
+ * @param expireAfterWrite         vida de un usuario encontrado
+ * @param refreshAfterWrite        edad a partir de la cual una lectura recarga la entrada en segundo plano
+ * @param negativeExpireAfterWrite vida de un correo no registrado. Solo se invalida en el pod que registra,
+ *                                 así que los demás pueden responder "no existe" hasta este tiempo después de
+ *                                 un registro; se acota a {@code email-filter.max-staleness}
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.user-cache")
+public record UserCacheProperties(
+        Boolean enabled,
+        Long maximumSize,
+        Long maximumWeight,
+        Duration expireAfterWrite,
+        Duration refreshAfterWrite,
+        Duration negativeExpireAfterWrite) {
+
+    public UserCacheProperties {
+        enabled = enabled == null || enabled;
+        maximumSize = maximumSize == null ? 100_000L : Math.max(maximumSize, 1L);
+        maximumWeight = maximumWeight == null ? 0L : Math.max(maximumWeight, 0L);
+        expireAfterWrite = expireAfterWrite == null ? Duration.ofMinutes(10) : expireAfterWrite;
+        refreshAfterWrite = refreshAfterWrite == null
+                ? expireAfterWrite.dividedBy(2)
+                : min(refreshAfterWrite, expireAfterWrite);
+        negativeExpireAfterWrite = negativeExpireAfterWrite == null
+                ? Duration.ofSeconds(5)
+                : min(negativeExpireAfterWrite, expireAfterWrite);
+    }
+
+    /** Copia con la vida de los correos no registrados acotada a {@code maxNegativeExpireAfterWrite}. */
+    public UserCacheProperties withNegativeExpireAfterWriteAtMost(Duration maxNegativeExpireAfterWrite) {
+        return new UserCacheProperties(enabled, maximumSize, maximumWeight, expireAfterWrite, refreshAfterWrite,
+                min(negativeExpireAfterWrite, maxNegativeExpireAfterWrite));
+    }
+
+    public boolean weighted() {
+        return maximumWeight > 0;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.camilo.r2dbc.config;
+
+import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.r2dbc.UserRepositoryAdapter;
+import co.com.camilo.r2dbc.cache.CachingUserRepository;
+import co.com.camilo.r2dbc.filter.BloomFilteredUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Gateway {@link UserRepository} expuesto a los casos de uso: el adaptador R2DBC envuelto por
+ * los decoradores habilitados (caché por correo, luego filtro de Bloom, luego la base).
+ */
+@Configuration
+public class UserRepositoryConfig {
+
+    // Bean propio para que reciba el ApplicationReadyEvent que arranca su sincronización periódica
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.email-filter", name = "enabled", matchIfMissing = true)
+    public BloomFilteredUserRepository bloomFilteredUserRepository(UserRepositoryAdapter adapter,
+                                                                   EmailFilterProperties emailFilterProperties,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BloomFilteredUserRepository(adapter, emailFilterProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @Primary
+    public UserRepository userRepository(UserRepositoryAdapter adapter,
+                                         ObjectProvider<BloomFilteredUserRepository> bloomFiltered,
+                                         UserCacheProperties userCacheProperties,
+                                         EmailFilterProperties emailFilterProperties,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        UserRepository repository = bloomFiltered.getIfAvailable(() -> adapter);
+        if (!userCacheProperties.enabled()) {
+            return repository;
+        }
+        // Un "no existe" cacheado no debe durar más que el que tolera el filtro: otros pods no invalidan esta caché
+        return new CachingUserRepository(repository,
+                userCacheProperties.withNegativeExpireAfterWriteAtMost(emailFilterProperties.maxStaleness()),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,249 @@
+package co.com.camilo.r2dbc.filter;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserSearchCriteria;
+import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.r2dbc.UserRepositoryAdapter;
+import co.com.camilo.r2dbc.config.EmailFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de {@link UserRepository} que responde {@code findByEmail} sin ir a la base cuando el
+ * {@link EmailBloomFilter} asegura que el correo no existe.
+ * <p>
+ * Cada {@code refresh-interval} el filtro agrega los usuarios con id mayor a una marca, así conoce también
+ * los insertados por otros pods, por COPY o por fuera de la aplicación. Cada lectura arranca en la marca
+ * de la sincronización anterior a la última: una fila cuyo id se asignó antes de una lectura pero que se
+ * confirmó después entra en la siguiente, siempre que su transacción dure menos de un intervalo. Un
+ * "no existe" solo se responde si la última sincronización exitosa empezó hace menos de
+ * {@code max-staleness}; si no, y hasta la primera carga, se consulta la base. Un usuario creado en otro
+ * pod puede verse ausente en este hasta dos intervalos. Si el filtro supera su capacidad se reconstruye.
+ */
+@Slf4j
+public class BloomFilteredUserRepository implements UserRepository {
+
+    private final UserRepositoryAdapter delegate;
+    private final EmailFilterProperties properties;
+    private final long maxStalenessNanos;
+    private final Counter skippedLookups;
+    private final Counter delegatedLookups;
+
+    private volatile EmailBloomFilter filter;
+    private volatile LongAdder insertions = new LongAdder();
+    // nanoTime del inicio de la última sincronización exitosa
+    private volatile long syncedAt;
+
+    // Solo los modifica la sincronización, que nunca corre dos veces a la vez
+    private long capacity;
+    private int since;
+    private int upTo = -1;
+
+    private Disposable schedule;
+
+    public BloomFilteredUserRepository(UserRepositoryAdapter delegate, EmailFilterProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.maxStalenessNanos = properties.maxStaleness().toNanos();
+        this.skippedLookups = Counter.builder("usuarios.email.filter.lookups")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.delegatedLookups = Counter.builder("usuarios.email.filter.lookups")
+                .tag("result", "delegated")
+                .register(meterRegistry);
+
+        Gauge.builder("usuarios.email.filter.fill.ratio", this, BloomFilteredUserRepository::fillRatio)
+                .description("Proporción de bits en uno del filtro de correos")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.email.filter.hit.ratio", this, BloomFilteredUserRepository::hitRatio)
+                .description("Proporción de búsquedas por correo resueltas sin consultar la base")
+                .register(meterRegistry);
+        Gauge.builder("usuarios.email.filter.sync.age", this, BloomFilteredUserRepository::syncAgeSeconds)
+                .description("Segundos desde el inicio de la última sincronización exitosa del filtro")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (schedule == null) {
+            schedule = Flux.interval(Duration.ZERO, properties.refreshInterval())
+                    .onBackpressureDrop()
+                    .concatMap(tick -> sync().onErrorResume(error -> {
+                        log.warn("No se pudo sincronizar el filtro de correos; se consultará la base: {}",
+                                error.toString());
+                        return Mono.empty();
+                    }), 1)
+                    .subscribe();
+        }
+    }
+
+    public synchronized void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+            schedule = null;
+        }
+    }
+
+    /**
+     * Un paso de sincronización. El primero solo toma la marca inicial, para que la carga completa del
+     * segundo deje cubiertas las filas que estaban en curso; luego se leen las filas nuevas o, si el
+     * filtro superó su capacidad, se reconstruye con el conteo actual.
+     */
+    public Mono<Void> sync() {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            if (upTo < 0) {
+                return delegate.findMaxId().doOnNext(max -> upTo = max).then();
+            }
+            EmailBloomFilter current = filter;
+            if (current == null || insertions.sum() > capacity) {
+                return rebuild(startedAt);
+            }
+            return load(current, since, insertions)
+                    .doOnNext(max -> advance(max, startedAt))
+                    .then();
+        });
+    }
+
+    private Mono<Void> rebuild(long startedAt) {
+        return delegate.count()
+                .flatMap(rows -> {
+                    long expected = properties.expectedInsertions(rows);
+                    EmailBloomFilter created = EmailBloomFilter.create(expected, properties.falsePositiveRate());
+                    LongAdder loaded = new LongAdder();
+                    return load(created, 0, loaded).doOnNext(max -> {
+                        filter = created;
+                        insertions = loaded;
+                        capacity = expected;
+                        advance(max, startedAt);
+                        log.info("Filtro de correos cargado con {} correos ({} bits, {} hashes)",
+                                loaded.sum(), created.bitSize(), created.hashFunctions());
+                    });
+                })
+                .then();
+    }
+
+    // Devuelve el mayor id leído; solo cuenta los correos que el filtro aún no reconocía
+    private Mono<Integer> load(EmailBloomFilter target, int afterId, LongAdder counter) {
+        return delegate.findEmailsAfter(afterId)
+                .reduce(afterId, (max, row) -> {
+                    put(target, counter, row.getT2());
+                    return Math.max(max, row.getT1());
+                });
+    }
+
+    private void advance(int maxId, long startedAt) {
+        since = upTo;
+        upTo = Math.max(upTo, maxId);
+        syncedAt = startedAt;
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        EmailBloomFilter current = filter;
+        if (email != null && trustsNegatives(current) && !current.mightContain(email)) {
+            skippedLookups.increment();
+            return Mono.empty();
+        }
+        delegatedLookups.increment();
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user).doOnNext(this::remember);
+    }
+
+    @Override
+    public Mono<User> saveIfAbsent(User user) {
+        return delegate.saveIfAbsent(user).doOnNext(this::remember);
+    }
+
+    @Override
+    public Flux<User> saveAllIfAbsent(List<User> users) {
+        return delegate.saveAllIfAbsent(users).doOnNext(this::remember);
+    }
+
+    @Override
+    public Flux<User> findPageAfter(int afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Flux<User> search(UserSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+
+    @Override
+    public Flux<UserMatch> fuzzySearch(String text, double threshold, int limit) {
+        return delegate.fuzzySearch(text, threshold, limit);
+    }
+
+    /** Solo consulta los correos que el filtro no descarta; si los descarta todos, no va a la base. */
+    @Override
+    public Flux<User> findAllByEmails(List<String> emails) {
+        EmailBloomFilter current = filter;
+        if (!trustsNegatives(current)) {
+            return delegate.findAllByEmails(emails);
+        }
+        List<String> candidates = emails.stream()
+                .filter(email -> email != null && current.mightContain(email))
+                .toList();
+        skippedLookups.increment(emails.size() - candidates.size());
+        delegatedLookups.increment(candidates.size());
+        return candidates.isEmpty() ? Flux.empty() : delegate.findAllByEmails(candidates);
+    }
+
+    @Override
+    public Flux<User> findAllByIds(List<Integer> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    private boolean trustsNegatives(EmailBloomFilter current) {
+        return current != null && System.nanoTime() - syncedAt < maxStalenessNanos;
+    }
+
+    // Lo registrado por este pod se reconoce de inmediato, sin esperar la siguiente sincronización
+    private void remember(User user) {
+        EmailBloomFilter current = filter;
+        if (current != null && user.getCorreoElectronico() != null) {
+            put(current, insertions, user.getCorreoElectronico());
+        }
+    }
+
+    private static void put(EmailBloomFilter target, LongAdder counter, String email) {
+        if (email != null && !target.mightContain(email)) {
+            target.put(email);
+            counter.increment();
+        }
+    }
+
+    private double fillRatio() {
+        EmailBloomFilter current = filter;
+        return current != null ? current.fillRatio() : 0.0;
+    }
+
+    private double hitRatio() {
+        double skipped = skippedLookups.count();
+        double total = skipped + delegatedLookups.count();
+        return total == 0 ? 0.0 : skipped / total;
+    }
+
+    private double syncAgeSeconds() {
+        return filter != null ? (System.nanoTime() - syncedAt) / 1e9 : Double.NaN;
+    }
+}
@@ -0,0 +1,105 @@
+package co.com.camilo.r2dbc.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom concurrente y sin bloqueos para correos electrónicos.
+ * <p>
+ * Se dimensiona con el número esperado de correos {@code n} y la tasa objetivo de falsos positivos
+ * {@code p}: {@code m = -n ln(p) / ln(2)^2} bits y {@code k = (m / n) ln(2)} funciones hash. Mientras
+ * no se superen los {@code n} correos, {@link #mightContain(String)} responde {@code true} para un
+ * correo ausente con probabilidad cercana a {@code p}, y nunca responde {@code false} para uno
+ * agregado. Los correos no se pueden retirar.
+ */
+public class EmailBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder bitsSet = new LongAdder();
+
+    private EmailBloomFilter(long bitSize, int hashFunctions) {
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.words = new AtomicLongArray((int) (bitSize >>> 6));
+    }
+
+    public static EmailBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("La cantidad esperada de correos debe ser positiva");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("La tasa de falsos positivos debe estar entre 0 y 1");
+        }
+
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        // Múltiplo de 64 y dentro de lo que admite un AtomicLongArray
+        long words = Math.min(Math.max((bits + 63) >>> 6, 1), Integer.MAX_VALUE - 8);
+        int hashes = (int) Math.max(1, Math.round((double) (words << 6) / expectedInsertions * ln2));
+        return new EmailBloomFilter(words << 6, hashes);
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        long increment = mix(hash) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash + i * increment, bitSize);
+            long mask = 1L << bit;
+            long previous = words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+            if ((previous & mask) == 0) {
+                bitsSet.increment();
+            }
+        }
+    }
+
+    public boolean mightContain(String email) {
+        long hash = hash(email);
+        long increment = mix(hash) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash + i * increment, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Proporción de bits en uno; con {@code k} óptimo se acerca a 0.5 al llegar a la capacidad. */
+    public double fillRatio() {
+        return (double) bitsSet.sum() / bitSize;
+    }
+
+    /** Tasa de falsos positivos estimada con la ocupación actual: {@code fillRatio^k}. */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashFunctions);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    // FNV-1a de 64 bits sobre los caracteres, seguido del finalizador de MurmurHash3
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
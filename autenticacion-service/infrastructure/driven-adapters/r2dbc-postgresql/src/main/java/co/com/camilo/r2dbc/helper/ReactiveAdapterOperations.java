@@ -1,5 +1,6 @@
 package co.com.camilo.r2dbc.helper;
 
+import co.com.camilo.r2dbc.routing.ReadOnlyRouting;
 import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.data.domain.Example;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
@@ -14,19 +15,34 @@ public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudR
     protected R repository;
     protected ObjectMapper mapper;
     private final Class<D> dataClass;
+    private final Function<E, D> toDataFn;
     private final Function<D, E> toEntityFn;
 
-    @SuppressWarnings("unchecked")
     protected ReactiveAdapterOperations(R repository, ObjectMapper mapper, Function<D, E> toEntityFn) {
+        this(repository, mapper, null, toEntityFn);
+    }
+
+    /**
+     * Usa funciones de mapeo explícitas (por ejemplo un mapper generado en compilación) en ambos
+     * sentidos, sin pasar por el mapeo reflexivo de {@link ObjectMapper}.
+     */
+    protected ReactiveAdapterOperations(R repository, Function<E, D> toDataFn, Function<D, E> toEntityFn) {
+        this(repository, null, toDataFn, toEntityFn);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReactiveAdapterOperations(R repository, ObjectMapper mapper, Function<E, D> toDataFn,
+                                      Function<D, E> toEntityFn) {
         this.repository = repository;
         this.mapper = mapper;
         ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
         this.dataClass = (Class<D>) genericSuperclass.getActualTypeArguments()[1];
+        this.toDataFn = toDataFn;
         this.toEntityFn = toEntityFn;
     }
 
     protected D toData(E entity) {
-        return mapper.map(entity, dataClass);
+        return toDataFn != null ? toDataFn.apply(entity) : mapper.map(entity, dataClass);
     }
 
     protected E toEntity(D data) {
@@ -52,16 +68,16 @@ public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudR
     }
 
     public Mono<E> findById(I id) {
-        return repository.findById(id).map(this::toEntity);
+        return ReadOnlyRouting.readOnly(repository.findById(id)).map(this::toEntity);
     }
 
     public Flux<E> findByExample(E entity) {
-        return repository.findAll(Example.of(toData(entity)))
+        return ReadOnlyRouting.readOnly(repository.findAll(Example.of(toData(entity))))
                 .map(this::toEntity);
     }
 
     public Flux<E> findAll() {
-        return repository.findAll()
+        return ReadOnlyRouting.readOnly(repository.findAll())
                 .map(this::toEntity);
     }
 }
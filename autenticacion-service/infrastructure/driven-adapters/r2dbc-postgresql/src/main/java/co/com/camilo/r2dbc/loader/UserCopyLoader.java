@@ -0,0 +1,138 @@
+package co.com.camilo.r2dbc.loader;
+
+import co.com.camilo.r2dbc.entity.UserEntity;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Carga masiva de usuarios con {@code COPY FROM STDIN}: las filas se copian en CSV a una tabla
+ * temporal de la sesión y un único INSERT ... SELECT las mueve a usuarios, omitiendo correos
+ * repetidos o ya registrados. Emite solo las filas insertadas, igual que el INSERT por arreglos.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCopyLoader {
+
+    static final int ROWS_PER_CHUNK = 1_000;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS usuarios_staging (
+                fila bigint NOT NULL,
+                nombre text,
+                apellido text,
+                correo_electronico text,
+                fecha_nacimiento date,
+                direccion text,
+                telefono text,
+                salario_base integer
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY usuarios_staging (fila, nombre, apellido, correo_electronico, fecha_nacimiento, direccion, telefono, salario_base)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String MERGE_STAGING = """
+            INSERT INTO usuarios (nombre, apellido, correo_electronico, fecha_nacimiento, direccion, telefono, salario_base)
+            SELECT DISTINCT ON (correo_electronico)
+                   nombre, apellido, correo_electronico, fecha_nacimiento, direccion, telefono, salario_base
+            FROM usuarios_staging
+            ORDER BY correo_electronico, fila
+            ON CONFLICT (correo_electronico) DO NOTHING
+            RETURNING *
+            """;
+
+    private final ConnectionFactory connectionFactory;
+
+    public Flux<UserEntity> load(List<UserEntity> batch, Function<Readable, UserEntity> rowMapper) {
+        if (batch.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Flux.usingWhen(
+                connectionFactory.create(),
+                connection -> copyAndMerge(unwrap(connection), batch, rowMapper),
+                Connection::close);
+    }
+
+    private Flux<UserEntity> copyAndMerge(PostgresqlConnection connection, List<UserEntity> batch,
+                                          Function<Readable, UserEntity> rowMapper) {
+        return connection.beginTransaction()
+                .thenMany(connection.createStatement(CREATE_STAGING).execute())
+                .flatMap(result -> result.getRowsUpdated())
+                .then(connection.copyIn(COPY_STAGING, encode(batch)))
+                .thenMany(connection.createStatement(MERGE_STAGING).execute())
+                .flatMap(result -> result.map(rowMapper))
+                .collectList()
+                .flatMapMany(inserted -> connection.commitTransaction().thenMany(Flux.fromIterable(inserted)))
+                .onErrorResume(e -> connection.rollbackTransaction().then(Mono.error(e)));
+    }
+
+    static Flux<ByteBuf> encode(List<UserEntity> batch) {
+        return Flux.range(0, (batch.size() + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK)
+                .map(chunk -> {
+                    int from = chunk * ROWS_PER_CHUNK;
+                    int to = Math.min(from + ROWS_PER_CHUNK, batch.size());
+                    StringBuilder csv = new StringBuilder((to - from) * 128);
+                    for (int row = from; row < to; row++) {
+                        appendRow(csv, row, batch.get(row));
+                    }
+                    return Unpooled.wrappedBuffer(csv.toString().getBytes(StandardCharsets.UTF_8));
+                });
+    }
+
+    static void appendRow(StringBuilder csv, long fila, UserEntity entity) {
+        csv.append(fila).append(',');
+        appendText(csv, entity.getNombre()).append(',');
+        appendText(csv, entity.getApellido()).append(',');
+        appendText(csv, entity.getCorreoElectronico()).append(',');
+        if (entity.getFechaNacimiento() != null) {
+            csv.append(entity.getFechaNacimiento());
+        }
+        csv.append(',');
+        appendText(csv, entity.getDireccion()).append(',');
+        appendText(csv, entity.getTelefono()).append(',');
+        csv.append(entity.getSalarioBase()).append('\n');
+    }
+
+    // En CSV un campo vacío sin comillas es NULL; los textos siempre van entre comillas
+    private static StringBuilder appendText(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    static PostgresqlConnection unwrap(Connection connection) {
+        Object candidate = connection;
+        while (!(candidate instanceof PostgresqlConnection) && candidate instanceof Wrapped<?> wrapped) {
+            candidate = wrapped.unwrap();
+        }
+        if (candidate instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+        throw new IllegalStateException("La carga por COPY requiere una conexión de r2dbc-postgresql");
+    }
+}
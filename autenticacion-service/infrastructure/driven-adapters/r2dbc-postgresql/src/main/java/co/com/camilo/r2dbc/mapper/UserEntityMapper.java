@@ -0,0 +1,19 @@
+package co.com.camilo.r2dbc.mapper;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.r2dbc.entity.UserEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapeo {@link User} &lt;-&gt; {@link UserEntity} generado en compilación por MapStruct. Los nombres de
+ * propiedad coinciden en ambos lados; los renombres de columna de {@code @Column} solo afectan a la
+ * tabla, igual que con el mapeo reflexivo anterior.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface UserEntityMapper {
+
+    UserEntity toData(User user);
+
+    User toEntity(UserEntity entity);
+}
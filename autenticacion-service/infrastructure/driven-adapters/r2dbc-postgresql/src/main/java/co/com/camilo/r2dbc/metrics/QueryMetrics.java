@@ -0,0 +1,117 @@
+package co.com.camilo.r2dbc.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Timers {@code usuarios.db.consulta} por consulta, etiquetados con {@code consulta} y {@code outcome}
+ * (ok/error). Cada medición va desde la suscripción hasta que la consulta completa o falla, así que en las
+ * consultas {@link Flux} incluye leer todas las filas.
+ */
+public class QueryMetrics {
+
+    public static final String TIMER_NAME = "usuarios.db.consulta";
+
+    private static final int OK = 0;
+    private static final int ERROR = 1;
+
+    private static final QueryMetrics DISABLED = new QueryMetrics(null, false);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    // Por consulta: [ok, error]
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+    private final Function<String, Timer[]> register = this::register;
+
+    public QueryMetrics(MeterRegistry meterRegistry, boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    public static QueryMetrics disabled() {
+        return DISABLED;
+    }
+
+    public <T> Mono<T> timed(String query, Mono<T> source) {
+        if (!enabled) {
+            return source;
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> record(query, OK, start))
+                    .doOnError(error -> record(query, ERROR, start));
+        });
+    }
+
+    public <T> Flux<T> timed(String query, Flux<T> source) {
+        if (!enabled) {
+            return source;
+        }
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return source
+                    .doOnComplete(() -> record(query, OK, start))
+                    .doOnError(error -> record(query, ERROR, start));
+        });
+    }
+
+    /**
+     * Envuelve un repositorio para medir cada método que devuelve {@link Mono} o {@link Flux}, etiquetado
+     * como {@code Interfaz.metodo}. El resto de métodos se delega sin cambios.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R instrument(R repository, Class<R> repositoryType) {
+        if (!enabled) {
+            return repository;
+        }
+        String prefix = repositoryType.getSimpleName() + ".";
+        Map<Method, String> queries = new ConcurrentHashMap<>();
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Object result = invoke(repository, method, args);
+                    if (result instanceof Mono<?> mono) {
+                        return timed(queries.computeIfAbsent(method, m -> prefix + m.getName()), mono);
+                    }
+                    if (result instanceof Flux<?> flux) {
+                        return timed(queries.computeIfAbsent(method, m -> prefix + m.getName()), flux);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void record(String query, int outcome, long start) {
+        timers.computeIfAbsent(query, register)[outcome].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(String query) {
+        return new Timer[]{ timer(query, "ok"), timer(query, "error") };
+    }
+
+    private Timer timer(String query, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Duración de las consultas a PostgreSQL")
+                .tag("consulta", query)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
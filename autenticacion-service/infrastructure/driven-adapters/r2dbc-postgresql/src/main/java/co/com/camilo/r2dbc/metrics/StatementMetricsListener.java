@@ -0,0 +1,146 @@
+package co.com.camilo.r2dbc.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas por sentencia SQL ejecutada en el driver, agrupadas por {@link StatementFingerprint}:
+ * <ul>
+ *     <li>{@code r2dbc.statement.execution}: timer por ejecución (conteo y latencia en los buckets de
+ *     {@code latencySlos}), desde el envío hasta consumir el resultado, etiquetado con {@code outcome} ok/error</li>
+ *     <li>{@code r2dbc.statement.rows}: filas leídas por ejecución, en buckets fijos</li>
+ * </ul>
+ * Las sentencias se etiquetan solo con {@code fingerprint} (id corto); el texto normalizado de cada id se
+ * registra una vez en el log al crear sus métricas. Pasado {@code maxFingerprints} las nuevas se agrupan en
+ * {@link #OVERFLOW} para acotar la cardinalidad.
+ */
+@Slf4j
+public class StatementMetricsListener implements ProxyExecutionListener {
+
+    public static final String EXECUTION_TIMER = "r2dbc.statement.execution";
+    public static final String ROWS_SUMMARY = "r2dbc.statement.rows";
+    public static final List<Duration> DEFAULT_LATENCY_SLOS = List.of(
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofMillis(2500));
+    private static final double[] ROWS_SLOS = {0, 1, 10, 100, 1_000, 10_000};
+    static final String OVERFLOW = "otras";
+    // Presupuesto en caracteres del texto crudo cacheado; una sentencia más larga que MAX_CACHED_SQL_LENGTH
+    // no se cachea para que unas pocas no lo agoten
+    static final int MAX_CACHED_SQL_CHARS = 256 * 1024;
+    static final int MAX_CACHED_SQL_LENGTH = 4 * 1024;
+
+    private final String pool;
+    private final MeterRegistry meterRegistry;
+    private final int maxFingerprints;
+    private final Duration[] latencySlos;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedChars = new AtomicInteger();
+
+    public StatementMetricsListener(String pool, MeterRegistry meterRegistry, int maxFingerprints) {
+        this(pool, meterRegistry, maxFingerprints, DEFAULT_LATENCY_SLOS);
+    }
+
+    public StatementMetricsListener(String pool, MeterRegistry meterRegistry, int maxFingerprints,
+                                    List<Duration> latencySlos) {
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.maxFingerprints = maxFingerprints;
+        this.latencySlos = latencySlos.toArray(Duration[]::new);
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execInfo) {
+        Meters statement = meters(sql(execInfo));
+        (execInfo.isSuccess() ? statement.ok : statement.error).record(execInfo.getExecuteDuration());
+        if (execInfo.isSuccess()) {
+            statement.rows.record(execInfo.getCurrentResultCount());
+        }
+    }
+
+    private static String sql(QueryExecutionInfo execInfo) {
+        if (execInfo.getQueries().size() == 1) {
+            return execInfo.getQueries().get(0).getQuery();
+        }
+        return execInfo.getQueries().stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+
+    private Meters meters(String sql) {
+        // El texto crudo se cachea para no normalizar en cada ejecución; se acota en entradas y en caracteres
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = StatementFingerprint.of(sql);
+            cache(sql, fingerprint);
+        }
+        Meters existing = meters.get(fingerprint);
+        if (existing != null) {
+            return existing;
+        }
+        if (meters.size() >= maxFingerprints) {
+            return meters.computeIfAbsent(OVERFLOW, key -> new Meters(OVERFLOW));
+        }
+        return meters.computeIfAbsent(fingerprint, key -> {
+            String id = StatementFingerprint.id(key);
+            log.info("Métricas de sentencia en el pool {}: fingerprint={} sql={}", pool, id, key);
+            return new Meters(id);
+        });
+    }
+
+    private void cache(String sql, String fingerprint) {
+        if (sql.length() > MAX_CACHED_SQL_LENGTH || fingerprints.size() >= maxFingerprints * 4) {
+            return;
+        }
+        if (cachedChars.addAndGet(sql.length()) > MAX_CACHED_SQL_CHARS) {
+            cachedChars.addAndGet(-sql.length());
+            return;
+        }
+        if (fingerprints.putIfAbsent(sql, fingerprint) != null) {
+            cachedChars.addAndGet(-sql.length());
+        }
+    }
+
+    int cachedStatements() {
+        return fingerprints.size();
+    }
+
+    private final class Meters {
+        private final Timer ok;
+        private final Timer error;
+        private final DistributionSummary rows;
+
+        private Meters(String id) {
+            this.ok = timer(id, "ok");
+            this.error = timer(id, "error");
+            this.rows = DistributionSummary.builder(ROWS_SUMMARY)
+                    .description("Filas devueltas por ejecución de la sentencia")
+                    .baseUnit("rows")
+                    .tag("pool", pool)
+                    .tag("fingerprint", id)
+                    .serviceLevelObjectives(ROWS_SLOS)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String id, String outcome) {
+            return Timer.builder(EXECUTION_TIMER)
+                    .description("Duración de cada ejecución de la sentencia en el driver")
+                    .tag("pool", pool)
+                    .tag("fingerprint", id)
+                    .tag("outcome", outcome)
+                    .serviceLevelObjectives(latencySlos)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package co.com.camilo.r2dbc.pool;
+
+import reactor.pool.AllocationStrategy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link AllocationStrategy} con un límite de conexiones que se ajusta según la latencia de adquisición:
+ * crece un cuarto (al menos una conexión) mientras el promedio supera el objetivo y baja de a una cuando
+ * queda por debajo de la cuarta parte, a lo sumo una vez por intervalo. Al bajar el límite no se cierran
+ * conexiones; el pool deja de abrir nuevas y las sobrantes salen por inactividad o por vida máxima.
+ */
+public class AdaptiveAllocationStrategy implements AllocationStrategy {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double SHRINK_RATIO = 0.25;
+
+    private final int minimum;
+    private final int maximum;
+    private final long targetNanos;
+    private final long adjustIntervalNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger granted = new AtomicInteger();
+    private final AtomicLong lastAdjustment;
+
+    private volatile int limit;
+    private volatile double averageNanos;
+
+    public AdaptiveAllocationStrategy(int minimum, int initialLimit, int maximum,
+                                      Duration targetAcquireLatency, Duration adjustInterval) {
+        this(minimum, initialLimit, maximum, targetAcquireLatency, adjustInterval, System::nanoTime);
+    }
+
+    AdaptiveAllocationStrategy(int minimum, int initialLimit, int maximum, Duration targetAcquireLatency,
+                               Duration adjustInterval, LongSupplier clock) {
+        if (minimum < 0 || maximum < Math.max(minimum, 1)) {
+            throw new IllegalArgumentException("Rango de conexiones inválido: " + minimum + ".." + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.limit = Math.min(Math.max(initialLimit, Math.max(minimum, 1)), maximum);
+        this.targetNanos = targetAcquireLatency.toNanos();
+        this.adjustIntervalNanos = adjustInterval.toNanos();
+        this.clock = clock;
+        this.lastAdjustment = new AtomicLong(clock.getAsLong());
+    }
+
+    /** Registra la espera de una adquisición y, si pasó el intervalo, ajusta el límite. */
+    public void recordAcquireLatency(long nanos) {
+        double average = averageNanos + SMOOTHING * (nanos - averageNanos);
+        averageNanos = average;
+
+        long now = clock.getAsLong();
+        long last = lastAdjustment.get();
+        if (now - last < adjustIntervalNanos || !lastAdjustment.compareAndSet(last, now)) {
+            return;
+        }
+
+        int current = limit;
+        if (average > targetNanos && current < maximum) {
+            limit = Math.min(current + Math.max(current / 4, 1), maximum);
+        } else if (average < targetNanos * SHRINK_RATIO && current > Math.max(minimum, 1)) {
+            limit = current - 1;
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public int getPermits(int desired) {
+        if (desired < 0) {
+            return 0;
+        }
+        for (;;) {
+            int current = granted.get();
+            int available = Math.max(limit - current, 0);
+            int belowMinimum = Math.max(minimum - current, 0);
+            int permits = Math.min(Math.max(desired, belowMinimum), available);
+            if (permits == 0 || granted.compareAndSet(current, current + permits)) {
+                return permits;
+            }
+        }
+    }
+
+    @Override
+    public void returnPermits(int returned) {
+        granted.updateAndGet(current -> {
+            if (returned > current) {
+                throw new IllegalArgumentException("Se devolvieron más permisos de los otorgados");
+            }
+            return current - returned;
+        });
+    }
+
+    @Override
+    public int estimatePermitCount() {
+        return Math.max(limit - granted.get(), 0);
+    }
+
+    @Override
+    public int permitGranted() {
+        return granted.get();
+    }
+
+    @Override
+    public int permitMinimum() {
+        return minimum;
+    }
+
+    @Override
+    public int permitMaximum() {
+        return maximum;
+    }
+}
@@ -0,0 +1,75 @@
+package co.com.camilo.r2dbc.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.pool.PoolMetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica en Micrometer el tiempo de creación de conexiones del pool ({@code r2dbc.pool.allocation},
+ * con {@code outcome} success/failure) y el de cierre ({@code r2dbc.pool.destroy}).
+ */
+public class MicrometerPoolMetricsRecorder implements PoolMetricsRecorder {
+
+    private final Timer allocationSuccess;
+    private final Timer allocationFailure;
+    private final Timer destroy;
+
+    public MicrometerPoolMetricsRecorder(String poolName, MeterRegistry meterRegistry) {
+        this.allocationSuccess = allocationTimer(poolName, "success", meterRegistry);
+        this.allocationFailure = allocationTimer(poolName, "failure", meterRegistry);
+        this.destroy = Timer.builder("r2dbc.pool.destroy")
+                .description("Tiempo de cierre de una conexión del pool")
+                .tag("name", poolName)
+                .register(meterRegistry);
+    }
+
+    private static Timer allocationTimer(String poolName, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("r2dbc.pool.allocation")
+                .description("Tiempo de creación de una conexión del pool")
+                .tag("name", poolName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordAllocationSuccessAndLatency(long latencyMs) {
+        allocationSuccess.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationFailureAndLatency(long latencyMs) {
+        allocationFailure.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordDestroyLatency(long latencyMs) {
+        destroy.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    // El resto ya lo cubren los gauges de ocupación de Actuator
+    @Override
+    public void recordResetLatency(long latencyMs) {
+    }
+
+    @Override
+    public void recordRecycled() {
+    }
+
+    @Override
+    public void recordLifetimeDuration(long millisecondsSinceAllocation) {
+    }
+
+    @Override
+    public void recordIdleTime(long millisecondsIdle) {
+    }
+
+    @Override
+    public void recordSlowPath() {
+    }
+
+    @Override
+    public void recordFastPath() {
+    }
+}
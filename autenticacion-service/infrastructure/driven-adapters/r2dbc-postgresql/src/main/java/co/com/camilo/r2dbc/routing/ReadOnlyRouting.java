@@ -0,0 +1,33 @@
+package co.com.camilo.r2dbc.routing;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Marca una consulta como lectura que puede atenderse desde una réplica. La marca viaja en el
+ * contexto de Reactor y la lee {@link ReadWriteRoutingConnectionFactory} al pedir la conexión; sin
+ * réplicas configuradas no tiene efecto.
+ * <p>
+ * Solo deben marcarse lecturas que toleren el retraso de replicación permitido
+ * ({@code adapters.r2dbc.read-routing.max-lag}).
+ */
+public final class ReadOnlyRouting {
+
+    private static final String READ_ONLY_KEY = ReadOnlyRouting.class.getName() + ".READ_ONLY";
+
+    private ReadOnlyRouting() {
+    }
+
+    public static <T> Mono<T> readOnly(Mono<T> source) {
+        return source.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    public static <T> Flux<T> readOnly(Flux<T> source) {
+        return source.contextWrite(context -> context.put(READ_ONLY_KEY, Boolean.TRUE));
+    }
+
+    static boolean isReadOnly(ContextView context) {
+        return context.getOrDefault(READ_ONLY_KEY, Boolean.FALSE);
+    }
+}
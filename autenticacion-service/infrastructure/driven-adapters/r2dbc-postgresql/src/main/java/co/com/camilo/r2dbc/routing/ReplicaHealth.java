@@ -0,0 +1,118 @@
+package co.com.camilo.r2dbc.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Estado de una réplica: se consulta periódicamente si responde y cuánto retraso de replicación
+ * tiene. Arranca fuera de servicio hasta la primera verificación exitosa, para no leer datos viejos
+ * de una réplica que aún no se conoce.
+ */
+@Slf4j
+public class ReplicaHealth {
+
+    // Sin WAL pendiente de aplicar el retraso es 0, aunque el primario lleve tiempo sin escribir.
+    // En una instancia que no es réplica (pg_is_in_recovery() = false) también es 0.
+    static final String LAG_QUERY = """
+            SELECT COALESCE(CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END, 0)::float8 AS lag
+            """;
+
+    private final String name;
+    private final ConnectionFactory connectionFactory;
+    private final double maxLagSeconds;
+    private final Duration timeout;
+
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+    private Disposable schedule;
+
+    public ReplicaHealth(String name, ConnectionFactory connectionFactory, Duration maxLag, Duration timeout,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.connectionFactory = connectionFactory;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.timeout = timeout;
+
+        Gauge.builder("r2dbc.replica.healthy", this, replica -> replica.healthy ? 1 : 0)
+                .description("1 si la réplica recibe lecturas, 0 si está fuera de servicio")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("r2dbc.replica.lag", this, replica -> replica.lagSeconds)
+                .description("Retraso de replicación medido en la última verificación")
+                .baseUnit("seconds")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public synchronized void start(Duration interval) {
+        if (schedule == null) {
+            schedule = Flux.interval(Duration.ZERO, interval)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> check(), 1)
+                    .subscribe();
+        }
+    }
+
+    public synchronized void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+            schedule = null;
+        }
+    }
+
+    /** Consulta el retraso de la réplica y actualiza su estado; nunca termina en error. */
+    public Mono<Boolean> check() {
+        return Mono.usingWhen(connectionFactory.create(),
+                        connection -> Mono.from(connection.createStatement(LAG_QUERY).execute())
+                                .flatMap(result -> Mono.from(result.map(row -> row.get("lag", Double.class)))),
+                        Connection::close)
+                .timeout(timeout)
+                .map(lag -> {
+                    recordLag(lag);
+                    return healthy;
+                })
+                .onErrorResume(error -> {
+                    recordFailure(error);
+                    return Mono.just(false);
+                });
+    }
+
+    void recordLag(double lag) {
+        boolean wasHealthy = healthy;
+        lagSeconds = lag;
+        healthy = lag <= maxLagSeconds;
+        if (wasHealthy && !healthy) {
+            log.warn("Réplica {} fuera de servicio: retraso de {} s supera {} s", name, lag, maxLagSeconds);
+        } else if (!wasHealthy && healthy) {
+            log.info("Réplica {} en servicio con retraso de {} s", name, lag);
+        }
+    }
+
+    void recordFailure(Throwable error) {
+        if (healthy) {
+            log.warn("Réplica {} fuera de servicio: {}", name, error.toString());
+        }
+        healthy = false;
+        lagSeconds = Double.NaN;
+    }
+}
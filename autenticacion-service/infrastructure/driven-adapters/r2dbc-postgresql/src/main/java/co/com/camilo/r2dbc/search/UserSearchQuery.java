@@ -0,0 +1,156 @@
+package co.com.camilo.r2dbc.search;
+
+import co.com.camilo.model.user.UserSearchCriteria;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Genera la consulta parametrizada de la búsqueda de usuarios. Solo aparecen en el WHERE los criterios
+ * presentes, así cada combinación usa los índices de deployment/db/002_usuarios_busqueda_indices.sql.
+ * <p>
+ * Los ids se resuelven primero en una subconsulta que solo lee columnas indexadas (index-only scan
+ * cuando el mapa de visibilidad está al día) y luego se leen únicamente las filas de la página.
+ * El SQL depende solo de qué criterios vienen, no de sus valores, por lo que se arma una vez por
+ * combinación y el driver puede reutilizar la sentencia preparada. Por eso el prefijo de nombre se envía
+ * como rango ({@code ~>=~} / {@code ~<~}) y no como {@code LIKE 'prefijo%'}: PostgreSQL solo convierte un
+ * LIKE en rango de índice cuando el patrón es constante al planificar, y el plan genérico que adopta la
+ * sentencia preparada tras cinco ejecuciones dejaría de usar el índice.
+ */
+public final class UserSearchQuery {
+
+    private static final int SALARIO_MINIMO = 1;
+    private static final int SALARIO_MAXIMO = 1 << 1;
+    private static final int NACIDO_DESDE = 1 << 2;
+    private static final int NACIDO_HASTA = 1 << 3;
+    private static final int PREFIJO_NOMBRE = 1 << 4;
+    private static final int TELEFONO = 1 << 5;
+
+    private static final Map<Integer, String> SQL_BY_CRITERIA = new ConcurrentHashMap<>();
+
+    private UserSearchQuery() {
+    }
+
+    public static DatabaseClient.GenericExecuteSpec bind(DatabaseClient databaseClient, UserSearchCriteria criteria) {
+        int present = present(criteria);
+        List<Object> values = new ArrayList<>(8);
+
+        if ((present & SALARIO_MINIMO) != 0) {
+            values.add(criteria.getSalarioMinimo());
+        }
+        if ((present & SALARIO_MAXIMO) != 0) {
+            values.add(criteria.getSalarioMaximo());
+        }
+        if ((present & NACIDO_DESDE) != 0) {
+            values.add(criteria.getNacidoDesde());
+        }
+        if ((present & NACIDO_HASTA) != 0) {
+            values.add(criteria.getNacidoHasta());
+        }
+        if ((present & PREFIJO_NOMBRE) != 0) {
+            String prefix = normalizedPrefix(criteria.getPrefijoNombre());
+            values.add(prefix);
+            values.add(prefixUpperBound(prefix));
+        }
+        if ((present & TELEFONO) != 0) {
+            values.add(criteria.getTelefono().trim());
+        }
+        values.add(criteria.getDespues());
+        values.add(criteria.getLimite());
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql(present));
+        for (int index = 0; index < values.size(); index++) {
+            spec = spec.bind(index, values.get(index));
+        }
+        return spec;
+    }
+
+    static String sql(UserSearchCriteria criteria) {
+        return sql(present(criteria));
+    }
+
+    private static String sql(int present) {
+        return SQL_BY_CRITERIA.computeIfAbsent(present, UserSearchQuery::buildSql);
+    }
+
+    private static int present(UserSearchCriteria criteria) {
+        int present = 0;
+        if (criteria.getSalarioMinimo() != null) {
+            present |= SALARIO_MINIMO;
+        }
+        if (criteria.getSalarioMaximo() != null) {
+            present |= SALARIO_MAXIMO;
+        }
+        if (criteria.getNacidoDesde() != null) {
+            present |= NACIDO_DESDE;
+        }
+        if (criteria.getNacidoHasta() != null) {
+            present |= NACIDO_HASTA;
+        }
+        if (criteria.getPrefijoNombre() != null && !criteria.getPrefijoNombre().isBlank()) {
+            present |= PREFIJO_NOMBRE;
+        }
+        if (criteria.getTelefono() != null && !criteria.getTelefono().isBlank()) {
+            present |= TELEFONO;
+        }
+        return present;
+    }
+
+    private static String buildSql(int present) {
+        StringBuilder where = new StringBuilder(160);
+        int parameter = 0;
+
+        if ((present & SALARIO_MINIMO) != 0) {
+            where.append("salario_base >= $").append(++parameter).append(" AND ");
+        }
+        if ((present & SALARIO_MAXIMO) != 0) {
+            where.append("salario_base <= $").append(++parameter).append(" AND ");
+        }
+        if ((present & NACIDO_DESDE) != 0) {
+            where.append("fecha_nacimiento >= $").append(++parameter).append(" AND ");
+        }
+        if ((present & NACIDO_HASTA) != 0) {
+            where.append("fecha_nacimiento <= $").append(++parameter).append(" AND ");
+        }
+        if ((present & PREFIJO_NOMBRE) != 0) {
+            where.append("lower(nombre) ~>=~ $").append(++parameter)
+                    .append(" AND lower(nombre) ~<~ $").append(++parameter).append(" AND ");
+        }
+        if ((present & TELEFONO) != 0) {
+            where.append("telefono = $").append(++parameter).append(" AND ");
+        }
+        where.append("id > $").append(++parameter);
+
+        return "SELECT u.* FROM usuarios u JOIN ("
+                + "SELECT id FROM usuarios WHERE " + where
+                + " ORDER BY id LIMIT $" + (parameter + 1)
+                + ") pagina USING (id) ORDER BY u.id";
+    }
+
+    // Los operadores ~>=~ y ~<~ comparan byte a byte, igual que el índice lower(nombre) text_pattern_ops
+    static String normalizedPrefix(String prefix) {
+        return prefix.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Menor texto mayor que todos los que empiezan por {@code prefix} en orden de bytes UTF-8, que coincide
+     * con el orden de los code points: el prefijo con su último code point incrementado.
+     */
+    static String prefixUpperBound(String prefix) {
+        int[] codePoints = prefix.codePoints().toArray();
+        for (int i = codePoints.length - 1; i >= 0; i--) {
+            int next = codePoints[i] + 1;
+            if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+                next = Character.MAX_SURROGATE + 1;
+            }
+            if (next <= Character.MAX_CODE_POINT) {
+                return new String(codePoints, 0, i) + Character.toString(next);
+            }
+        }
+        throw new IllegalArgumentException("El prefijo de nombre no es válido");
+    }
+}
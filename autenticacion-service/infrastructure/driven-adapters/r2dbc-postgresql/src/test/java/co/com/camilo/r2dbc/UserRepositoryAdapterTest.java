@@ -2,22 +2,32 @@ package co.com.camilo.r2dbc;
 
 import co.com.camilo.model.user.User;
 import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.r2dbc.config.BulkLoadProperties;
 import co.com.camilo.r2dbc.entity.UserEntity;
+import co.com.camilo.r2dbc.loader.UserCopyLoader;
+import co.com.camilo.r2dbc.mapper.UserEntityMapper;
+import co.com.camilo.r2dbc.metrics.QueryMetrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -29,9 +39,14 @@ class UserRepositoryAdapterTest {
     private UserReactiveRepository repository;
 
     @Mock
-    private ObjectMapper mapper;
+    private UserEntityMapper entityMapper;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private UserCopyLoader copyLoader;
 
-    @InjectMocks
     private UserRepositoryAdapter repositoryAdapter;
 
     private User testUser;
@@ -39,6 +54,9 @@ class UserRepositoryAdapterTest {
 
     @BeforeEach
     void setUp() {
+        repositoryAdapter = new UserRepositoryAdapter(repository, entityMapper, databaseClient, copyLoader,
+                new BulkLoadProperties(BulkLoadProperties.Mode.INSERT), QueryMetrics.disabled());
+
         testUser = User.builder()
                 .id(1)
                 .nombre("Juan")
@@ -71,7 +89,7 @@ class UserRepositoryAdapterTest {
             // Arrange
             when(repository.save(any(UserEntity.class)))
                     .thenReturn(Mono.just(testUserEntity));
-            when(mapper.map(testUserEntity, User.class))
+            when(entityMapper.toEntity(testUserEntity))
                     .thenReturn(testUser);
 
             // Act
@@ -83,7 +101,7 @@ class UserRepositoryAdapterTest {
                     .verifyComplete();
 
             verify(repository).save(any(UserEntity.class));
-            verify(mapper).map(testUserEntity, User.class);
+            verify(entityMapper).toEntity(testUserEntity);
         }
 
         @Test
@@ -95,7 +113,7 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository, never()).save(any());
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
         }
 
         @Test
@@ -112,7 +130,85 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository).save(any(UserEntity.class));
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
+        }
+    }
+
+    @Nested
+    @DisplayName("Save If Absent Method Tests")
+    class SaveIfAbsentMethodTests {
+
+        @Test
+        @DisplayName("Should insert user in a single statement")
+        void shouldInsertUserInSingleStatement() {
+            // Arrange
+            when(entityMapper.toData(testUser))
+                    .thenReturn(testUserEntity);
+            when(repository.insertIfAbsent("Juan", "Pérez", "juan@email.com", LocalDate.of(1990, 1, 1),
+                    "Calle 123 #45-67", "+57 300 123 4567", 150000))
+                    .thenReturn(Mono.just(testUserEntity));
+            when(entityMapper.toEntity(testUserEntity))
+                    .thenReturn(testUser);
+
+            // Act & Assert
+            StepVerifier.create(repositoryAdapter.saveIfAbsent(testUser))
+                    .expectNext(testUser)
+                    .verifyComplete();
+
+            verify(repository, never()).findByCorreoElectronico(any());
+            verify(repository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should complete empty when email already exists")
+        void shouldCompleteEmptyWhenEmailAlreadyExists() {
+            // Arrange
+            when(entityMapper.toData(testUser))
+                    .thenReturn(testUserEntity);
+            when(repository.insertIfAbsent(any(), any(), eq("juan@email.com"), any(), any(), any(), anyInt()))
+                    .thenReturn(Mono.empty());
+
+            // Act & Assert
+            StepVerifier.create(repositoryAdapter.saveIfAbsent(testUser))
+                    .verifyComplete();
+
+            verify(entityMapper, never()).toEntity(testUserEntity);
+        }
+
+        @Test
+        @DisplayName("Should map unique violations on save to conflict")
+        void shouldMapUniqueViolationsOnSaveToConflict() {
+            // Arrange
+            when(repository.save(any()))
+                    .thenReturn(Mono.error(new DuplicateKeyException("usuarios_correo_electronico_uk")));
+
+            // Act & Assert
+            StepVerifier.create(repositoryAdapter.save(testUser))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Page After Method Tests")
+    class FindPageAfterMethodTests {
+
+        @Test
+        @DisplayName("Should map the bounded page returned by the repository")
+        void shouldMapTheBoundedPageReturnedByTheRepository() {
+            // Arrange
+            when(repository.findPageAfter(10, 50))
+                    .thenReturn(Flux.just(testUserEntity));
+            when(entityMapper.toEntity(testUserEntity))
+                    .thenReturn(testUser);
+
+            // Act & Assert
+            StepVerifier.create(repositoryAdapter.findPageAfter(10, 50))
+                    .expectNext(testUser)
+                    .verifyComplete();
+
+            verify(repository).findPageAfter(10, 50);
+            verify(repository, never()).findAll();
         }
     }
 
@@ -127,7 +223,7 @@ class UserRepositoryAdapterTest {
             String email = "juan@email.com";
             when(repository.findByCorreoElectronico(email))
                     .thenReturn(Mono.just(testUserEntity));
-            when(mapper.map(testUserEntity, User.class))
+            when(entityMapper.toEntity(testUserEntity))
                     .thenReturn(testUser);
 
             // Act
@@ -139,7 +235,7 @@ class UserRepositoryAdapterTest {
                     .verifyComplete();
 
             verify(repository).findByCorreoElectronico(email);
-            verify(mapper).map(testUserEntity, User.class);
+            verify(entityMapper).toEntity(testUserEntity);
         }
 
         @Test
@@ -151,7 +247,7 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository, never()).findByCorreoElectronico(any());
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
         }
 
         @Test
@@ -163,7 +259,7 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository, never()).findByCorreoElectronico(any());
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
         }
 
         @Test
@@ -175,7 +271,7 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository, never()).findByCorreoElectronico(any());
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
         }
 
         @Test
@@ -192,7 +288,7 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository).findByCorreoElectronico(email);
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
         }
 
         @Test
@@ -210,7 +306,7 @@ class UserRepositoryAdapterTest {
                     .verify();
 
             verify(repository).findByCorreoElectronico(email);
-            verify(mapper, never()).map(any(), any());
+            verifyNoInteractions(entityMapper);
         }
     }
 
@@ -224,7 +320,7 @@ class UserRepositoryAdapterTest {
             // Arrange
             when(repository.findById(1))
                     .thenReturn(Mono.just(testUserEntity));
-            when(mapper.map(testUserEntity, User.class))
+            when(entityMapper.toEntity(testUserEntity))
                     .thenReturn(testUser);
 
             // Act
@@ -235,7 +331,7 @@ class UserRepositoryAdapterTest {
                     .expectNext(testUser)
                     .verifyComplete();
 
-            verify(mapper).map(testUserEntity, User.class);
+            verify(entityMapper).toEntity(testUserEntity);
         }
 
         @Test
@@ -245,7 +341,7 @@ class UserRepositoryAdapterTest {
             RuntimeException mappingError = new RuntimeException("Mapping failed");
             when(repository.findById(1))
                     .thenReturn(Mono.just(testUserEntity));
-            when(mapper.map(testUserEntity, User.class))
+            when(entityMapper.toEntity(testUserEntity))
                     .thenThrow(mappingError);
 
             // Act & Assert
@@ -253,7 +349,37 @@ class UserRepositoryAdapterTest {
                     .expectError(RuntimeException.class)
                     .verify();
 
-            verify(mapper).map(testUserEntity, User.class);
+            verify(entityMapper).toEntity(testUserEntity);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Insert Tests")
+    class BatchInsertTests {
+
+        @Test
+        @DisplayName("Should use the same statement with one array per column for any batch size")
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void shouldUseTheSameStatementForAnyBatchSize() {
+            // Arrange
+            DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+            RowsFetchSpec rows = mock(RowsFetchSpec.class);
+            when(entityMapper.toData(testUser)).thenReturn(testUserEntity);
+            when(databaseClient.sql(UserRepositoryAdapter.INSERT_BATCH_SQL)).thenReturn(spec);
+            when(spec.bind(anyInt(), any(Object.class))).thenReturn(spec);
+            when(spec.map(any(Function.class))).thenReturn(rows);
+            when(rows.all()).thenReturn(Flux.empty());
+
+            // Act
+            StepVerifier.create(repositoryAdapter.saveAllIfAbsent(List.of(testUser))).verifyComplete();
+            StepVerifier.create(repositoryAdapter.saveAllIfAbsent(List.of(testUser, testUser, testUser)))
+                    .verifyComplete();
+
+            // Assert
+            verify(databaseClient, times(2)).sql(UserRepositoryAdapter.INSERT_BATCH_SQL);
+            verify(spec, times(2)).bind(eq(2), argThat((Object emails) -> emails instanceof String[]));
+            verify(spec).bind(eq(6), argThat((Object salaries) -> ((Integer[]) salaries).length == 3));
+            verifyNoMoreInteractions(databaseClient);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package co.com.camilo.r2dbc.cache;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.gateways.UserRepository;
+import co.com.camilo.r2dbc.config.EmailFilterProperties;
+import co.com.camilo.r2dbc.config.UserCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserRepository Tests")
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CachingUserRepository repository;
+
+    private final User juan = User.builder().id(1).nombre("Juan").correoElectronico("juan@email.com").build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        UserCacheProperties properties = new UserCacheProperties(true, 100L, 0L,
+                Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofSeconds(30));
+        repository = new CachingUserRepository(delegate, properties, meterRegistry, nanos::get);
+    }
+
+    @Test
+    @DisplayName("Should query the delegate only once for repeated lookups")
+    void shouldQueryDelegateOnceForRepeatedLookups() {
+        when(delegate.findByEmail("juan@email.com")).thenReturn(Mono.just(juan));
+
+        StepVerifier.create(repository.findByEmail("juan@email.com")).expectNext(juan).verifyComplete();
+        StepVerifier.create(repository.findByEmail("juan@email.com")).expectNext(juan).verifyComplete();
+
+        verify(delegate, times(1)).findByEmail("juan@email.com");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should cache unknown emails until the negative TTL expires")
+    void shouldCacheUnknownEmailsUntilNegativeTtlExpires() {
+        when(delegate.findByEmail("nuevo@email.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findByEmail("nuevo@email.com")).verifyComplete();
+        StepVerifier.create(repository.findByEmail("nuevo@email.com")).verifyComplete();
+        verify(delegate, times(1)).findByEmail("nuevo@email.com");
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        StepVerifier.create(repository.findByEmail("nuevo@email.com")).verifyComplete();
+        verify(delegate, times(2)).findByEmail("nuevo@email.com");
+    }
+
+    @Test
+    @DisplayName("Should invalidate the email when the user is saved")
+    void shouldInvalidateEmailOnSave() {
+        when(delegate.findByEmail("juan@email.com")).thenReturn(Mono.empty(), Mono.just(juan));
+        when(delegate.saveIfAbsent(juan)).thenReturn(Mono.just(juan));
+
+        StepVerifier.create(repository.findByEmail("juan@email.com")).verifyComplete();
+        StepVerifier.create(repository.saveIfAbsent(juan)).expectNext(juan).verifyComplete();
+
+        StepVerifier.create(repository.findByEmail("juan@email.com")).expectNext(juan).verifyComplete();
+        verify(delegate, times(2)).findByEmail("juan@email.com");
+    }
+
+    @Test
+    @DisplayName("Should not cache failed lookups")
+    void shouldNotCacheFailedLookups() {
+        when(delegate.findByEmail("juan@email.com"))
+                .thenReturn(Mono.error(new RuntimeException("Find failed")), Mono.just(juan));
+
+        StepVerifier.create(repository.findByEmail("juan@email.com")).expectError(RuntimeException.class).verify();
+        StepVerifier.create(repository.findByEmail("juan@email.com")).expectNext(juan).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should weigh found users above unknown emails")
+    void shouldWeighFoundUsersAboveUnknownEmails() {
+        int absent = CachingUserRepository.weigh("juan@email.com", Optional.empty());
+        int present = CachingUserRepository.weigh("juan@email.com", Optional.of(juan));
+
+        assertTrue(present > absent);
+    }
+
+    @Test
+    @DisplayName("Should keep unknown emails no longer than the email filter staleness by default")
+    void shouldBoundTheNegativeTtl() {
+        UserCacheProperties defaults = new UserCacheProperties(null, null, null, null, null, null);
+        UserCacheProperties configured = new UserCacheProperties(true, 100L, 0L,
+                Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        assertEquals(Duration.ofSeconds(5), defaults.negativeExpireAfterWrite());
+        assertEquals(Duration.ofSeconds(5), configured
+                .withNegativeExpireAfterWriteAtMost(new EmailFilterProperties(null, null, null, null, null, null).maxStaleness())
+                .negativeExpireAfterWrite());
+        assertEquals(Duration.ofSeconds(2), defaults
+                .withNegativeExpireAfterWriteAtMost(Duration.ofSeconds(10))
+                .withNegativeExpireAfterWriteAtMost(Duration.ofSeconds(2))
+                .negativeExpireAfterWrite());
+    }
+}
@@ -1,12 +1,23 @@
 package co.com.camilo.r2dbc.config;
 
+import co.com.camilo.r2dbc.pool.MeteredConnectionPool;
+import co.com.camilo.r2dbc.routing.ReadWriteRoutingConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 class PostgreSQLConnectionPoolTest {
@@ -17,10 +28,15 @@ class PostgreSQLConnectionPoolTest {
     @Mock
     private PostgresqlConnectionProperties properties;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
 
         when(properties.host()).thenReturn("localhost");
         when(properties.port()).thenReturn(5432);
@@ -28,10 +44,49 @@ class PostgreSQLConnectionPoolTest {
         when(properties.schema()).thenReturn("schema");
         when(properties.username()).thenReturn("username");
         when(properties.password()).thenReturn("password");
+        when(properties.pool()).thenReturn(pool(null));
+        when(properties.statements()).thenReturn(new PostgresqlConnectionProperties.Statements(null, null, null, null));
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
     }
 
     @Test
     void getConnectionConfigSuccess() {
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, meterRegistryProvider));
+        assertNotNull(meterRegistry.find("r2dbc.pool.acquire").timer());
+    }
+
+    @Test
+    void getConnectionConfigAdaptive() {
+        when(properties.pool()).thenReturn(pool(
+                new PostgresqlConnectionProperties.Adaptive(true, null, Duration.ofMillis(10), Duration.ofSeconds(5))));
+
+        assertInstanceOf(MeteredConnectionPool.class, connectionPool.getConnectionConfig(properties, meterRegistryProvider));
+        assertNotNull(meterRegistry.find("r2dbc.pool.adaptive.limit").gauge());
+    }
+
+    @Test
+    void getConnectionConfigWithReplicasBindsOccupancyGaugesForEveryPool() {
+        when(properties.replicas()).thenReturn(List.of(
+                new PostgresqlConnectionProperties.Replica("replica", null, null, null, null, null)));
+        when(properties.readRouting()).thenReturn(new PostgresqlConnectionProperties.ReadRouting(null, null, null));
+
+        ConnectionFactory connectionFactory = connectionPool.getConnectionConfig(properties, meterRegistryProvider);
+
+        try {
+            assertInstanceOf(ReadWriteRoutingConnectionFactory.class, connectionFactory);
+            assertNotNull(meterRegistry.find("r2dbc.pool.acquired")
+                    .tag("name", PostgreSQLConnectionPool.POOL_NAME).gauge());
+            assertNotNull(meterRegistry.find("r2dbc.pool.pending")
+                    .tag("name", PostgreSQLConnectionPool.POOL_NAME + "-replica-1").gauge());
+            assertNotNull(meterRegistry.find("r2dbc.pool.max.allocated")
+                    .tag("name", PostgreSQLConnectionPool.POOL_NAME + "-replica-1").gauge());
+        } finally {
+            ((ReadWriteRoutingConnectionFactory) connectionFactory).destroy();
+        }
+    }
+
+    private static PostgresqlConnectionProperties.Pool pool(PostgresqlConnectionProperties.Adaptive adaptive) {
+        return new PostgresqlConnectionProperties.Pool(0, 5, null, null, Duration.ofSeconds(1), null, null,
+                null, null, adaptive);
     }
 }
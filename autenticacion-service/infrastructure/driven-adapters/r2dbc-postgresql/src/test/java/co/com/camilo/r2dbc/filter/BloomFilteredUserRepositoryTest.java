@@ -0,0 +1,173 @@
+package co.com.camilo.r2dbc.filter;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.r2dbc.UserRepositoryAdapter;
+import co.com.camilo.r2dbc.config.EmailFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BloomFilteredUserRepository Tests")
+class BloomFilteredUserRepositoryTest {
+
+    @Mock
+    private UserRepositoryAdapter adapter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BloomFilteredUserRepository repository;
+
+    private final User juan = User.builder().id(1).correoElectronico("juan@email.com").build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new BloomFilteredUserRepository(adapter, properties(Duration.ofMinutes(1)), meterRegistry);
+    }
+
+    private static EmailFilterProperties properties(Duration maxStaleness) {
+        return new EmailFilterProperties(true, 0.01, 2.0, 1_000L, Duration.ofSeconds(1), maxStaleness);
+    }
+
+    @Test
+    @DisplayName("Should delegate every lookup until the filter is loaded")
+    void shouldDelegateUntilLoaded() {
+        when(adapter.findByEmail("nuevo@email.com")).thenReturn(Mono.empty());
+
+        StepVerifier.create(repository.findByEmail("nuevo@email.com"))
+                .verifyComplete();
+
+        verify(adapter).findByEmail("nuevo@email.com");
+    }
+
+    @Test
+    @DisplayName("Should skip the query for emails the filter has never seen")
+    void shouldSkipQueryForUnknownEmails() {
+        warmUpWith("juan@email.com");
+
+        StepVerifier.create(repository.findByEmail("nuevo@email.com"))
+                .verifyComplete();
+
+        verify(adapter, never()).findByEmail("nuevo@email.com");
+        assertEquals(1.0, meterRegistry.get("usuarios.email.filter.hit.ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should query the database for emails that may exist")
+    void shouldQueryDatabaseForKnownEmails() {
+        warmUpWith("juan@email.com");
+        when(adapter.findByEmail("juan@email.com")).thenReturn(Mono.just(juan));
+
+        StepVerifier.create(repository.findByEmail("juan@email.com"))
+                .expectNext(juan)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should send only the emails that may exist to the bulk query")
+    void shouldFilterBulkLookups() {
+        warmUpWith("juan@email.com");
+        when(adapter.findAllByEmails(List.of("juan@email.com"))).thenReturn(Flux.just(juan));
+
+        StepVerifier.create(repository.findAllByEmails(List.of("nuevo@email.com", "juan@email.com")))
+                .expectNext(juan)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not query when the filter rules out every email of the bulk lookup")
+    void shouldSkipBulkQueryWhenNoEmailMayExist() {
+        warmUpWith("juan@email.com");
+
+        StepVerifier.create(repository.findAllByEmails(List.of("nuevo@email.com", "otro@email.com")))
+                .verifyComplete();
+
+        verify(adapter, never()).findAllByEmails(anyList());
+    }
+
+    @Test
+    @DisplayName("Should remember emails registered after loading")
+    void shouldRememberRegisteredEmails() {
+        warmUpWith();
+        User ana = User.builder().id(2).correoElectronico("ana@email.com").build();
+        when(adapter.saveIfAbsent(ana)).thenReturn(Mono.just(ana));
+        when(adapter.findByEmail("ana@email.com")).thenReturn(Mono.just(ana));
+
+        StepVerifier.create(repository.saveIfAbsent(ana).then(repository.findByEmail("ana@email.com")))
+                .expectNext(ana)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should find users inserted behind the decorator's back after the next sync")
+    void shouldFindUsersInsertedElsewhereAfterSync() {
+        warmUpWith("juan@email.com");
+        User ana = User.builder().id(2).correoElectronico("ana@email.com").build();
+        // Otro pod (o un INSERT externo) registra a ana sin pasar por este decorador
+        when(adapter.findEmailsAfter(0)).thenReturn(Flux.just(row(1, "juan@email.com"), row(2, "ana@email.com")));
+        when(adapter.findByEmail("ana@email.com")).thenReturn(Mono.just(ana));
+
+        StepVerifier.create(repository.sync().then(repository.findByEmail("ana@email.com")))
+                .expectNext(ana)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read each sync from the mark of the previous one")
+    void shouldOverlapConsecutiveSyncs() {
+        warmUpWith("juan@email.com");
+        when(adapter.findEmailsAfter(0)).thenReturn(Flux.just(row(1, "juan@email.com"), row(2, "ana@email.com")));
+        when(adapter.findEmailsAfter(1)).thenReturn(Flux.just(row(2, "ana@email.com"), row(3, "luis@email.com")));
+
+        StepVerifier.create(repository.sync().then(repository.sync()))
+                .verifyComplete();
+
+        verify(adapter).findEmailsAfter(1);
+    }
+
+    @Test
+    @DisplayName("Should query the database when the last sync is older than the allowed staleness")
+    void shouldDelegateWhenSyncIsStale() {
+        repository = new BloomFilteredUserRepository(adapter, properties(Duration.ZERO), meterRegistry);
+        warmUpWith("juan@email.com");
+        User ana = User.builder().id(2).correoElectronico("ana@email.com").build();
+        when(adapter.findByEmail("ana@email.com")).thenReturn(Mono.just(ana));
+
+        StepVerifier.create(repository.findByEmail("ana@email.com"))
+                .expectNext(ana)
+                .verifyComplete();
+    }
+
+    // Primer paso: marca inicial con la tabla vacía; segundo: carga completa
+    private void warmUpWith(String... emails) {
+        Flux<Tuple2<Integer, String>> rows = Flux.range(0, emails.length).map(i -> row(i + 1, emails[i]));
+        when(adapter.findMaxId()).thenReturn(Mono.just(0));
+        when(adapter.count()).thenReturn(Mono.just((long) emails.length));
+        when(adapter.findEmailsAfter(0)).thenReturn(rows);
+
+        StepVerifier.create(repository.sync().then(repository.sync()))
+                .verifyComplete();
+    }
+
+    private static Tuple2<Integer, String> row(int id, String email) {
+        return Tuples.of(id, email);
+    }
+}
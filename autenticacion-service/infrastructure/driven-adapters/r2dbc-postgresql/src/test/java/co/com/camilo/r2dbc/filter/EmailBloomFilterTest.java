@@ -0,0 +1,64 @@
+package co.com.camilo.r2dbc.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EmailBloomFilter Tests")
+class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added email as absent")
+    void shouldNeverReportAddedEmailAsAbsent() {
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("usuario" + i + "@email.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("usuario" + i + "@email.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the target rate at capacity")
+    void shouldKeepFalsePositivesNearTargetRate() {
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("usuario" + i + "@email.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("ausente" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "Falsos positivos: " + falsePositives);
+        assertTrue(filter.fillRatio() > 0.4 && filter.fillRatio() < 0.6);
+    }
+
+    @Test
+    @DisplayName("Should size bits and hash functions from the expected insertions")
+    void shouldSizeFromExpectedInsertions() {
+        EmailBloomFilter filter = EmailBloomFilter.create(1_000_000, 0.01);
+
+        assertEquals(0, filter.bitSize() % 64);
+        assertTrue(filter.bitSize() >= 9_585_059L);
+        assertEquals(7, filter.hashFunctions());
+        assertFalse(filter.mightContain("juan@email.com"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> EmailBloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> EmailBloomFilter.create(100, 1.0));
+    }
+}
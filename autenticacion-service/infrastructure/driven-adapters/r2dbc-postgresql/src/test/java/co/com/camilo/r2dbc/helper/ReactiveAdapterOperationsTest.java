@@ -59,6 +59,22 @@ class ReactiveAdapterOperationsTest {
                 .verifyComplete();
     }
 
+    @Test
+    void saveWithMappingFunctions() {
+        ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository> generated =
+                new ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository>(
+                        repository, DummyData::fromEntity, DummyEntity::toEntity) {};
+        DummyEntity entity = new DummyEntity("1", "test");
+        DummyData data = new DummyData("1", "test");
+
+        when(repository.save(data)).thenReturn(Mono.just(data));
+
+        StepVerifier.create(generated.save(entity))
+                .expectNext(entity)
+                .verifyComplete();
+        Mockito.verifyNoInteractions(mapper);
+    }
+
     @Test
     void findById() {
         DummyData data = new DummyData("1", "test");
@@ -142,6 +158,10 @@ class ReactiveAdapterOperationsTest {
             this.name = name;
         }
 
+        public static DummyData fromEntity(DummyEntity entity) {
+            return new DummyData(entity.getId(), entity.getName());
+        }
+
         public String getId() {
             return id;
         }
@@ -0,0 +1,90 @@
+package co.com.camilo.r2dbc.loader;
+
+import co.com.camilo.r2dbc.entity.UserEntity;
+import io.netty.buffer.ByteBuf;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserCopyLoader Tests")
+class UserCopyLoaderTest {
+
+    private final UserEntity entity = UserEntity.builder()
+            .nombre("Juan \"JJ\"")
+            .apellido("Pérez, Gómez")
+            .correoElectronico("juan@email.com")
+            .fechaNacimiento(LocalDate.of(1990, 1, 1))
+            .direccion(null)
+            .telefono("+57 300 123 4567")
+            .salarioBase(150000)
+            .build();
+
+    @Test
+    @DisplayName("Should encode rows as CSV quoting text and leaving nulls empty")
+    void shouldEncodeRowsAsCsv() {
+        StringBuilder csv = new StringBuilder();
+
+        UserCopyLoader.appendRow(csv, 7, entity);
+
+        assertEquals("7,\"Juan \"\"JJ\"\"\",\"Pérez, Gómez\",\"juan@email.com\",1990-01-01,,\"+57 300 123 4567\",150000\n",
+                csv.toString());
+    }
+
+    @Test
+    @DisplayName("Should split the batch into chunks of rows")
+    void shouldSplitBatchIntoChunks() {
+        List<UserEntity> batch = Collections.nCopies(UserCopyLoader.ROWS_PER_CHUNK + 1, entity);
+
+        StepVerifier.create(UserCopyLoader.encode(batch).map(UserCopyLoaderTest::lines))
+                .expectNext((long) UserCopyLoader.ROWS_PER_CHUNK)
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not open a connection for an empty batch")
+    void shouldNotOpenConnectionForEmptyBatch() {
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+
+        StepVerifier.create(new UserCopyLoader(connectionFactory).load(List.of(), row -> entity))
+                .verifyComplete();
+
+        verifyNoInteractions(connectionFactory);
+    }
+
+    @Test
+    @DisplayName("Should unwrap pooled connections down to the PostgreSQL connection")
+    void shouldUnwrapPooledConnections() {
+        PostgresqlConnection postgresqlConnection = mock(PostgresqlConnection.class);
+        Connection pooled = mock(Connection.class, withSettings().extraInterfaces(Wrapped.class));
+        when(((Wrapped<?>) pooled).unwrap()).thenAnswer(invocation -> postgresqlConnection);
+
+        assertSame(postgresqlConnection, UserCopyLoader.unwrap(pooled));
+        assertThrows(IllegalStateException.class, () -> UserCopyLoader.unwrap(mock(Connection.class)));
+    }
+
+    private static long lines(ByteBuf buffer) {
+        try {
+            return buffer.toString(StandardCharsets.UTF_8).lines().count();
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package co.com.camilo.r2dbc.metrics;
+
+import co.com.camilo.r2dbc.UserReactiveRepository;
+import co.com.camilo.r2dbc.entity.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryMetrics Tests")
+class QueryMetricsTest {
+
+    @Mock
+    private UserReactiveRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetrics queryMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryMetrics = new QueryMetrics(meterRegistry, true);
+    }
+
+    @Test
+    @DisplayName("Should time every reactive repository method by name")
+    void shouldTimeRepositoryMethods() {
+        // Arrange
+        UserEntity entity = new UserEntity();
+        when(repository.findByCorreoElectronico("juan@email.com")).thenReturn(Mono.just(entity));
+        when(repository.findMaxId()).thenReturn(Mono.error(new IllegalStateException("caída")));
+        UserReactiveRepository instrumented = queryMetrics.instrument(repository, UserReactiveRepository.class);
+
+        // Act & Assert
+        StepVerifier.create(instrumented.findByCorreoElectronico("juan@email.com"))
+                .expectNext(entity)
+                .verifyComplete();
+        StepVerifier.create(instrumented.findMaxId())
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(1, count("UserReactiveRepository.findByCorreoElectronico", "ok"));
+        assertEquals(1, count("UserReactiveRepository.findMaxId", "error"));
+    }
+
+    @Test
+    @DisplayName("Should return the repository untouched when disabled")
+    void shouldNotInstrumentWhenDisabled() {
+        assertSame(repository, QueryMetrics.disabled().instrument(repository, UserReactiveRepository.class));
+    }
+
+    private long count(String query, String outcome) {
+        return meterRegistry.get(QueryMetrics.TIMER_NAME).tag("consulta", query).tag("outcome", outcome)
+                .timer().count();
+    }
+}
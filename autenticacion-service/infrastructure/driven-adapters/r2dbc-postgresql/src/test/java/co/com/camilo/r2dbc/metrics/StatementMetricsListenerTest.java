@@ -0,0 +1,180 @@
+package co.com.camilo.r2dbc.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StatementMetricsListener Tests")
+class StatementMetricsListenerTest {
+
+    private static final String FIND_BY_EMAIL =
+            "SELECT usuarios.* FROM usuarios WHERE usuarios.correo_electronico = $1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new StatementMetricsListener("pool", meterRegistry, 3);
+    }
+
+    @Nested
+    @DisplayName("Fingerprint")
+    class FingerprintTests {
+
+        @Test
+        @DisplayName("Should replace literals and bind markers")
+        void shouldReplaceLiteralsAndBindMarkers() {
+            assertEquals("select * from usuarios where correo_electronico = ? and id > ? and salario_base < ?",
+                    StatementFingerprint.of("SELECT *  FROM usuarios\n WHERE correo_electronico = 'a''b@x.com' "
+                            + "AND id > $2 AND salario_base < 1500.50"));
+        }
+
+        @Test
+        @DisplayName("Should keep casts and identifiers with digits")
+        void shouldKeepCastsAndIdentifiers() {
+            assertEquals("select lag::float8 from tabla_2 where x = ?",
+                    StatementFingerprint.of("SELECT lag::float8 FROM tabla_2 WHERE x = :valor"));
+        }
+
+        @Test
+        @DisplayName("Should collapse multi-row VALUES lists of any size")
+        void shouldCollapseMultiRowValues() {
+            String twoRows = StatementFingerprint.of("INSERT INTO usuarios (a, b) VALUES ($1, $2), ($3, $4)");
+            String threeRows = StatementFingerprint.of("INSERT INTO usuarios (a, b) VALUES ($1, $2), ($3, $4), ($5, $6)");
+
+            assertEquals("insert into usuarios (a, b) values (?, ?), ...", twoRows);
+            assertEquals(twoRows, threeRows);
+        }
+
+        @Test
+        @DisplayName("Should produce stable ids per statement")
+        void shouldProduceStableIds() {
+            assertEquals(StatementFingerprint.id("select ?"), StatementFingerprint.id("select ?"));
+            assertNotEquals(StatementFingerprint.id("select ?"), StatementFingerprint.id("select ?, ?"));
+            assertEquals(8, StatementFingerprint.id("select ?").length());
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should record executions, latency and rows per statement")
+        void shouldRecordExecutions() {
+            // Act
+            listener.afterQuery(execution(FIND_BY_EMAIL, true, Duration.ofMillis(3), 1));
+            listener.afterQuery(execution(FIND_BY_EMAIL, true, Duration.ofMillis(5), 0));
+            listener.afterQuery(execution(FIND_BY_EMAIL, false, Duration.ofMillis(7), 0));
+
+            // Assert
+            String id = StatementFingerprint.id(StatementFingerprint.of(FIND_BY_EMAIL));
+            Timer ok = meterRegistry.get(StatementMetricsListener.EXECUTION_TIMER)
+                    .tag("fingerprint", id).tag("outcome", "ok").timer();
+            assertEquals(2, ok.count());
+            assertEquals(8.0, ok.totalTime(TimeUnit.MILLISECONDS));
+            assertEquals(1, meterRegistry.get(StatementMetricsListener.EXECUTION_TIMER)
+                    .tag("fingerprint", id).tag("outcome", "error").timer().count());
+            assertEquals(1.0, meterRegistry.get(StatementMetricsListener.ROWS_SUMMARY)
+                    .tag("fingerprint", id).summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("Should tag by fingerprint only and bucket latency by the configured SLOs")
+        void shouldUseFingerprintTagAndSloBuckets() {
+            // Arrange
+            listener = new StatementMetricsListener("pool", meterRegistry, 3,
+                    List.of(Duration.ofMillis(5), Duration.ofMillis(50)));
+
+            // Act
+            listener.afterQuery(execution(FIND_BY_EMAIL, true, Duration.ofMillis(3), 1));
+            listener.afterQuery(execution(FIND_BY_EMAIL, true, Duration.ofMillis(20), 1));
+
+            // Assert
+            Timer ok = meterRegistry.get(StatementMetricsListener.EXECUTION_TIMER).tag("outcome", "ok").timer();
+            assertNull(ok.getId().getTag("sql"));
+            CountAtBucket[] buckets = ok.takeSnapshot().histogramCounts();
+            assertEquals(2, buckets.length);
+            assertEquals(1.0, buckets[0].count());
+            assertEquals(2.0, buckets[1].count());
+        }
+
+        @Test
+        @DisplayName("Should not cache the text of statements longer than the per-statement limit")
+        void shouldNotCacheLongStatements() {
+            // Arrange
+            String longSql = "SELECT * FROM usuarios WHERE nombre IN ("
+                    + "$1, ".repeat(StatementMetricsListener.MAX_CACHED_SQL_LENGTH / 4) + "$0)";
+
+            // Act
+            listener.afterQuery(execution(longSql, true, Duration.ofMillis(1), 0));
+            listener.afterQuery(execution(FIND_BY_EMAIL, true, Duration.ofMillis(1), 0));
+
+            // Assert
+            assertEquals(1, listener.cachedStatements());
+            assertEquals(1, meterRegistry.get(StatementMetricsListener.EXECUTION_TIMER)
+                    .tag("fingerprint", StatementFingerprint.id(StatementFingerprint.of(longSql)))
+                    .tag("outcome", "ok").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should bound the cached statement text by total size")
+        void shouldBoundCachedTextByTotalSize() {
+            // Arrange
+            listener = new StatementMetricsListener("pool", meterRegistry, 1_000);
+            String padding = " ".repeat(StatementMetricsListener.MAX_CACHED_SQL_LENGTH - 40);
+
+            // Act
+            int statements = StatementMetricsListener.MAX_CACHED_SQL_CHARS / StatementMetricsListener.MAX_CACHED_SQL_LENGTH + 10;
+            for (int i = 0; i < statements; i++) {
+                listener.afterQuery(execution("SELECT c" + i + " FROM usuarios" + padding, true, Duration.ofMillis(1), 0));
+            }
+
+            // Assert
+            assertTrue(listener.cachedStatements() * (StatementMetricsListener.MAX_CACHED_SQL_LENGTH - 40)
+                    <= StatementMetricsListener.MAX_CACHED_SQL_CHARS);
+            assertTrue(listener.cachedStatements() < statements);
+        }
+
+        @Test
+        @DisplayName("Should group statements past the limit as overflow")
+        void shouldGroupOverflow() {
+            // Act
+            for (int i = 0; i < 5; i++) {
+                listener.afterQuery(execution("SELECT c" + i + " FROM usuarios", true, Duration.ofMillis(1), 0));
+            }
+
+            // Assert
+            assertEquals(2, meterRegistry.get(StatementMetricsListener.EXECUTION_TIMER)
+                    .tag("fingerprint", StatementMetricsListener.OVERFLOW).tag("outcome", "ok").timer().count());
+        }
+    }
+
+    private static QueryExecutionInfo execution(String sql, boolean success, Duration duration, int rows) {
+        QueryExecutionInfo execInfo = mock(QueryExecutionInfo.class);
+        when(execInfo.getQueries()).thenReturn(List.of(new QueryInfo(sql)));
+        when(execInfo.isSuccess()).thenReturn(success);
+        when(execInfo.getExecuteDuration()).thenReturn(duration);
+        when(execInfo.getCurrentResultCount()).thenReturn(rows);
+        return execInfo;
+    }
+}
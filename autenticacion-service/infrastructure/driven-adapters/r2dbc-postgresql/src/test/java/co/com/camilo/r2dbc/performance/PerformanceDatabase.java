@@ -0,0 +1,32 @@
+package co.com.camilo.r2dbc.performance;
+
+import co.com.camilo.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.camilo.r2dbc.config.PostgresqlConnectionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+
+/**
+ * Conexión para las pruebas de rendimiento, configurada con -Dbenchmark.db.* al ejecutar
+ * la tarea performanceTest.
+ */
+final class PerformanceDatabase {
+
+    static final String EMAIL_DOMAIN = "@carga.test";
+
+    private PerformanceDatabase() {
+    }
+
+    static ConnectionPool connectionPool() {
+        return PostgreSQLConnectionPool.createConnectionPool(new PostgresqlConnectionProperties(
+                System.getProperty("benchmark.db.host", "localhost"),
+                Integer.getInteger("benchmark.db.port", 5432),
+                System.getProperty("benchmark.db.database", "crediYa"),
+                System.getProperty("benchmark.db.schema", "public"),
+                System.getProperty("benchmark.db.username", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres")), new SimpleMeterRegistry());
+    }
+
+    static String email(String run, long row) {
+        return run + "-" + row + EMAIL_DOMAIN;
+    }
+}
@@ -0,0 +1,149 @@
+package co.com.camilo.r2dbc.performance;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.r2dbc.UserReactiveRepository;
+import co.com.camilo.r2dbc.UserRepositoryAdapter;
+import co.com.camilo.r2dbc.config.BulkLoadProperties;
+import co.com.camilo.r2dbc.entity.UserEntity;
+import co.com.camilo.r2dbc.loader.UserCopyLoader;
+import co.com.camilo.r2dbc.mapper.UserEntityMapper;
+import co.com.camilo.r2dbc.metrics.QueryMetrics;
+import io.r2dbc.pool.ConnectionPool;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara la carga de usuarios fila a fila con {@code UserReactiveRepository.saveAll} contra
+ * el INSERT por arreglos (unnest) y el modo COPY del adaptador. Por defecto carga 1M de filas por estrategia
+ * (-Dbenchmark.rows) en lotes de 50k (-Dbenchmark.batch-size) y elimina las filas al terminar.
+ */
+@Slf4j
+@Tag("performance")
+@EnabledIfSystemProperty(named = "benchmark.db.host", matches = ".+")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("User bulk load performance")
+class UserBulkLoadPerformanceTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 50_000);
+    private static final String RUN = "carga" + System.currentTimeMillis();
+
+    private static ConnectionPool connectionPool;
+    private static DatabaseClient databaseClient;
+    private static UserReactiveRepository repository;
+
+    @BeforeAll
+    static void setUp() {
+        connectionPool = PerformanceDatabase.connectionPool();
+        databaseClient = DatabaseClient.create(connectionPool);
+        repository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionPool))
+                .getRepository(UserReactiveRepository.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        databaseClient.sql("DELETE FROM usuarios WHERE correo_electronico LIKE $1")
+                .bind(0, RUN + "-%" + PerformanceDatabase.EMAIL_DOMAIN)
+                .fetch().rowsUpdated()
+                .block();
+        connectionPool.dispose();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("UserReactiveRepository.saveAll, one INSERT per row")
+    void saveAll() {
+        long start = System.nanoTime();
+        Long saved = repository.saveAll(Flux.range(0, ROWS).map(row -> entity("saveall", row)))
+                .count()
+                .block();
+        report("saveAll", saved, start);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("INSERT ... SELECT FROM unnest ... ON CONFLICT")
+    void multiRowInsert() {
+        load("insert", BulkLoadProperties.Mode.INSERT);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("COPY FROM STDIN into staging plus merge")
+    void copy() {
+        load("copy", BulkLoadProperties.Mode.COPY);
+    }
+
+    private void load(String strategy, BulkLoadProperties.Mode mode) {
+        UserRepositoryAdapter adapter = new UserRepositoryAdapter(repository, Mappers.getMapper(UserEntityMapper.class),
+                databaseClient, new UserCopyLoader(connectionPool), new BulkLoadProperties(mode),
+                QueryMetrics.disabled());
+
+        long start = System.nanoTime();
+        Long saved = Flux.range(0, (ROWS + BATCH_SIZE - 1) / BATCH_SIZE)
+                .concatMap(batch -> adapter.saveAllIfAbsent(users(strategy, batch * BATCH_SIZE)))
+                .count()
+                .block();
+        report(strategy, saved, start);
+
+        // Repetir el último lote debe reportar todas sus filas como duplicadas
+        List<User> lastBatch = users(strategy, ((ROWS - 1) / BATCH_SIZE) * BATCH_SIZE);
+        assertEquals(0L, adapter.saveAllIfAbsent(lastBatch).count().block());
+    }
+
+    private static List<User> users(String strategy, int from) {
+        int to = Math.min(from + BATCH_SIZE, ROWS);
+        List<User> users = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            users.add(User.builder()
+                    .nombre("Nombre" + row)
+                    .apellido("Apellido" + row)
+                    .correoElectronico(PerformanceDatabase.email(RUN + "-" + strategy, row))
+                    .fechaNacimiento(LocalDate.of(1970, 1, 1).plusDays(row % 15_000))
+                    .direccion("Calle " + row)
+                    .telefono("+57 300 " + row)
+                    .salarioBase(1_000_000 + row % 14_000_000)
+                    .build());
+        }
+        return users;
+    }
+
+    private static UserEntity entity(String strategy, int row) {
+        return UserEntity.builder()
+                .nombre("Nombre" + row)
+                .apellido("Apellido" + row)
+                .correoElectronico(PerformanceDatabase.email(RUN + "-" + strategy, row))
+                .fechaNacimiento(LocalDate.of(1970, 1, 1).plusDays(row % 15_000))
+                .direccion("Calle " + row)
+                .telefono("+57 300 " + row)
+                .salarioBase(1_000_000 + row % 14_000_000)
+                .build();
+    }
+
+    private static void report(String strategy, Long rows, long startNanos) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        log.info("{}: {} filas en {} ms ({} filas/s)", strategy, rows, elapsed.toMillis(),
+                rows * 1_000L / Math.max(elapsed.toMillis(), 1));
+        assertEquals((long) ROWS, rows);
+    }
+}
@@ -0,0 +1,200 @@
+package co.com.camilo.r2dbc.performance;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.r2dbc.UserReactiveRepository;
+import co.com.camilo.r2dbc.UserRepositoryAdapter;
+import co.com.camilo.r2dbc.config.BulkLoadProperties;
+import co.com.camilo.r2dbc.loader.UserCopyLoader;
+import co.com.camilo.r2dbc.mapper.UserEntityMapper;
+import co.com.camilo.r2dbc.metrics.QueryMetrics;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latencia de la búsqueda aproximada con los índices GIN de pg_trgm. Carga 5M de usuarios con
+ * nombres, apellidos y direcciones combinados al azar (-Dbenchmark.rows), crea los índices de
+ * deployment/db/003_usuarios_trigramas.sql y busca textos con errores de escritura. Exige un p99
+ * de 50 ms (-Dbenchmark.fuzzy.p99-ms). Las filas cargadas se eliminan al terminar.
+ */
+@Slf4j
+@Tag("performance")
+@EnabledIfSystemProperty(named = "benchmark.db.host", matches = ".+")
+@DisplayName("User fuzzy search performance")
+class UserFuzzySearchPerformanceTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 50_000);
+    private static final int QUERIES = Integer.getInteger("benchmark.queries", 500);
+    private static final long P99_THRESHOLD_MS = Long.getLong("benchmark.fuzzy.p99-ms", 50);
+    private static final double THRESHOLD = 0.5;
+    private static final int LIMIT = 20;
+    private static final String RUN = "trigramas" + System.currentTimeMillis();
+
+    private static final String[] NOMBRES = {
+            "Camilo", "Valentina", "Santiago", "Mariana", "Sebastián", "Isabella", "Mateo", "Gabriela",
+            "Alejandro", "Daniela", "Nicolás", "Catalina", "Samuel", "Juliana", "Andrés", "Laura",
+            "Felipe", "Natalia", "Julián", "Paula", "Esteban", "Carolina", "Tomás", "Manuela"};
+    private static final String[] APELLIDOS = {
+            "Carvajal", "Rodríguez", "Gómez", "González", "Martínez", "García", "López", "Hernández",
+            "Sánchez", "Ramírez", "Pérez", "Díaz", "Muñoz", "Rojas", "Moreno", "Jiménez",
+            "Restrepo", "Ospina", "Cardona", "Zapata", "Londoño", "Betancur", "Echeverri", "Arango"};
+    private static final String[] VIAS = {"Calle", "Carrera", "Avenida", "Transversal", "Diagonal", "Circular"};
+
+    private static final List<String> INDEXES = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS usuarios_nombre_completo_trgm_idx ON usuarios"
+                    + " USING gin ((lower(coalesce(nombre, '') || ' ' || coalesce(apellido, ''))) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS usuarios_direccion_trgm_idx ON usuarios"
+                    + " USING gin ((lower(coalesce(direccion, ''))) gin_trgm_ops)",
+            "VACUUM (ANALYZE) usuarios");
+
+    private static ConnectionPool connectionPool;
+    private static DatabaseClient databaseClient;
+    private static UserReactiveRepository repository;
+    private static UserRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        connectionPool = PerformanceDatabase.connectionPool();
+        databaseClient = DatabaseClient.create(connectionPool);
+        repository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionPool))
+                .getRepository(UserReactiveRepository.class);
+        adapter = new UserRepositoryAdapter(repository, Mappers.getMapper(UserEntityMapper.class),
+                databaseClient, new UserCopyLoader(connectionPool),
+                new BulkLoadProperties(BulkLoadProperties.Mode.COPY), QueryMetrics.disabled());
+
+        Random random = new Random(42);
+        Flux.range(0, (ROWS + BATCH_SIZE - 1) / BATCH_SIZE)
+                .concatMap(batch -> adapter.saveAllIfAbsent(users(random, batch * BATCH_SIZE)))
+                .then()
+                .block();
+        Flux.fromIterable(INDEXES)
+                .concatMap(sql -> databaseClient.sql(sql).then())
+                .then()
+                .block();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        databaseClient.sql("DELETE FROM usuarios WHERE correo_electronico LIKE $1")
+                .bind(0, RUN + "-%" + PerformanceDatabase.EMAIL_DOMAIN)
+                .fetch().rowsUpdated()
+                .block();
+        connectionPool.dispose();
+    }
+
+    @Test
+    @DisplayName("Misspelled full-name lookups stay under the p99 budget")
+    void misspelledNameLatency() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            adapter.fuzzySearch(misspelledName(random), THRESHOLD, LIMIT).blockLast();
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String text = misspelledName(random);
+            long start = System.nanoTime();
+            List<UserMatch> matches = adapter.fuzzySearch(text, THRESHOLD, LIMIT).collectList().block();
+            latencies[i] = System.nanoTime() - start;
+
+            assertTrue(matches.size() <= LIMIT);
+            for (int m = 1; m < matches.size(); m++) {
+                assertFalse(matches.get(m).getPuntaje() > matches.get(m - 1).getPuntaje());
+            }
+        }
+
+        Arrays.sort(latencies);
+        double p50 = latencies[QUERIES / 2] / 1_000_000.0;
+        double p99 = latencies[(int) Math.ceil(QUERIES * 0.99) - 1] / 1_000_000.0;
+        log.info("búsqueda aproximada: p50={} ms p99={} ms ({} consultas sobre {} filas)",
+                String.format("%.2f", p50), String.format("%.2f", p99), QUERIES, ROWS);
+        assertTrue(p99 <= P99_THRESHOLD_MS, "p99 de " + p99 + " ms supera " + P99_THRESHOLD_MS + " ms");
+    }
+
+    @Test
+    @DisplayName("The similarity threshold does not outlive the search on its pooled connection")
+    void thresholdDoesNotLeakToPooledConnection() {
+        // Pool de una sola conexión: la consulta siguiente usa la misma que la búsqueda
+        ConnectionPool single = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionPool.unwrap())
+                .initialSize(1)
+                .maxSize(1)
+                .build());
+        try {
+            DatabaseClient client = DatabaseClient.create(single);
+            UserRepositoryAdapter singleAdapter = new UserRepositoryAdapter(repository,
+                    Mappers.getMapper(UserEntityMapper.class), client, new UserCopyLoader(single),
+                    new BulkLoadProperties(BulkLoadProperties.Mode.COPY), QueryMetrics.disabled());
+            String before = wordSimilarityThreshold(client);
+
+            singleAdapter.fuzzySearch("camilo carvajal", 0.9, LIMIT).blockLast();
+
+            assertEquals(before, wordSimilarityThreshold(client));
+        } finally {
+            single.dispose();
+        }
+    }
+
+    private static String wordSimilarityThreshold(DatabaseClient client) {
+        return client.sql("SELECT current_setting('pg_trgm.word_similarity_threshold')")
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+    }
+
+    private static List<User> users(Random random, int from) {
+        int to = Math.min(from + BATCH_SIZE, ROWS);
+        List<User> users = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            users.add(User.builder()
+                    .nombre(pick(random, NOMBRES))
+                    .apellido(pick(random, APELLIDOS) + " " + pick(random, APELLIDOS))
+                    .correoElectronico(PerformanceDatabase.email(RUN, row))
+                    .fechaNacimiento(LocalDate.of(1950, 1, 1).plusDays(row % 20_000))
+                    .direccion(pick(random, VIAS) + " " + random.nextInt(200) + " #" + random.nextInt(100)
+                            + "-" + random.nextInt(100))
+                    .telefono("+57 3" + String.format("%09d", row))
+                    .salarioBase(1_000_000 + row % 14_000_000)
+                    .build());
+        }
+        return users;
+    }
+
+    // Nombre y apellido reales con una letra intercambiada, como los escribiría un asesor con prisa
+    private static String misspelledName(Random random) {
+        String text = pick(random, NOMBRES) + " " + pick(random, APELLIDOS);
+        int swap = 1 + random.nextInt(text.length() - 2);
+        char[] chars = text.toCharArray();
+        char tmp = chars[swap];
+        chars[swap] = chars[swap + 1];
+        chars[swap + 1] = tmp;
+        return new String(chars);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,207 @@
+package co.com.camilo.r2dbc.performance;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserSearchCriteria;
+import co.com.camilo.r2dbc.UserReactiveRepository;
+import co.com.camilo.r2dbc.UserRepositoryAdapter;
+import co.com.camilo.r2dbc.config.BulkLoadProperties;
+import co.com.camilo.r2dbc.loader.UserCopyLoader;
+import co.com.camilo.r2dbc.mapper.UserEntityMapper;
+import co.com.camilo.r2dbc.metrics.QueryMetrics;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Latencia de la búsqueda del back-office sobre una tabla grande. Carga 2M de usuarios por COPY
+ * (-Dbenchmark.rows), crea los índices de deployment/db/002_usuarios_busqueda_indices.sql y mide
+ * p50/p99 de -Dbenchmark.queries consultas por combinación de criterios. El umbral de p99 se
+ * ajusta con -Dbenchmark.search.p99-ms. La búsqueda por prefijo se mide además con
+ * {@code plan_cache_mode = force_generic_plan}, el plan que adopta la sentencia preparada tras cinco
+ * ejecuciones. Las filas cargadas se eliminan al terminar.
+ */
+@Slf4j
+@Tag("performance")
+@EnabledIfSystemProperty(named = "benchmark.db.host", matches = ".+")
+@DisplayName("User search performance")
+class UserSearchPerformanceTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("benchmark.batch-size", 50_000);
+    private static final int QUERIES = Integer.getInteger("benchmark.queries", 500);
+    private static final int PAGE_SIZE = 50;
+    private static final long P99_THRESHOLD_MS = Long.getLong("benchmark.search.p99-ms", 50);
+    private static final String RUN = "busqueda" + System.currentTimeMillis();
+
+    private static final List<String> INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS usuarios_salario_base_id_idx ON usuarios (salario_base, id)",
+            "CREATE INDEX IF NOT EXISTS usuarios_fecha_nacimiento_id_idx ON usuarios (fecha_nacimiento, id)",
+            "CREATE INDEX IF NOT EXISTS usuarios_nombre_prefijo_idx"
+                    + " ON usuarios (lower(nombre) text_pattern_ops, id) INCLUDE (nombre)",
+            "CREATE INDEX IF NOT EXISTS usuarios_telefono_id_idx ON usuarios (telefono, id) WHERE telefono IS NOT NULL",
+            "VACUUM (ANALYZE) usuarios");
+
+    private static ConnectionPool connectionPool;
+    private static DatabaseClient databaseClient;
+    private static UserReactiveRepository repository;
+    private static UserRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        connectionPool = PerformanceDatabase.connectionPool();
+        databaseClient = DatabaseClient.create(connectionPool);
+        repository = new R2dbcRepositoryFactory(new R2dbcEntityTemplate(connectionPool))
+                .getRepository(UserReactiveRepository.class);
+        adapter = new UserRepositoryAdapter(repository, Mappers.getMapper(UserEntityMapper.class),
+                databaseClient, new UserCopyLoader(connectionPool),
+                new BulkLoadProperties(BulkLoadProperties.Mode.COPY), QueryMetrics.disabled());
+
+        Flux.range(0, (ROWS + BATCH_SIZE - 1) / BATCH_SIZE)
+                .concatMap(batch -> adapter.saveAllIfAbsent(users(batch * BATCH_SIZE)))
+                .then()
+                .block();
+        Flux.fromIterable(INDEXES)
+                .concatMap(sql -> databaseClient.sql(sql).then())
+                .then()
+                .block();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        databaseClient.sql("DELETE FROM usuarios WHERE correo_electronico LIKE $1")
+                .bind(0, RUN + "-%" + PerformanceDatabase.EMAIL_DOMAIN)
+                .fetch().rowsUpdated()
+                .block();
+        connectionPool.dispose();
+    }
+
+    static Stream<Arguments> criteria() {
+        return Stream.of(
+                Arguments.of("salario", (IntFunction<UserSearchCriteria>) seed -> UserSearchCriteria.builder()
+                        .salarioMinimo(1_000_000 + seed % 10_000_000)
+                        .salarioMaximo(1_000_000 + seed % 10_000_000 + 50_000)
+                        .limite(PAGE_SIZE)
+                        .build()),
+                Arguments.of("fecha de nacimiento", (IntFunction<UserSearchCriteria>) seed -> UserSearchCriteria.builder()
+                        .nacidoDesde(birthDate(seed))
+                        .nacidoHasta(birthDate(seed).plusDays(30))
+                        .limite(PAGE_SIZE)
+                        .build()),
+                Arguments.of("prefijo de nombre", (IntFunction<UserSearchCriteria>) seed -> UserSearchCriteria.builder()
+                        .prefijoNombre("nombre" + seed % ROWS)
+                        .limite(PAGE_SIZE)
+                        .build()),
+                Arguments.of("teléfono", (IntFunction<UserSearchCriteria>) seed -> UserSearchCriteria.builder()
+                        .telefono(phone(seed % ROWS))
+                        .limite(PAGE_SIZE)
+                        .build()),
+                Arguments.of("salario y fecha", (IntFunction<UserSearchCriteria>) seed -> UserSearchCriteria.builder()
+                        .salarioMinimo(1_000_000 + seed % 10_000_000)
+                        .nacidoDesde(birthDate(seed))
+                        .limite(PAGE_SIZE)
+                        .build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("criteria")
+    @DisplayName("Search latency by criteria")
+    void searchLatency(String name, IntFunction<UserSearchCriteria> criteria) {
+        assertLatency(name, adapter, criteria);
+    }
+
+    @Test
+    @DisplayName("Name prefix search keeps its index with a generic plan")
+    void prefixLatencyWithGenericPlan() {
+        // Pool de una sola conexión para que el SET aplique a todas las búsquedas
+        ConnectionPool single = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionPool.unwrap())
+                .initialSize(1)
+                .maxSize(1)
+                .build());
+        try {
+            DatabaseClient client = DatabaseClient.create(single);
+            client.sql("SET plan_cache_mode = force_generic_plan").then().block();
+            UserRepositoryAdapter genericPlanAdapter = new UserRepositoryAdapter(repository,
+                    Mappers.getMapper(UserEntityMapper.class), client, new UserCopyLoader(single),
+                    new BulkLoadProperties(BulkLoadProperties.Mode.COPY), QueryMetrics.disabled());
+
+            assertLatency("prefijo de nombre (plan genérico)", genericPlanAdapter, seed -> UserSearchCriteria.builder()
+                    .prefijoNombre("nombre" + seed % ROWS)
+                    .limite(PAGE_SIZE)
+                    .build());
+        } finally {
+            single.dispose();
+        }
+    }
+
+    private static void assertLatency(String name, UserRepositoryAdapter target,
+                                      IntFunction<UserSearchCriteria> criteria) {
+        // Calentamiento: sentencias preparadas, caché de planes y páginas de índice
+        for (int i = 0; i < 50; i++) {
+            target.search(criteria.apply(ThreadLocalRandom.current().nextInt(ROWS))).blockLast();
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            UserSearchCriteria query = criteria.apply(ThreadLocalRandom.current().nextInt(ROWS));
+            long start = System.nanoTime();
+            target.search(query).blockLast();
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+        double p50 = latencies[QUERIES / 2] / 1_000_000.0;
+        double p99 = latencies[(int) Math.ceil(QUERIES * 0.99) - 1] / 1_000_000.0;
+        log.info("búsqueda por {}: p50={} ms p99={} ms ({} consultas sobre {} filas)",
+                name, String.format("%.2f", p50), String.format("%.2f", p99), QUERIES, ROWS);
+        assertTrue(p99 <= P99_THRESHOLD_MS, "p99 de " + p99 + " ms supera " + P99_THRESHOLD_MS + " ms");
+    }
+
+    private static List<User> users(int from) {
+        int to = Math.min(from + BATCH_SIZE, ROWS);
+        List<User> users = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            users.add(User.builder()
+                    .nombre("Nombre" + row)
+                    .apellido("Apellido" + row)
+                    .correoElectronico(PerformanceDatabase.email(RUN, row))
+                    .fechaNacimiento(birthDate(row))
+                    .direccion("Calle " + row)
+                    .telefono(phone(row))
+                    .salarioBase(1_000_000 + row % 14_000_000)
+                    .build());
+        }
+        return users;
+    }
+
+    private static LocalDate birthDate(int row) {
+        return LocalDate.of(1950, 1, 1).plusDays(row % 20_000);
+    }
+
+    private static String phone(int row) {
+        return "+57 3" + String.format("%09d", row);
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.camilo.r2dbc.pool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("AdaptiveAllocationStrategy Tests")
+class AdaptiveAllocationStrategyTest {
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private long now;
+    private AdaptiveAllocationStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        strategy = new AdaptiveAllocationStrategy(2, 4, 10, Duration.ofMillis(20), Duration.ofSeconds(10), () -> now);
+    }
+
+    @Nested
+    @DisplayName("Permits")
+    class PermitTests {
+
+        @Test
+        @DisplayName("Should grant permits up to the current limit")
+        void shouldGrantUpToLimit() {
+            assertEquals(3, strategy.getPermits(3));
+            assertEquals(1, strategy.getPermits(3));
+            assertEquals(0, strategy.getPermits(1));
+            assertEquals(4, strategy.permitGranted());
+            assertEquals(0, strategy.estimatePermitCount());
+        }
+
+        @Test
+        @DisplayName("Should grant the minimum on warmup")
+        void shouldGrantMinimumOnWarmup() {
+            assertEquals(2, strategy.getPermits(0));
+            assertEquals(0, strategy.getPermits(0));
+        }
+
+        @Test
+        @DisplayName("Should make returned permits available again")
+        void shouldReturnPermits() {
+            strategy.getPermits(4);
+
+            strategy.returnPermits(2);
+
+            assertEquals(2, strategy.estimatePermitCount());
+            assertThrows(IllegalArgumentException.class, () -> strategy.returnPermits(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive limit")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should grow while acquire latency is above target")
+        void shouldGrowOnSlowAcquires() {
+            for (int i = 0; i < 20; i++) {
+                strategy.recordAcquireLatency(SLOW);
+            }
+            assertEquals(4, strategy.limit());
+
+            now += TimeUnit.SECONDS.toNanos(10);
+            strategy.recordAcquireLatency(SLOW);
+
+            assertEquals(5, strategy.limit());
+        }
+
+        @Test
+        @DisplayName("Should not grow beyond the maximum")
+        void shouldNotGrowBeyondMaximum() {
+            for (int i = 0; i < 50; i++) {
+                now += TimeUnit.SECONDS.toNanos(10);
+                strategy.recordAcquireLatency(SLOW);
+            }
+
+            assertEquals(10, strategy.limit());
+        }
+
+        @Test
+        @DisplayName("Should shrink down to the minimum when acquires are fast")
+        void shouldShrinkOnFastAcquires() {
+            for (int i = 0; i < 50; i++) {
+                now += TimeUnit.SECONDS.toNanos(10);
+                strategy.recordAcquireLatency(FAST);
+            }
+
+            assertEquals(2, strategy.limit());
+        }
+    }
+}
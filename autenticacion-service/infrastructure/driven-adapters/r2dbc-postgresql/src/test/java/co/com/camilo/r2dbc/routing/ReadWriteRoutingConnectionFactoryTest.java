@@ -0,0 +1,126 @@
+package co.com.camilo.r2dbc.routing;
+
+import co.com.camilo.r2dbc.config.PostgresqlConnectionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReadWriteRoutingConnectionFactory Tests")
+class ReadWriteRoutingConnectionFactoryTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadWriteRoutingConnectionFactory routing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, ConnectionFactory> readers = new LinkedHashMap<>();
+        readers.put("replica-1", factoryOf(replica1Connection));
+        readers.put("replica-2", factoryOf(replica2Connection));
+
+        routing = new ReadWriteRoutingConnectionFactory(factoryOf(primaryConnection), readers,
+                new PostgresqlConnectionProperties.ReadRouting(Duration.ofSeconds(5), null, null), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should send unmarked queries to the primary")
+        void shouldSendWritesToPrimary() {
+            // Arrange
+            recordLags(0.1, 0.1);
+
+            // Act & Assert
+            StepVerifier.create(routing.create())
+                    .expectNext(primaryConnection)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should round-robin read-only queries across healthy replicas")
+        void shouldRoundRobinReads() {
+            // Arrange
+            recordLags(0.1, 0.1);
+
+            // Act & Assert
+            StepVerifier.create(ReadOnlyRouting.readOnly(routing.create()))
+                    .expectNext(replica1Connection)
+                    .verifyComplete();
+            StepVerifier.create(ReadOnlyRouting.readOnly(routing.create()))
+                    .expectNext(replica2Connection)
+                    .verifyComplete();
+            assertEquals(2.0, meterRegistry.get("r2dbc.routing.reads").tag("target", "replica").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should skip a replica whose lag exceeds the limit")
+        void shouldSkipLaggingReplica() {
+            // Arrange
+            recordLags(30, 0.1);
+
+            // Act & Assert
+            StepVerifier.create(ReadOnlyRouting.readOnly(routing.create()))
+                    .expectNext(replica2Connection)
+                    .verifyComplete();
+            StepVerifier.create(ReadOnlyRouting.readOnly(routing.create()))
+                    .expectNext(replica2Connection)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary when no replica is healthy")
+        void shouldFallBackToPrimary() {
+            // Arrange
+            recordLags(0.1, 0.1);
+            routing.replicas().get(0).recordFailure(new IllegalStateException("connection refused"));
+            routing.replicas().get(1).recordLag(12);
+
+            // Act & Assert
+            StepVerifier.create(ReadOnlyRouting.readOnly(routing.create()))
+                    .expectNext(primaryConnection)
+                    .verifyComplete();
+            assertEquals(1.0, meterRegistry.get("r2dbc.routing.reads").tag("target", "primary").counter().count());
+        }
+
+        @Test
+        @DisplayName("Should keep replicas out of service until the first health check")
+        void shouldStartUnhealthy() {
+            // Act & Assert
+            StepVerifier.create(ReadOnlyRouting.readOnly(routing.create()))
+                    .expectNext(primaryConnection)
+                    .verifyComplete();
+            assertEquals(0.0, meterRegistry.get("r2dbc.replica.healthy").tag("name", "replica-1").gauge().value());
+        }
+    }
+
+    private void recordLags(double lagReplica1, double lagReplica2) {
+        routing.replicas().get(0).recordLag(lagReplica1);
+        routing.replicas().get(1).recordLag(lagReplica2);
+    }
+
+    private static ConnectionFactory factoryOf(Connection connection) {
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+        return connectionFactory;
+    }
+}
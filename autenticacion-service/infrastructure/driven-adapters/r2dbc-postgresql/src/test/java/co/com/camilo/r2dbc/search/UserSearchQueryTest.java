@@ -0,0 +1,85 @@
+package co.com.camilo.r2dbc.search;
+
+import co.com.camilo.model.user.UserSearchCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("UserSearchQuery Tests")
+class UserSearchQueryTest {
+
+    @Test
+    @DisplayName("Should only filter by keyset cursor when no criteria are given")
+    void shouldOnlyFilterByCursorWithoutCriteria() {
+        String sql = UserSearchQuery.sql(UserSearchCriteria.builder().limite(10).build());
+
+        assertEquals("SELECT u.* FROM usuarios u JOIN (SELECT id FROM usuarios WHERE id > $1"
+                + " ORDER BY id LIMIT $2) pagina USING (id) ORDER BY u.id", sql);
+    }
+
+    @Test
+    @DisplayName("Should number parameters in criteria order")
+    void shouldNumberParametersInCriteriaOrder() {
+        String sql = UserSearchQuery.sql(UserSearchCriteria.builder()
+                .salarioMinimo(1_000_000)
+                .nacidoHasta(LocalDate.of(2000, 1, 1))
+                .telefono("+57 300 123 4567")
+                .limite(10)
+                .build());
+
+        assertEquals("SELECT u.* FROM usuarios u JOIN (SELECT id FROM usuarios WHERE salario_base >= $1"
+                + " AND fecha_nacimiento <= $2 AND telefono = $3 AND id > $4"
+                + " ORDER BY id LIMIT $5) pagina USING (id) ORDER BY u.id", sql);
+    }
+
+    @Test
+    @DisplayName("Should reuse the generated SQL for the same combination of criteria")
+    void shouldReuseSqlForSameCombination() {
+        UserSearchCriteria first = UserSearchCriteria.builder().salarioMaximo(10).prefijoNombre("ju").build();
+        UserSearchCriteria second = UserSearchCriteria.builder().salarioMaximo(99).prefijoNombre("an").build();
+
+        assertSame(UserSearchQuery.sql(first), UserSearchQuery.sql(second));
+    }
+
+    @Test
+    @DisplayName("Should ignore blank text criteria")
+    void shouldIgnoreBlankTextCriteria() {
+        String sql = UserSearchQuery.sql(UserSearchCriteria.builder().prefijoNombre("  ").telefono("").build());
+
+        assertFalse(sql.contains("nombre") || sql.contains("telefono"));
+    }
+
+    @Test
+    @DisplayName("Should bind the name prefix as an index range instead of a LIKE pattern")
+    void shouldBindPrefixAsRange() {
+        String sql = UserSearchQuery.sql(UserSearchCriteria.builder().prefijoNombre("ju").limite(10).build());
+
+        assertEquals("SELECT u.* FROM usuarios u JOIN (SELECT id FROM usuarios WHERE lower(nombre) ~>=~ $1"
+                + " AND lower(nombre) ~<~ $2 AND id > $3"
+                + " ORDER BY id LIMIT $4) pagina USING (id) ORDER BY u.id", sql);
+    }
+
+    @Test
+    @DisplayName("Should lower case the prefix and keep LIKE wildcards as literal characters")
+    void shouldLowerCasePrefix() {
+        assertEquals("juan", UserSearchQuery.normalizedPrefix(" Juan "));
+        assertEquals("100%_a\\", UserSearchQuery.normalizedPrefix("100%_A\\"));
+    }
+
+    @Test
+    @DisplayName("Should compute the smallest text above every name with the prefix")
+    void shouldComputePrefixUpperBound() {
+        assertEquals("juao", UserSearchQuery.prefixUpperBound("juan"));
+        assertEquals("mun\u0303", UserSearchQuery.prefixUpperBound("mun\u0302"));
+        assertEquals("a\uE000", UserSearchQuery.prefixUpperBound("a\uD7FF"));
+        assertEquals("b", UserSearchQuery.prefixUpperBound("a" + Character.toString(Character.MAX_CODE_POINT)));
+        assertThrows(IllegalArgumentException.class,
+                () -> UserSearchQuery.prefixUpperBound(Character.toString(Character.MAX_CODE_POINT)));
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.camilo.api.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserLookupRequest {
+
+    @Schema(description = "Correos a resolver; excluyente con ids", example = "[\"camilo@email.com\"]")
+    private List<String> correos;
+
+    @Schema(description = "Ids a resolver; excluyente con correos", example = "[1, 2, 3]")
+    private List<Integer> ids;
+}
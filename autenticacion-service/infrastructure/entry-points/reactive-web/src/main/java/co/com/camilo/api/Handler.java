@@ -1,12 +1,28 @@
 package co.com.camilo.api;
 
 import co.com.camilo.api.DTO.CreateUserRequest;
+import co.com.camilo.api.DTO.UserLookupRequest;
+import co.com.camilo.api.cache.ETags;
+import co.com.camilo.api.codec.ContentNegotiation;
+import co.com.camilo.api.config.BulkImportProperties;
+import co.com.camilo.api.config.FuzzySearchProperties;
+import co.com.camilo.api.config.UserListingProperties;
+import co.com.camilo.api.config.UserLookupProperties;
 import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.api.metrics.PipelineMetrics;
+import co.com.camilo.api.metrics.PipelineMetrics.Stage;
+import co.com.camilo.api.validation.RequestValidator;
 import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserImportResult;
+import co.com.camilo.model.user.UserLookupResult;
+import co.com.camilo.model.user.UserMatch;
+import co.com.camilo.model.user.UserPage;
+import co.com.camilo.model.user.UserSearchCriteria;
 import co.com.camilo.usecase.user.UserUseCase;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -14,18 +30,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -33,9 +51,20 @@ import java.util.stream.Collectors;
 @Tag(name = "Usuarios", description = "API para gestión de usuarios")
 public class Handler {
 
+    private static final RequestValidator<CreateUserRequest> CREATE_USER_VALIDATOR =
+            RequestValidator.of(CreateUserRequest.class);
+
+    // Mensajes fijos: el detalle de la excepción solo va al log
+    static final String IMPORT_BATCH_ERROR = "No se pudo registrar el bloque de usuarios; reintente estas filas";
+    static final String IMPORT_BODY_ERROR = "No se pudo leer el cuerpo; las filas siguientes no se procesaron";
+
     private final UserUseCase userUseCase;
-    private final Validator validator;
     private final GlobalExceptionHandler exceptionHandler;
+    private final BulkImportProperties importProperties;
+    private final UserListingProperties listingProperties;
+    private final FuzzySearchProperties fuzzySearchProperties;
+    private final UserLookupProperties lookupProperties;
+    private final PipelineMetrics metrics;
 
     public Mono<ServerResponse> listenGETUseCase(ServerRequest serverRequest) {
         // useCase.logic();
@@ -78,29 +107,415 @@ public class Handler {
     )
     public Mono<ServerResponse> listenSaveUser(@Parameter(description = "Datos del usuario a crear") ServerRequest serverRequest) {
 
-        return serverRequest.bodyToMono(CreateUserRequest.class)
-                .doOnNext(request -> log.debug("Request a procesar {}", request))
-                .flatMap(this::validateCreateUserRequest)
-                .doOnNext(request -> log.debug("Usuario validado {}", request))
-                .flatMap(this::mapToUser)
-                .doOnNext(request -> log.debug("Usuario mapeado {}", request))
-                .flatMap(userUseCase::saveUser)
+        // Un solo debug por solicitud; el argumento se evalúa solo si el evento pasa nivel y filtros
+        return metrics.timed(Stage.DECODE, serverRequest.bodyToMono(CreateUserRequest.class))
+                .flatMap(request -> metrics.timed(Stage.VALIDATION, validateCreateUserRequest(request)))
+                .flatMap(request -> metrics.timed(Stage.MAPPING, mapToUser(request)))
+                .doOnNext(user -> log.atDebug()
+                        .setMessage("Usuario validado y mapeado {}")
+                        .addArgument(user::getCorreoElectronico)
+                        .log())
+                .flatMap(user -> metrics.timed(Stage.PERSISTENCE, userUseCase.saveUser(user)))
                 .flatMap(savedUser -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
+                        .contentType(ContentNegotiation.responseType(serverRequest))
                         .bodyValue(savedUser))
                 .onErrorResume(Throwable.class, ex -> 
                     exceptionHandler.handleAnyException(ex, serverRequest));
     }
 
+    @Operation(
+            operationId = "importarUsuarios",
+            summary = "Importar usuarios",
+            description = "Registra usuarios de forma masiva a partir de un flujo NDJSON o un arreglo JSON, "
+                    + "devolviendo un resultado NDJSON por cada fila, en orden. Si falla el registro de un bloque, "
+                    + "sus filas válidas se informan con estado ERROR y la importación sigue con el siguiente. "
+                    + "Si el cuerpo no se puede leer, el flujo termina con un único resultado ERROR sin correo y "
+                    + "las filas siguientes no se procesan",
+            tags = { "Usuarios" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultado por fila de la importación",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = UserImportResult.class)
+                    )
+            )
+    })
+    @RequestBody(
+            required = true,
+            content = @Content(schema = @Schema(implementation = CreateUserRequest.class))
+    )
+    public Mono<ServerResponse> listenImportUsers(ServerRequest serverRequest) {
+
+        Flux<UserImportResult> results = serverRequest.bodyToFlux(CreateUserRequest.class)
+                .buffer(importProperties.tamanoLote())
+                .flatMapSequential(this::importBatch, importProperties.concurrencia())
+                .onErrorResume(ex -> {
+                    log.warn("Importación interrumpida al leer el cuerpo", ex);
+                    return Mono.just(UserImportResult.error(IMPORT_BODY_ERROR));
+                });
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, UserImportResult.class);
+    }
+
+    @Operation(
+            operationId = "listarUsuarios",
+            summary = "Listar usuarios",
+            description = "Devuelve una página de usuarios ordenada por id. Para la siguiente página se envía "
+                    + "en 'despues' el valor 'siguiente' de la respuesta anterior",
+            tags = { "Usuarios" },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "despues",
+                            description = "Id del último usuario recibido; por defecto 0"),
+                    @Parameter(in = ParameterIn.QUERY, name = "tamano",
+                            description = "Cantidad de usuarios por página, acotada al máximo configurado")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de usuarios",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Sin cambios respecto al ETag enviado en If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parámetros de paginación inválidos"
+            )
+    })
+    public Mono<ServerResponse> listenListUsers(ServerRequest serverRequest) {
+
+        return Mono.fromCallable(() -> listingProperties.pageSize(intQueryParam(serverRequest, "tamano")))
+                .flatMap(size -> userUseCase.listUsers(afterIdQueryParam(serverRequest), size))
+                .flatMap(page -> revalidated(serverRequest, ETags.of(page), page))
+                .onErrorResume(Throwable.class, ex ->
+                    exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    @Operation(
+            operationId = "exportarUsuarios",
+            summary = "Exportar usuarios",
+            description = "Transmite en NDJSON todos los usuarios posteriores a 'despues', en orden de id",
+            tags = { "Usuarios" },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "despues",
+                            description = "Id desde el cual reanudar la exportación; por defecto 0")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Un usuario por línea",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = User.class)
+                    )
+            )
+    })
+    public Mono<ServerResponse> listenExportUsers(ServerRequest serverRequest) {
+
+        return Mono.fromCallable(() -> afterIdQueryParam(serverRequest))
+                .flatMap(afterId -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(userUseCase.exportUsers(afterId, listingProperties.tamanoLoteExportacion()),
+                                User.class))
+                .onErrorResume(Throwable.class, ex ->
+                    exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    @Operation(
+            operationId = "buscarUsuarios",
+            summary = "Buscar usuarios",
+            description = "Busca usuarios por rango de salario, rango de fecha de nacimiento, prefijo del nombre "
+                    + "y teléfono. Los criterios se combinan con AND y la paginación es igual a la del listado",
+            tags = { "Usuarios" },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "salarioMin", description = "Salario base mínimo"),
+                    @Parameter(in = ParameterIn.QUERY, name = "salarioMax", description = "Salario base máximo"),
+                    @Parameter(in = ParameterIn.QUERY, name = "nacidoDesde", description = "Fecha de nacimiento inicial (ISO-8601)"),
+                    @Parameter(in = ParameterIn.QUERY, name = "nacidoHasta", description = "Fecha de nacimiento final (ISO-8601)"),
+                    @Parameter(in = ParameterIn.QUERY, name = "nombre", description = "Prefijo del nombre, sin distinguir mayúsculas"),
+                    @Parameter(in = ParameterIn.QUERY, name = "telefono", description = "Teléfono exacto"),
+                    @Parameter(in = ParameterIn.QUERY, name = "despues", description = "Id del último usuario recibido; por defecto 0"),
+                    @Parameter(in = ParameterIn.QUERY, name = "tamano", description = "Cantidad de usuarios por página")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de usuarios que cumplen los criterios",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Criterios o parámetros de paginación inválidos"
+            )
+    })
+    public Mono<ServerResponse> listenSearchUsers(ServerRequest serverRequest) {
+
+        return Mono.fromCallable(() -> searchCriteria(serverRequest))
+                .flatMap(userUseCase::searchUsers)
+                .flatMap(page -> revalidated(serverRequest, ETags.of(page), page))
+                .onErrorResume(Throwable.class, ex ->
+                    exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    private UserSearchCriteria searchCriteria(ServerRequest serverRequest) {
+        return UserSearchCriteria.builder()
+                .salarioMinimo(intQueryParam(serverRequest, "salarioMin"))
+                .salarioMaximo(intQueryParam(serverRequest, "salarioMax"))
+                .nacidoDesde(dateQueryParam(serverRequest, "nacidoDesde"))
+                .nacidoHasta(dateQueryParam(serverRequest, "nacidoHasta"))
+                .prefijoNombre(serverRequest.queryParam("nombre").orElse(null))
+                .telefono(serverRequest.queryParam("telefono").orElse(null))
+                .despues(afterIdQueryParam(serverRequest))
+                .limite(listingProperties.pageSize(intQueryParam(serverRequest, "tamano")))
+                .build();
+    }
+
+    @Operation(
+            operationId = "buscarUsuariosAproximado",
+            summary = "Búsqueda aproximada de usuarios",
+            description = "Busca usuarios cuyo nombre completo o dirección se parezca al texto, tolerando "
+                    + "errores de escritura. Los resultados vienen del más al menos parecido",
+            tags = { "Usuarios" },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "texto", required = true,
+                            description = "Texto a buscar, de al menos 3 caracteres"),
+                    @Parameter(in = ParameterIn.QUERY, name = "umbral",
+                            description = "Similitud mínima entre 0 y 1"),
+                    @Parameter(in = ParameterIn.QUERY, name = "limite",
+                            description = "Cantidad máxima de resultados, acotada al máximo configurado")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Usuarios ordenados por similitud",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = UserMatch.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Texto, umbral o límite inválidos"
+            )
+    })
+    public Mono<ServerResponse> listenFuzzySearchUsers(ServerRequest serverRequest) {
+
+        return Mono.fromCallable(() -> fuzzySearchThreshold(serverRequest))
+                .flatMap(threshold -> userUseCase.fuzzySearch(
+                                serverRequest.queryParam("texto").orElse(null),
+                                threshold,
+                                fuzzySearchProperties.limit(intQueryParam(serverRequest, "limite")))
+                        .collectList())
+                .flatMap(matches -> ServerResponse.ok()
+                        .contentType(ContentNegotiation.responseType(serverRequest))
+                        .bodyValue(matches))
+                .onErrorResume(Throwable.class, ex ->
+                    exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    private double fuzzySearchThreshold(ServerRequest serverRequest) {
+        String value = serverRequest.queryParam("umbral").orElse(null);
+        if (value == null || value.isBlank()) {
+            return fuzzySearchProperties.umbral();
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro 'umbral' debe ser un número", e);
+        }
+    }
+
+    @Operation(
+            operationId = "consultarUsuariosMasivo",
+            summary = "Consulta masiva de usuarios",
+            description = "Resuelve una lista de correos o de ids con una consulta por bloque y devuelve un "
+                    + "resultado NDJSON por clave, en el orden pedido, marcando las no encontradas",
+            tags = { "Usuarios" }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultado por clave, en el orden de la solicitud",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = UserLookupResult.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Sin claves, con correos e ids a la vez o con más claves de las permitidas"
+            )
+    })
+    @RequestBody(
+            required = true,
+            content = @Content(schema = @Schema(implementation = UserLookupRequest.class))
+    )
+    public Mono<ServerResponse> listenLookupUsers(ServerRequest serverRequest) {
+
+        // La validación va antes de armar la respuesta: una vez enviado el 200 ya no se puede responder 400
+        return serverRequest.bodyToMono(UserLookupRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("El cuerpo de la consulta es obligatorio")))
+                .map(this::validateLookupRequest)
+                .flatMap(request -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(lookup(request), UserLookupResult.class))
+                .onErrorResume(Throwable.class, ex ->
+                    exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    private UserLookupRequest validateLookupRequest(UserLookupRequest request) {
+        boolean byEmail = request.getCorreos() != null && !request.getCorreos().isEmpty();
+        boolean byId = request.getIds() != null && !request.getIds().isEmpty();
+        if (byEmail == byId) {
+            throw new IllegalArgumentException("Debe indicar 'correos' o 'ids', no ambos");
+        }
+        int keys = byEmail ? request.getCorreos().size() : request.getIds().size();
+        if (keys > lookupProperties.maxClaves()) {
+            throw new IllegalArgumentException("La consulta admite como máximo " + lookupProperties.maxClaves() + " claves");
+        }
+        return request;
+    }
+
+    private Flux<UserLookupResult> lookup(UserLookupRequest request) {
+        return request.getCorreos() != null && !request.getCorreos().isEmpty()
+                ? userUseCase.lookupByEmails(request.getCorreos(), lookupProperties.tamanoBloque())
+                : userUseCase.lookupByIds(request.getIds(), lookupProperties.tamanoBloque());
+    }
+
+    @Operation(
+            operationId = "buscarUsuarioPorCorreo",
+            summary = "Buscar usuario por correo",
+            description = "Devuelve el usuario registrado con el correo indicado",
+            tags = { "Usuarios" },
+            parameters = {
+                    @Parameter(in = ParameterIn.PATH, name = "email", required = true,
+                            description = "Correo electrónico del usuario")
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Usuario encontrado",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = User.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Sin cambios respecto al ETag enviado en If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No existe un usuario con ese correo"
+            )
+    })
+    public Mono<ServerResponse> listenFindUserByEmail(ServerRequest serverRequest) {
+
+        return userUseCase.findUserByEmail(serverRequest.pathVariable("email"))
+                .flatMap(user -> revalidated(serverRequest, ETags.of(user), user))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.notFound().build()))
+                .onErrorResume(Throwable.class, ex ->
+                    exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    private static LocalDate dateQueryParam(ServerRequest serverRequest, String name) {
+        String value = serverRequest.queryParam(name).orElse(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("El parámetro '" + name + "' debe tener el formato AAAA-MM-DD", e);
+        }
+    }
+
+    // 304 sin cuerpo cuando If-None-Match coincide; el cuerpo solo se serializa si cambió
+    private static Mono<ServerResponse> revalidated(ServerRequest serverRequest, String etag, Object body) {
+        return serverRequest.checkNotModified(etag)
+                .flatMap(notModified -> ServerResponse.from(notModified)
+                        .cacheControl(ETags.REVALIDATE)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build())
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                        .eTag(etag)
+                        .cacheControl(ETags.REVALIDATE)
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .contentType(ContentNegotiation.responseType(serverRequest))
+                        .bodyValue(body)));
+    }
+
+    private static int afterIdQueryParam(ServerRequest serverRequest) {
+        Integer afterId = intQueryParam(serverRequest, "despues");
+        return afterId == null ? 0 : afterId;
+    }
+
+    private static Integer intQueryParam(ServerRequest serverRequest, String name) {
+        String value = serverRequest.queryParam(name).orElse(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro '" + name + "' debe ser un número entero", e);
+        }
+    }
+
+    private Flux<UserImportResult> importBatch(List<CreateUserRequest> batch) {
+        // null marca las filas válidas; se completan en orden con la respuesta del caso de uso
+        List<UserImportResult> results = new ArrayList<>(batch.size());
+        List<User> validUsers = new ArrayList<>(batch.size());
+
+        for (CreateUserRequest request : batch) {
+            List<String> errors = validationErrors(request);
+            if (errors.isEmpty()) {
+                validUsers.add(toUser(request));
+                results.add(null);
+            } else {
+                results.add(UserImportResult.invalido(request.getCorreoElectronico(),
+                        "Errores de validación: " + String.join(", ", errors)));
+            }
+        }
+
+        return userUseCase.importUsers(validUsers)
+                .collectList()
+                .onErrorResume(ex -> {
+                    log.error("Falló el registro de un bloque de {} usuarios", validUsers.size(), ex);
+                    return Mono.just(validUsers.stream()
+                            .map(user -> UserImportResult.error(user.getCorreoElectronico(), IMPORT_BATCH_ERROR))
+                            .toList());
+                })
+                .flatMapIterable(imported -> {
+                    Iterator<UserImportResult> importedResults = imported.iterator();
+                    results.replaceAll(result -> result != null ? result : importedResults.next());
+                    return results;
+                });
+    }
+
     private Mono<CreateUserRequest> validateCreateUserRequest(CreateUserRequest request) {
         return Mono.defer(() -> {
-            Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
-
-            if (!violations.isEmpty()) {
-                List<String> errors = violations.stream()
-                        .map(ConstraintViolation::getMessage)
-                        .collect(Collectors.toList());
+            List<String> errors = validationErrors(request);
 
+            if (!errors.isEmpty()) {
                 return Mono.error(new IllegalArgumentException(
                         "Errores de validación: " + String.join(", ", errors)
                 ));
@@ -110,8 +525,17 @@ public class Handler {
         });
     }
 
+    private List<String> validationErrors(CreateUserRequest request) {
+        return CREATE_USER_VALIDATOR.validate(request);
+    }
+
     private Mono<User> mapToUser(CreateUserRequest request) {
-        return Mono.fromCallable(() -> User.builder()
+        return Mono.fromCallable(() -> toUser(request))
+                .onErrorMap(e -> new IllegalStateException("Error al mapear datos: " + e.getMessage(), e));
+    }
+
+    private static User toUser(CreateUserRequest request) {
+        return User.builder()
                 .nombre(request.getNombre())
                 .apellido(request.getApellido())
                 .correoElectronico(request.getCorreoElectronico())
@@ -119,8 +543,7 @@ public class Handler {
                 .direccion(request.getDireccion())
                 .telefono(request.getTelefono())
                 .salarioBase(request.getSalarioBase())
-                .build()
-        ).onErrorMap(e -> new IllegalStateException("Error al mapear datos: " + e.getMessage(), e));
+                .build();
     }
 
 }
@@ -9,6 +9,7 @@ import org.springdoc.core.annotations.RouterOperation;
 import org.springdoc.core.annotations.RouterOperations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
@@ -24,10 +25,58 @@ public class RouterRest {
                     path = "/api/v1/usuarios",
                     beanClass = Handler.class,
                     beanMethod = "listenSaveUser"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/importacion",
+                    beanClass = Handler.class,
+                    beanMethod = "listenImportUsers"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "listenListUsers"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/exportacion",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "listenExportUsers"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/busqueda",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "listenSearchUsers"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/coincidencias",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "listenFuzzySearchUsers"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/lookup",
+                    method = RequestMethod.POST,
+                    beanClass = Handler.class,
+                    beanMethod = "listenLookupUsers"
+            ),
+            @RouterOperation(
+                    path = "/api/v1/usuarios/{email}",
+                    method = RequestMethod.GET,
+                    beanClass = Handler.class,
+                    beanMethod = "listenFindUserByEmail"
             )
     })
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
-        return route(POST("/api/v1/usuarios"), handler::listenSaveUser);
+        return route(POST("/api/v1/usuarios"), handler::listenSaveUser)
+                .andRoute(POST("/api/v1/usuarios/importacion"), handler::listenImportUsers)
+                .andRoute(GET("/api/v1/usuarios"), handler::listenListUsers)
+                .andRoute(GET("/api/v1/usuarios/exportacion"), handler::listenExportUsers)
+                .andRoute(GET("/api/v1/usuarios/busqueda"), handler::listenSearchUsers)
+                .andRoute(GET("/api/v1/usuarios/coincidencias"), handler::listenFuzzySearchUsers)
+                .andRoute(POST("/api/v1/usuarios/lookup"), handler::listenLookupUsers)
+                .andRoute(GET("/api/v1/usuarios/{email}"), handler::listenFindUserByEmail);
 //                .andRoute(GET("/api/v1/usuarios"), handler::listenGETUseCase)
 //                .and(route(GET("/api/users/path"), handler::listenGETOtherUseCase));
     }
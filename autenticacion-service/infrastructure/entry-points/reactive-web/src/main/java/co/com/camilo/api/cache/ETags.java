@@ -0,0 +1,77 @@
+package co.com.camilo.api.cache;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserPage;
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDate;
+
+/**
+ * Validadores de las respuestas de lectura de usuarios. El ETag es un hash FNV-1a de 64 bits sobre
+ * los campos del usuario, así que se calcula sin serializar el cuerpo. Es débil ({@code W/}) porque
+ * la misma entidad puede viajar en varias representaciones (JSON, comprimida, etc.).
+ */
+public final class ETags {
+
+    /** Los clientes pueden guardar la respuesta, pero deben revalidarla con el ETag antes de usarla. */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    private ETags() {
+    }
+
+    public static String of(User user) {
+        return format(hash(FNV_OFFSET_BASIS, user));
+    }
+
+    public static String of(UserPage page) {
+        long hash = FNV_OFFSET_BASIS;
+        for (User user : page.getUsuarios()) {
+            hash = hash(hash, user);
+        }
+        hash = mix(hash, page.getSiguiente() == null ? -1 : page.getSiguiente());
+        return format(hash);
+    }
+
+    private static long hash(long hash, User user) {
+        hash = mix(hash, user.getId());
+        hash = mix(hash, user.getNombre());
+        hash = mix(hash, user.getApellido());
+        hash = mix(hash, user.getCorreoElectronico());
+        hash = mix(hash, user.getFechaNacimiento());
+        hash = mix(hash, user.getDireccion());
+        hash = mix(hash, user.getTelefono());
+        return mix(hash, user.getSalarioBase());
+    }
+
+    private static long mix(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash = step(hash, value.charAt(i));
+            }
+        }
+        return step(hash, FIELD_SEPARATOR);
+    }
+
+    private static long mix(long hash, LocalDate value) {
+        return mix(hash, value == null ? Long.MIN_VALUE : value.toEpochDay());
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = step(hash, (int) (value >>> shift) & 0xff);
+        }
+        return step(hash, FIELD_SEPARATOR);
+    }
+
+    private static long step(long hash, int value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static String format(long hash) {
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
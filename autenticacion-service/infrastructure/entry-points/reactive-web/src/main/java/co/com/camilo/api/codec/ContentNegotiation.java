@@ -0,0 +1,46 @@
+package co.com.camilo.api.codec;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Elige la representación de las respuestas de usuarios según el encabezado {@code Accept}. JSON va
+ * primero para que un {@code Accept} comodín o ausente siga recibiendo JSON.
+ */
+public final class ContentNegotiation {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    public static final List<MediaType> PRODUCIBLE = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR,
+            APPLICATION_SMILE);
+
+    private ContentNegotiation() {
+    }
+
+    public static MediaType responseType(ServerRequest serverRequest) {
+        List<MediaType> accepted = serverRequest.headers().accept();
+        if (accepted.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> sorted = new ArrayList<>(accepted);
+        MimeTypeUtils.sortBySpecificity(sorted);
+        for (MediaType candidate : sorted) {
+            if (candidate.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType producible : PRODUCIBLE) {
+                if (candidate.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
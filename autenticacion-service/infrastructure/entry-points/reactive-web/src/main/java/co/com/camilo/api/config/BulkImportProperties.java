@@ -0,0 +1,21 @@
+package co.com.camilo.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "usuarios.importacion")
+public record BulkImportProperties(
+        Integer tamanoLote,
+        Integer concurrencia) {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int DEFAULT_CONCURRENCY = 4;
+    // Filas por llamada al caso de uso, y por tanto por resultado de error si el bloque falla. Es distinto
+    // de UserRepositoryAdapter.MAX_ROWS_PER_INSERT (filas por sentencia): en modo INSERT el adaptador parte
+    // un lote mayor en varias sentencias
+    public static final int MAX_BATCH_SIZE = 50_000;
+
+    public BulkImportProperties {
+        tamanoLote = tamanoLote == null ? DEFAULT_BATCH_SIZE : Math.min(Math.max(tamanoLote, 1), MAX_BATCH_SIZE);
+        concurrencia = concurrencia == null ? DEFAULT_CONCURRENCY : Math.max(concurrencia, 1);
+    }
+}
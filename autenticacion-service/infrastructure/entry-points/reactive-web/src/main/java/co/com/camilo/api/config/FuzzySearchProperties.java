@@ -0,0 +1,27 @@
+package co.com.camilo.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "usuarios.busqueda-aproximada")
+public record FuzzySearchProperties(
+        Double umbral,
+        Integer limite,
+        Integer limiteMaximo) {
+
+    public static final double DEFAULT_THRESHOLD = 0.3;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int DEFAULT_MAX_LIMIT = 100;
+
+    public FuzzySearchProperties {
+        umbral = umbral == null ? DEFAULT_THRESHOLD : umbral;
+        limiteMaximo = limiteMaximo == null ? DEFAULT_MAX_LIMIT : Math.max(limiteMaximo, 1);
+        limite = limite == null
+                ? Math.min(DEFAULT_LIMIT, limiteMaximo)
+                : Math.min(Math.max(limite, 1), limiteMaximo);
+    }
+
+    /** Límite solicitado por el cliente, o el de defecto si no lo indicó, acotado al máximo configurado. */
+    public int limit(Integer requested) {
+        return requested == null ? limite : Math.min(requested, limiteMaximo);
+    }
+}
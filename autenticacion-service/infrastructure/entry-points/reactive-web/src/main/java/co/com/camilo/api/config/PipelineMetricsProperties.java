@@ -0,0 +1,16 @@
+package co.com.camilo.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Timers por etapa del registro de usuarios ({@code usuarios.registro.etapa}).
+ *
+ * @param enabled activa la medición; desactivada las etapas se ejecutan sin envolver
+ */
+@ConfigurationProperties(prefix = "usuarios.metricas")
+public record PipelineMetricsProperties(Boolean enabled) {
+
+    public PipelineMetricsProperties {
+        enabled = enabled == null || enabled;
+    }
+}
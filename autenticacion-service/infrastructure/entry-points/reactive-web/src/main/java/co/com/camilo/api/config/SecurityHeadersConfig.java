@@ -17,9 +17,15 @@ public class SecurityHeadersConfig implements WebFilter {
         headers.set("Strict-Transport-Security", "max-age=31536000;");
         headers.set("X-Content-Type-Options", "nosniff");
         headers.set("Server", "");
-        headers.set("Cache-Control", "no-store");
-        headers.set("Pragma", "no-cache");
         headers.set("Referrer-Policy", "strict-origin-when-cross-origin");
+        // no-store solo cuando el handler no definió su propia política (p. ej. lecturas con ETag)
+        exchange.getResponse().beforeCommit(() -> {
+            if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+                headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+                headers.set(HttpHeaders.PRAGMA, "no-cache");
+            }
+            return Mono.empty();
+        });
         return chain.filter(exchange);
     }
 }
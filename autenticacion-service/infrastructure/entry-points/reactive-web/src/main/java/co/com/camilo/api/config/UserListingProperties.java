@@ -0,0 +1,29 @@
+package co.com.camilo.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "usuarios.listado")
+public record UserListingProperties(
+        Integer tamanoPagina,
+        Integer tamanoMaximo,
+        Integer tamanoLoteExportacion) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int DEFAULT_MAX_PAGE_SIZE = 500;
+    public static final int DEFAULT_EXPORT_CHUNK_SIZE = 1_000;
+
+    public UserListingProperties {
+        tamanoMaximo = tamanoMaximo == null ? DEFAULT_MAX_PAGE_SIZE : Math.max(tamanoMaximo, 1);
+        tamanoPagina = tamanoPagina == null
+                ? Math.min(DEFAULT_PAGE_SIZE, tamanoMaximo)
+                : Math.min(Math.max(tamanoPagina, 1), tamanoMaximo);
+        tamanoLoteExportacion = tamanoLoteExportacion == null
+                ? DEFAULT_EXPORT_CHUNK_SIZE
+                : Math.max(tamanoLoteExportacion, 1);
+    }
+
+    /** Tamaño solicitado por el cliente, o el de defecto si no lo indicó, acotado al máximo configurado. */
+    public int pageSize(Integer requested) {
+        return requested == null ? tamanoPagina : Math.min(requested, tamanoMaximo);
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.camilo.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "usuarios.consulta-masiva")
+public record UserLookupProperties(
+        Integer maxClaves,
+        Integer tamanoBloque) {
+
+    public static final int DEFAULT_MAX_KEYS = 10_000;
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    public UserLookupProperties {
+        maxClaves = maxClaves == null ? DEFAULT_MAX_KEYS : Math.max(maxClaves, 1);
+        tamanoBloque = tamanoBloque == null
+                ? Math.min(DEFAULT_CHUNK_SIZE, maxClaves)
+                : Math.min(Math.max(tamanoBloque, 1), maxClaves);
+    }
+}
@@ -31,7 +31,7 @@ public class GlobalExceptionHandler {
                 .bodyValue(errorResponse);
     }
 
-    private HttpStatus determineHttpStatus(Throwable ex) {
+    public HttpStatus determineHttpStatus(Throwable ex) {
         if (ex instanceof IllegalArgumentException) {
             return HttpStatus.BAD_REQUEST;        // 400
         }
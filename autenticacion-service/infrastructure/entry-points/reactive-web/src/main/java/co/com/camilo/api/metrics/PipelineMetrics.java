@@ -0,0 +1,78 @@
+package co.com.camilo.api.metrics;
+
+import co.com.camilo.api.config.PipelineMetricsProperties;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada etapa del pipeline de registro con un timer {@code usuarios.registro.etapa} etiquetado por
+ * {@code etapa} y {@code outcome} (ok o el código HTTP con el que {@link GlobalExceptionHandler} responde
+ * el error). Los timers se crean al iniciar, así que medir una etapa no busca ni registra medidores.
+ * La serialización de la respuesta queda en {@code http.server.requests}, que mide el intercambio completo.
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String TIMER_NAME = "usuarios.registro.etapa";
+
+    public enum Stage { DECODE, VALIDATION, MAPPING, PERSISTENCE }
+
+    private static final String[] OUTCOMES = { "ok", "400", "405", "409", "500" };
+
+    private final boolean enabled;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final Timer[][] timers;
+
+    public PipelineMetrics(MeterRegistry meterRegistry, PipelineMetricsProperties properties,
+                           GlobalExceptionHandler exceptionHandler) {
+        this.enabled = properties.enabled();
+        this.exceptionHandler = exceptionHandler;
+        this.timers = new Timer[Stage.values().length][OUTCOMES.length];
+        if (enabled) {
+            for (Stage stage : Stage.values()) {
+                for (int outcome = 0; outcome < OUTCOMES.length; outcome++) {
+                    timers[stage.ordinal()][outcome] = Timer.builder(TIMER_NAME)
+                            .description("Duración de cada etapa del registro de usuarios")
+                            .tag("etapa", stage.name().toLowerCase(Locale.ROOT))
+                            .tag("outcome", OUTCOMES[outcome])
+                            .publishPercentileHistogram()
+                            .register(meterRegistry);
+                }
+            }
+        }
+    }
+
+    /** Mide la etapa desde la suscripción hasta su valor o error; una etapa vacía cuenta como ok. */
+    public <T> Mono<T> timed(Stage stage, Mono<T> source) {
+        if (!enabled) {
+            return source;
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> record(stage, 0, start))
+                    .doOnError(error -> record(stage, outcome(error), start));
+        });
+    }
+
+    private void record(Stage stage, int outcome, long start) {
+        timers[stage.ordinal()][outcome].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private int outcome(Throwable error) {
+        HttpStatus status = exceptionHandler.determineHttpStatus(error);
+        return switch (status) {
+            case BAD_REQUEST -> 1;
+            case METHOD_NOT_ALLOWED -> 2;
+            case CONFLICT -> 3;
+            default -> 4;
+        };
+    }
+}
@@ -0,0 +1,304 @@
+package co.com.camilo.api.validation;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * Validador de DTOs que traduce una sola vez las anotaciones de Jakarta Validation de cada campo a una
+ * secuencia plana de chequeos. Un objeto válido no genera asignaciones: los campos numéricos se leen sin
+ * boxing, los {@code @Pattern} reutilizan un {@link Matcher} por hilo y el resultado es {@link List#of()}.
+ * Con errores devuelve los mensajes de las anotaciones en el orden de declaración de los campos.
+ *
+ * <p>Soporta {@code @NotNull}, {@code @NotBlank}, {@code @NotEmpty}, {@code @Pattern}, {@code @Size},
+ * {@code @Min} y {@code @Max}; cualquier otra restricción hace fallar la compilación del validador al
+ * iniciar, en lugar de ignorarse en silencio.
+ */
+public final class RequestValidator<T> {
+
+    private static final ClassValue<RequestValidator<?>> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected RequestValidator<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final Check[] checks;
+
+    private RequestValidator(Check[] checks) {
+        this.checks = checks;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RequestValidator<T> of(Class<T> type) {
+        return (RequestValidator<T>) VALIDATORS.get(type);
+    }
+
+    /** Mensajes de las restricciones incumplidas; vacía (sin asignar) si el objeto es válido. */
+    public List<String> validate(T target) {
+        List<String> errors = null;
+        for (Check check : checks) {
+            if (!check.test(target)) {
+                if (errors == null) {
+                    errors = new ArrayList<>(checks.length);
+                }
+                errors.add(check.message);
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    private static RequestValidator<?> compile(Class<?> type) {
+        List<Check> checks = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    compileField(field, checks);
+                }
+            }
+        }
+        return new RequestValidator<>(checks.toArray(Check[]::new));
+    }
+
+    private static void compileField(Field field, List<Check> checks) {
+        MethodHandle getter = null;
+        for (Annotation annotation : field.getDeclaredAnnotations()) {
+            if (!annotation.annotationType().getPackageName().startsWith("jakarta.validation")) {
+                continue;
+            }
+            if (getter == null) {
+                getter = getter(field);
+            }
+            checks.add(compileConstraint(field, getter, annotation));
+        }
+    }
+
+    private static Check compileConstraint(Field field, MethodHandle getter, Annotation annotation) {
+        String name = field.getName();
+        boolean integral = isIntegral(field.getType());
+
+        if (annotation instanceof NotNull notNull) {
+            return field.getType().isPrimitive() ? new Always(message(notNull.message(), name))
+                    : new NotNullCheck(getter, message(notNull.message(), name));
+        }
+        if (annotation instanceof NotBlank notBlank) {
+            return new NotBlankCheck(getter, message(notBlank.message(), name));
+        }
+        if (annotation instanceof NotEmpty notEmpty) {
+            return new SizeCheck(getter, 1, Integer.MAX_VALUE, false, message(notEmpty.message(), name));
+        }
+        if (annotation instanceof Size size) {
+            return new SizeCheck(getter, size.min(), size.max(), true, message(size.message(), name));
+        }
+        if (annotation instanceof Pattern pattern) {
+            return new PatternCheck(getter, java.util.regex.Pattern.compile(pattern.regexp(), flags(pattern.flags())),
+                    message(pattern.message(), name));
+        }
+        if (annotation instanceof Min min) {
+            return integral
+                    ? new PrimitiveRangeCheck(getter, min.value(), Long.MAX_VALUE, message(min.message(), name))
+                    : new RangeCheck(getter, min.value(), Long.MAX_VALUE, message(min.message(), name));
+        }
+        if (annotation instanceof Max max) {
+            return integral
+                    ? new PrimitiveRangeCheck(getter, Long.MIN_VALUE, max.value(), message(max.message(), name))
+                    : new RangeCheck(getter, Long.MIN_VALUE, max.value(), message(max.message(), name));
+        }
+        throw new IllegalStateException("Restricción no soportada por RequestValidator: @"
+                + annotation.annotationType().getSimpleName() + " en " + field.getDeclaringClass().getSimpleName()
+                + "." + field.getName());
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == int.class || type == long.class || type == short.class || type == byte.class;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            // Los enteros primitivos se leen como long para comparar rangos sin boxing
+            Class<?> read = isIntegral(field.getType()) ? long.class : Object.class;
+            return getter.asType(MethodType.methodType(read, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("No se puede leer el campo " + field.getName(), e);
+        }
+    }
+
+    // Sin interpolación: las plantillas {...} por defecto se reemplazan por un mensaje genérico del campo
+    private static String message(String message, String field) {
+        return message.startsWith("{") ? "El campo " + field + " no es válido" : message;
+    }
+
+    private static int flags(Pattern.Flag[] flags) {
+        int value = 0;
+        for (Pattern.Flag flag : flags) {
+            value |= flag.getValue();
+        }
+        return value;
+    }
+
+    private abstract static class Check {
+
+        final MethodHandle getter;
+        final String message;
+
+        Check(MethodHandle getter, String message) {
+            this.getter = getter;
+            this.message = message;
+        }
+
+        abstract boolean test(Object target);
+
+        Object read(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /** {@code @NotNull} sobre un primitivo: siempre se cumple. */
+    private static final class Always extends Check {
+        Always(String message) {
+            super(null, message);
+        }
+
+        @Override
+        boolean test(Object target) {
+            return true;
+        }
+    }
+
+    private static final class NotNullCheck extends Check {
+        NotNullCheck(MethodHandle getter, String message) {
+            super(getter, message);
+        }
+
+        @Override
+        boolean test(Object target) {
+            return read(target) != null;
+        }
+    }
+
+    private static final class NotBlankCheck extends Check {
+        NotBlankCheck(MethodHandle getter, String message) {
+            super(getter, message);
+        }
+
+        @Override
+        boolean test(Object target) {
+            return read(target) instanceof CharSequence value && !value.toString().isBlank();
+        }
+    }
+
+    private static final class SizeCheck extends Check {
+        private final int min;
+        private final int max;
+        private final boolean nullValid;
+
+        SizeCheck(MethodHandle getter, int min, int max, boolean nullValid, String message) {
+            super(getter, message);
+            this.min = min;
+            this.max = max;
+            this.nullValid = nullValid;
+        }
+
+        @Override
+        boolean test(Object target) {
+            Object value = read(target);
+            if (value == null) {
+                return nullValid;
+            }
+            int size = value instanceof CharSequence text ? text.length()
+                    : value instanceof Collection<?> collection ? collection.size()
+                    : value instanceof Map<?, ?> map ? map.size()
+                    : value.getClass().isArray() ? java.lang.reflect.Array.getLength(value)
+                    : -1;
+            return size >= min && size <= max;
+        }
+    }
+
+    private static final class PatternCheck extends Check {
+        private final ThreadLocal<Matcher> matcher;
+
+        PatternCheck(MethodHandle getter, java.util.regex.Pattern pattern, String message) {
+            super(getter, message);
+            this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+
+        @Override
+        boolean test(Object target) {
+            Object value = read(target);
+            if (value == null) {
+                return true;
+            }
+            Matcher current = matcher.get().reset((CharSequence) value);
+            boolean matches = current.matches();
+            current.reset("");
+            return matches;
+        }
+    }
+
+    /** {@code @Min}/{@code @Max} sobre enteros primitivos, leídos como long sin boxing. */
+    private static final class PrimitiveRangeCheck extends Check {
+        private final long min;
+        private final long max;
+
+        PrimitiveRangeCheck(MethodHandle getter, long min, long max, String message) {
+            super(getter, message);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(Object target) {
+            long value;
+            try {
+                value = (long) getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            return value >= min && value <= max;
+        }
+    }
+
+    /** {@code @Min}/{@code @Max} sobre números envueltos; null se considera válido como en Jakarta. */
+    private static final class RangeCheck extends Check {
+        private final long min;
+        private final long max;
+
+        RangeCheck(MethodHandle getter, long min, long max, String message) {
+            super(getter, message);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean test(Object target) {
+            Object value = read(target);
+            if (value == null) {
+                return true;
+            }
+            long number = ((Number) value).longValue();
+            return number >= min && number <= max;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package co.com.camilo.api.cache;
+
+import co.com.camilo.model.user.User;
+import co.com.camilo.model.user.UserPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ETags Tests")
+class ETagsTest {
+
+    private final User juan = User.builder()
+            .id(1)
+            .nombre("Juan")
+            .apellido("Pérez")
+            .correoElectronico("juan@email.com")
+            .fechaNacimiento(LocalDate.of(1990, 1, 1))
+            .direccion("Calle 123 #45-67")
+            .telefono("+57 300 123 4567")
+            .salarioBase(150000)
+            .build();
+
+    @Test
+    @DisplayName("Should produce the same weak ETag for equal users")
+    void shouldProduceSameWeakETagForEqualUsers() {
+        String etag = ETags.of(juan);
+
+        assertEquals(etag, ETags.of(juan.toBuilder().build()));
+        assertTrue(etag.startsWith("W/\"") && etag.endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when any field changes")
+    void shouldChangeETagWhenAnyFieldChanges() {
+        String etag = ETags.of(juan);
+
+        assertNotEquals(etag, ETags.of(juan.toBuilder().telefono("+57 300 000 0000").build()));
+        assertNotEquals(etag, ETags.of(juan.toBuilder().salarioBase(150001).build()));
+        assertNotEquals(etag, ETags.of(juan.toBuilder().fechaNacimiento(null).build()));
+    }
+
+    @Test
+    @DisplayName("Should not confuse values shifted between adjacent fields")
+    void shouldNotConfuseShiftedValues() {
+        User shifted = juan.toBuilder().nombre("JuanP").apellido("érez").build();
+
+        assertNotEquals(ETags.of(juan), ETags.of(shifted));
+    }
+
+    @Test
+    @DisplayName("Should include the next cursor in the page ETag")
+    void shouldIncludeNextCursorInPageETag() {
+        UserPage last = new UserPage(List.of(juan), null);
+        UserPage notLast = new UserPage(List.of(juan), 1);
+
+        assertNotEquals(ETags.of(last), ETags.of(notLast));
+    }
+}
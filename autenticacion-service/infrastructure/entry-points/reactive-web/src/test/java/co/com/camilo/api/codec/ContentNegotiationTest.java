@@ -0,0 +1,48 @@
+package co.com.camilo.api.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("ContentNegotiation Tests")
+class ContentNegotiationTest {
+
+    @Test
+    @DisplayName("Should default to JSON without an Accept header")
+    void shouldDefaultToJsonWithoutAcceptHeader() {
+        assertEquals(MediaType.APPLICATION_JSON, responseTypeFor(null));
+    }
+
+    @Test
+    @DisplayName("Should keep JSON for wildcard Accept headers")
+    void shouldKeepJsonForWildcardAcceptHeaders() {
+        assertEquals(MediaType.APPLICATION_JSON, responseTypeFor("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, responseTypeFor("application/*"));
+    }
+
+    @Test
+    @DisplayName("Should pick the binary format the client asks for")
+    void shouldPickRequestedBinaryFormat() {
+        assertEquals(MediaType.APPLICATION_CBOR, responseTypeFor("application/cbor"));
+        assertEquals(ContentNegotiation.APPLICATION_SMILE,
+                responseTypeFor("application/json;q=0.5, application/x-jackson-smile"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to JSON for unsupported formats")
+    void shouldFallBackToJsonForUnsupportedFormats() {
+        assertEquals(MediaType.APPLICATION_JSON, responseTypeFor("application/xml"));
+    }
+
+    private static MediaType responseTypeFor(String accept) {
+        MockServerRequest.Builder request = MockServerRequest.builder();
+        if (accept != null) {
+            request.header(HttpHeaders.ACCEPT, accept);
+        }
+        return ContentNegotiation.responseType(request.build());
+    }
+}
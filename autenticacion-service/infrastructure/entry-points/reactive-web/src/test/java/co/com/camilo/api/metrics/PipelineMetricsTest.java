@@ -0,0 +1,66 @@
+package co.com.camilo.api.metrics;
+
+import co.com.camilo.api.config.PipelineMetricsProperties;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PipelineMetrics Tests")
+class PipelineMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PipelineMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new PipelineMetrics(meterRegistry, new PipelineMetricsProperties(true), new GlobalExceptionHandler());
+    }
+
+    @Test
+    @DisplayName("Should record successful stages with outcome ok")
+    void shouldRecordSuccess() {
+        StepVerifier.create(metrics.timed(PipelineMetrics.Stage.VALIDATION, Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertEquals(1, timer("validation", "ok").count());
+    }
+
+    @Test
+    @DisplayName("Should tag failures with the HTTP status of the error")
+    void shouldRecordFailureStatus() {
+        StepVerifier.create(metrics.timed(PipelineMetrics.Stage.PERSISTENCE,
+                        Mono.error(new IllegalStateException("El usuario ya existe."))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(1, timer("persistence", "409").count());
+        assertEquals(0, timer("persistence", "ok").count());
+    }
+
+    @Test
+    @DisplayName("Should leave the stage untouched when disabled")
+    void shouldNotWrapWhenDisabled() {
+        SimpleMeterRegistry disabledRegistry = new SimpleMeterRegistry();
+        PipelineMetrics disabled = new PipelineMetrics(disabledRegistry, new PipelineMetricsProperties(false),
+                new GlobalExceptionHandler());
+        Mono<String> source = Mono.just("ok");
+
+        assertSame(source, disabled.timed(PipelineMetrics.Stage.DECODE, source));
+        assertTrue(disabledRegistry.getMeters().isEmpty());
+    }
+
+    private Timer timer(String stage, String outcome) {
+        return meterRegistry.get(PipelineMetrics.TIMER_NAME).tag("etapa", stage).tag("outcome", outcome).timer();
+    }
+}
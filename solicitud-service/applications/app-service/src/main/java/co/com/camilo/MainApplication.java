@@ -2,12 +2,22 @@ package co.com.camilo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
-@SpringBootApplication
-@ConfigurationPropertiesScan
+// Solo se escanean los paquetes con componentes Spring; model y usecase no tienen (ver UseCasesConfig)
+@SpringBootApplication(scanBasePackages = {"co.com.camilo.config", "co.com.camilo.api", "co.com.camilo.r2dbc",
+        "co.com.camilo.consumer"})
+@ConfigurationPropertiesScan(basePackages = {"co.com.camilo.config", "co.com.camilo.api", "co.com.camilo.r2dbc",
+        "co.com.camilo.consumer"})
 public class MainApplication {
+
+    // Pasos del arranque que conserva /actuator/startup
+    static final int STARTUP_STEPS_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(MainApplication.class, args);
+        SpringApplication application = new SpringApplication(MainApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 }
@@ -1,14 +1,28 @@
 package co.com.camilo.config;
 
-import org.springframework.context.annotation.ComponentScan;
+import co.com.camilo.model.capacidad.MotorCapacidad;
+import co.com.camilo.usecase.capacidad.CapacidadUseCase;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+// Casos de uso registrados explícitamente: evita escanear el classpath de co.com.camilo.usecase al arrancar
 @Configuration
-@ComponentScan(basePackages = "co.com.camilo.usecase",
-        includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = "^.+UseCase$")
-        },
-        useDefaultFilters = false)
+@Import({SolicitudUseCase.class, CapacidadUseCase.class})
 public class UseCasesConfig {
+
+    @Bean
+    public MotorCapacidad motorCapacidad() {
+        return new MotorCapacidad(MotorCapacidad.PORCENTAJE_ENDEUDAMIENTO_BPS, MotorCapacidad.TASA_MENSUAL_PPM,
+                SolicitudUseCase.PLAZO_MAXIMO_MESES);
+    }
+
+    // Cálculo puro de CPU: un hilo por núcleo, separado de los hilos de Netty y de Schedulers.parallel()
+    @Bean(destroyMethod = "dispose")
+    public Scheduler capacidadScheduler() {
+        return Schedulers.newParallel("capacidad", Runtime.getRuntime().availableProcessors());
+    }
 }
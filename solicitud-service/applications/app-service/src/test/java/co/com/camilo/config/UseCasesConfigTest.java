@@ -1,11 +1,17 @@
 package co.com.camilo.config;
 
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
+import co.com.camilo.usecase.capacidad.CapacidadUseCase;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class UseCasesConfigTest {
 
@@ -23,6 +29,8 @@ public class UseCasesConfigTest {
             }
 
             assertTrue(useCaseBeanFound, "No beans ending with 'Use Case' were found");
+            assertNotNull(context.getBean(SolicitudUseCase.class));
+            assertNotNull(context.getBean(CapacidadUseCase.class));
         }
     }
 
@@ -30,6 +38,16 @@ public class UseCasesConfigTest {
     @Import(UseCasesConfig.class)
     static class TestConfig {
 
+        @Bean
+        public SolicitudRepository solicitudRepository() {
+            return mock(SolicitudRepository.class);
+        }
+
+        @Bean
+        public SolicitanteGateway solicitanteGateway() {
+            return mock(SolicitanteGateway.class);
+        }
+
         @Bean
         public MyUseCase myUseCase() {
             return new MyUseCase();
@@ -0,0 +1,67 @@
+package co.com.camilo.api;
+
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.benchmark.support.InMemorySolicitanteGateway;
+import co.com.camilo.benchmark.support.InMemorySolicitudRepository;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida y vuelta por {@link WebTestClient} enlazado a las rutas, sin red. {@code rutaInexistente} mide un
+ * 404 del enrutador sin handler (piso de costo de WebFlux) y {@code registrarSolicitud} el registro completo
+ * con un gateway en memoria, sin el agrupamiento por lotes del adaptador R2DBC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouterRoundTripBenchmark {
+
+    private static final String SOLICITUD = """
+            {"documentoIdentidad":"1020304050","correoElectronico":"juan@email.com","monto":5000000.50,
+            "plazoMeses":24,"tipoPrestamo":"LIBRE_INVERSION"}""";
+
+    private WebTestClient client;
+
+    @Setup
+    public void setUp() {
+        Handler handler = new Handler(new SolicitudUseCase(new InMemorySolicitudRepository(),
+                new InMemorySolicitanteGateway()), new GlobalExceptionHandler());
+        client = WebTestClient.bindToRouterFunction(new RouterRest().routerFunction(handler)).build();
+    }
+
+    @Benchmark
+    public byte[] rutaInexistente() {
+        return client.post()
+                .uri("/api/v1/inexistente")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{}")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+    }
+
+    @Benchmark
+    public byte[] registrarSolicitud() {
+        return client.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(SOLICITUD)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.camilo.benchmark.capacidad;
+
+import co.com.camilo.model.capacidad.CapacidadEndeudamiento;
+import co.com.camilo.model.capacidad.LoteCapacidad;
+import co.com.camilo.model.capacidad.MotorCapacidad;
+import co.com.camilo.usecase.capacidad.CapacidadUseCase;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluación de capacidad de endeudamiento: un solicitante con el motor en centavos frente al mismo
+ * cálculo con {@link BigDecimal} (mismo factor redondeado a 18 decimales, así ambos dan el mismo resultado),
+ * y lotes completos por {@link CapacidadUseCase#evaluarLote}. Con el
+ * profiler {@code gc} del build, {@code gc.alloc.rate.norm} muestra los bytes asignados por evaluación
+ * (el motor solo asigna el resultado).
+ * <p>
+ * {@code ./gradlew :benchmarks:jmh -PjmhInclude=Capacidad}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CapacidadBenchmark {
+
+    private static final int PRESTAMOS_ACTIVOS = 4;
+
+    @Param({"1000", "10000"})
+    public int tamanoLote;
+
+    private MotorCapacidad motor;
+    private Scheduler scheduler;
+    private CapacidadUseCase capacidadUseCase;
+    private LoteCapacidad lote;
+
+    private final long salario = 500_000_000L;
+    private final long[] montosActivos = {100_000_000L, 250_000_000L, 40_000_000L, 900_000_000L};
+    private final int[] plazosActivos = {12, 36, 6, 60};
+    private final long montoSolicitado = 2_000_000_000L;
+    private final int plazoSolicitado = 48;
+
+    private BigDecimal[] montosActivosDecimal;
+    private BigDecimal salarioDecimal;
+    private BigDecimal montoSolicitadoDecimal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        motor = new MotorCapacidad(MotorCapacidad.PORCENTAJE_ENDEUDAMIENTO_BPS, MotorCapacidad.TASA_MENSUAL_PPM,
+                SolicitudUseCase.PLAZO_MAXIMO_MESES);
+        scheduler = Schedulers.newParallel("capacidad-bench", Runtime.getRuntime().availableProcessors());
+        capacidadUseCase = new CapacidadUseCase(null, null, motor, scheduler);
+        lote = lote(tamanoLote);
+
+        montosActivosDecimal = new BigDecimal[montosActivos.length];
+        for (int i = 0; i < montosActivos.length; i++) {
+            montosActivosDecimal[i] = BigDecimal.valueOf(montosActivos[i], 2);
+        }
+        salarioDecimal = BigDecimal.valueOf(salario, 2);
+        montoSolicitadoDecimal = BigDecimal.valueOf(montoSolicitado, 2);
+        if (evaluarCentavos().isAprobable() != evaluarBigDecimal()) {
+            throw new IllegalStateException("El motor y el cálculo en BigDecimal no coinciden");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    public CapacidadEndeudamiento evaluarCentavos() {
+        return motor.evaluar(salario, montosActivos, plazosActivos, montoSolicitado, plazoSolicitado);
+    }
+
+    @Benchmark
+    public boolean evaluarBigDecimal() {
+        BigDecimal tasa = BigDecimal.valueOf(MotorCapacidad.TASA_MENSUAL_PPM, 6);
+        BigDecimal capacidad = salarioDecimal.multiply(BigDecimal.valueOf(MotorCapacidad.PORCENTAJE_ENDEUDAMIENTO_BPS, 4))
+                .setScale(2, RoundingMode.DOWN);
+        BigDecimal activas = BigDecimal.ZERO;
+        for (int i = 0; i < montosActivosDecimal.length; i++) {
+            activas = activas.add(cuotaDecimal(montosActivosDecimal[i], tasa, plazosActivos[i]));
+        }
+        BigDecimal disponible = capacidad.subtract(activas);
+        return cuotaDecimal(montoSolicitadoDecimal, tasa, plazoSolicitado).compareTo(disponible) <= 0;
+    }
+
+    @Benchmark
+    public void evaluarLoteSecuencial() {
+        motor.evaluar(lote, 0, lote.tamano());
+    }
+
+    @Benchmark
+    public LoteCapacidad evaluarLoteParalelo() {
+        return capacidadUseCase.evaluarLote(lote).block();
+    }
+
+    private static BigDecimal cuotaDecimal(BigDecimal monto, BigDecimal tasa, int plazo) {
+        BigDecimal crecimiento = BigDecimal.ONE.add(tasa).pow(plazo, MathContext.DECIMAL128);
+        BigDecimal factor = tasa.multiply(crecimiento, MathContext.DECIMAL128)
+                .divide(crecimiento.subtract(BigDecimal.ONE), MathContext.DECIMAL128)
+                .setScale(MotorCapacidad.DECIMALES_FACTOR, RoundingMode.HALF_UP);
+        return monto.multiply(factor).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private LoteCapacidad lote(int tamano) {
+        long[] salarios = new long[tamano];
+        long[] montos = new long[tamano];
+        int[] plazos = new int[tamano];
+        int[] inicio = new int[tamano + 1];
+        long[] montosPrestamos = new long[tamano * PRESTAMOS_ACTIVOS];
+        int[] plazosPrestamos = new int[tamano * PRESTAMOS_ACTIVOS];
+        for (int i = 0; i < tamano; i++) {
+            salarios[i] = salario + i * 1_000L;
+            montos[i] = montoSolicitado;
+            plazos[i] = 12 + i % 48;
+            inicio[i + 1] = (i + 1) * PRESTAMOS_ACTIVOS;
+            System.arraycopy(montosActivos, 0, montosPrestamos, i * PRESTAMOS_ACTIVOS, PRESTAMOS_ACTIVOS);
+            System.arraycopy(plazosActivos, 0, plazosPrestamos, i * PRESTAMOS_ACTIVOS, PRESTAMOS_ACTIVOS);
+        }
+        return new LoteCapacidad(salarios, montos, plazos, inicio, montosPrestamos, plazosPrestamos);
+    }
+}
@@ -0,0 +1,17 @@
+package co.com.camilo.benchmark.support;
+
+import co.com.camilo.model.solicitante.Solicitante;
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import reactor.core.publisher.Mono;
+
+/** Gateway en memoria que da por registrado cualquier correo, para medir sin autenticacion-service. */
+public class InMemorySolicitanteGateway implements SolicitanteGateway {
+
+    @Override
+    public Mono<Solicitante> findByCorreo(String correoElectronico) {
+        return Mono.fromSupplier(() -> Solicitante.builder()
+                .id(1)
+                .correoElectronico(correoElectronico)
+                .build());
+    }
+}
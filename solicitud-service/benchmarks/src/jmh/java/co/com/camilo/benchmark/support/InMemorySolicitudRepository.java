@@ -0,0 +1,49 @@
+package co.com.camilo.benchmark.support;
+
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Gateway en memoria para medir el caso de uso y el handler sin base de datos; solo asigna ids. */
+public class InMemorySolicitudRepository implements SolicitudRepository {
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public Mono<Solicitud> save(Solicitud solicitud) {
+        return Mono.fromSupplier(() -> withId(solicitud));
+    }
+
+    @Override
+    public Flux<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        return Flux.fromIterable(solicitudes).map(this::withId);
+    }
+
+    /** No conserva las solicitudes registradas, así el benchmark no acumula memoria entre iteraciones. */
+    @Override
+    public Mono<Solicitud> findById(Long id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Solicitud> actualizar(Solicitud solicitud) {
+        return Mono.fromSupplier(() -> solicitud.toBuilder().version(solicitud.getVersion() + 1).build());
+    }
+
+    @Override
+    public Flux<Solicitud> findPrestamosActivos(String correoElectronico) {
+        return Flux.empty();
+    }
+
+    private Solicitud withId(Solicitud solicitud) {
+        return solicitud.toBuilder()
+                .id(ids.incrementAndGet())
+                .fechaCreacion(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+-- Solicitudes de préstamo. El registro inserta por lotes (INSERT ... SELECT FROM unnest(...)), por lo que
+-- la tabla no tiene disparadores por fila y el id viene de una identidad con caché de secuencia.
+CREATE TABLE IF NOT EXISTS solicitudes (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY (CACHE 100) PRIMARY KEY,
+    documento_identidad VARCHAR(20)    NOT NULL,
+    correo_electronico  VARCHAR(255)   NOT NULL,
+    monto               NUMERIC(15, 2) NOT NULL CHECK (monto > 0),
+    plazo_meses         INT            NOT NULL CHECK (plazo_meses BETWEEN 1 AND 360),
+    tipo_prestamo       VARCHAR(50)    NOT NULL,
+    estado              VARCHAR(30)    NOT NULL,
+    fecha_creacion      TIMESTAMP      NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS solicitudes_estado_id_idx ON solicitudes (estado, id);
+CREATE INDEX IF NOT EXISTS solicitudes_correo_electronico_idx ON solicitudes (correo_electronico);
@@ -0,0 +1,4 @@
+-- Concurrencia optimista: cada actualización compara y aumenta la versión
+-- (UPDATE ... WHERE id = ? AND version = ?) en lugar de tomar bloqueos de fila.
+-- Con DEFAULT constante, PostgreSQL agrega la columna sin reescribir la tabla.
+ALTER TABLE solicitudes ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,27 @@
+package co.com.camilo.model.capacidad;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Capacidad de pago de un solicitante frente a una nueva cuota. Todos los montos son mensuales y en
+ * centavos: la capacidad máxima es la fracción del salario que puede ir a deudas y la disponible es lo que
+ * queda después de las cuotas de sus préstamos activos.
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class CapacidadEndeudamiento {
+
+    private final long salarioCentavos;
+    private final long capacidadMaximaCentavos;
+    private final long cuotasActivasCentavos;
+    private final long disponibleCentavos;
+    private final long cuotaSolicitadaCentavos;
+
+    /** La nueva cuota cabe en la capacidad disponible. */
+    public boolean isAprobable() {
+        return cuotaSolicitadaCentavos <= disponibleCentavos;
+    }
+}
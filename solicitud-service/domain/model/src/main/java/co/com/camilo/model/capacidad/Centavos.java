@@ -0,0 +1,26 @@
+package co.com.camilo.model.capacidad;
+
+import java.math.BigDecimal;
+
+/**
+ * Conversión entre montos de la API ({@link BigDecimal} con hasta dos decimales, salarios en pesos) y el
+ * punto fijo en centavos ({@code long}) con que calcula {@link MotorCapacidad}. Solo se usa en los bordes.
+ */
+public final class Centavos {
+
+    private Centavos() {
+    }
+
+    /** @throws ArithmeticException si el monto tiene más de dos decimales o no cabe en un {@code long} */
+    public static long de(BigDecimal monto) {
+        return monto.movePointRight(2).longValueExact();
+    }
+
+    public static long dePesos(long pesos) {
+        return Math.multiplyExact(pesos, 100L);
+    }
+
+    public static BigDecimal aBigDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+}
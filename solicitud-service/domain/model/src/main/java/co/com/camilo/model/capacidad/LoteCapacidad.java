@@ -0,0 +1,59 @@
+package co.com.camilo.model.capacidad;
+
+/**
+ * Lote de solicitantes para {@link MotorCapacidad#evaluar(LoteCapacidad, int, int)}, guardado por columnas
+ * en arreglos primitivos: el recorrido es secuencial y no se crea un objeto por solicitante ni por préstamo.
+ * <p>
+ * Los préstamos activos del solicitante {@code i} ocupan las posiciones
+ * {@code [inicioPrestamos[i], inicioPrestamos[i + 1])} de {@code montosPrestamos} y {@code plazosPrestamos}.
+ * Los resultados se escriben en el mismo lote; cada tramo lo escribe un solo hilo.
+ */
+public final class LoteCapacidad {
+
+    final long[] salarios;
+    final long[] montosSolicitados;
+    final int[] plazosSolicitados;
+    final int[] inicioPrestamos;
+    final long[] montosPrestamos;
+    final int[] plazosPrestamos;
+
+    final long[] disponibles;
+    final long[] cuotasSolicitadas;
+
+    /** Todos los montos en centavos y los plazos en meses; {@code inicioPrestamos} tiene un elemento más que el lote. */
+    public LoteCapacidad(long[] salarios, long[] montosSolicitados, int[] plazosSolicitados,
+                         int[] inicioPrestamos, long[] montosPrestamos, int[] plazosPrestamos) {
+        int tamano = salarios.length;
+        if (montosSolicitados.length != tamano || plazosSolicitados.length != tamano
+                || inicioPrestamos.length != tamano + 1) {
+            throw new IllegalArgumentException("Las columnas del lote deben tener un elemento por solicitante");
+        }
+        if (montosPrestamos.length != plazosPrestamos.length || inicioPrestamos[tamano] != montosPrestamos.length) {
+            throw new IllegalArgumentException("Los préstamos activos no coinciden con los índices del lote");
+        }
+        this.salarios = salarios;
+        this.montosSolicitados = montosSolicitados;
+        this.plazosSolicitados = plazosSolicitados;
+        this.inicioPrestamos = inicioPrestamos;
+        this.montosPrestamos = montosPrestamos;
+        this.plazosPrestamos = plazosPrestamos;
+        this.disponibles = new long[tamano];
+        this.cuotasSolicitadas = new long[tamano];
+    }
+
+    public int tamano() {
+        return salarios.length;
+    }
+
+    public long disponibleCentavos(int solicitante) {
+        return disponibles[solicitante];
+    }
+
+    public long cuotaSolicitadaCentavos(int solicitante) {
+        return cuotasSolicitadas[solicitante];
+    }
+
+    public boolean aprobable(int solicitante) {
+        return cuotasSolicitadas[solicitante] <= disponibles[solicitante];
+    }
+}
@@ -0,0 +1,130 @@
+package co.com.camilo.model.capacidad;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Cálculo de capacidad de endeudamiento en punto fijo: montos en centavos ({@code long}), porcentaje de
+ * endeudamiento en puntos básicos y tasa en partes por millón. Las cuotas siguen el sistema francés
+ * (cuota fija) con una tasa mensual única. El factor de cuota de cada plazo se calcula una vez al crear el
+ * motor y se guarda redondeado a 18 decimales como {@code long} escalado; la cuota es el monto por ese
+ * factor redondeada al centavo (mitad hacia arriba), con aritmética entera exacta hasta
+ * {@link #MONTO_MAXIMO_CENTAVOS}. Evaluar un solicitante son solo operaciones enteras, sin asignar memoria.
+ * <p>
+ * Es inmutable y seguro entre hilos.
+ */
+public final class MotorCapacidad {
+
+    public static final int BASE_PUNTOS_BASICOS = 10_000;
+    public static final long BASE_PARTES_POR_MILLON = 1_000_000L;
+    // 35 % del salario para cuotas y 1,5 % mensual mientras no haya tasas por tipo de préstamo
+    public static final int PORCENTAJE_ENDEUDAMIENTO_BPS = 3_500;
+    public static final long TASA_MENSUAL_PPM = 15_000L;
+    // Mayor valor de la columna monto NUMERIC(15, 2): 9.999.999.999.999,99
+    public static final long MONTO_MAXIMO_CENTAVOS = 999_999_999_999_999L;
+    public static final int DECIMALES_FACTOR = 18;
+
+    private static final long MIL_MILLONES = 1_000_000_000L;
+    private static final long ESCALA_FACTOR = MIL_MILLONES * MIL_MILLONES;
+    private static final MathContext PRECISION_FACTOR = new MathContext(40);
+
+    private final long porcentajeEndeudamientoBps;
+    // Factor de cuota por plazo en unidades de 1e-18; con tasa menor al 100 % siempre es menor a 2
+    private final long[] factorCuota;
+
+    public MotorCapacidad(int porcentajeEndeudamientoBps, long tasaMensualPpm, int plazoMaximoMeses) {
+        if (porcentajeEndeudamientoBps < 0 || porcentajeEndeudamientoBps > BASE_PUNTOS_BASICOS) {
+            throw new IllegalArgumentException("El porcentaje de endeudamiento debe estar entre 0 y "
+                    + BASE_PUNTOS_BASICOS + " puntos básicos");
+        }
+        if (tasaMensualPpm < 0 || tasaMensualPpm >= BASE_PARTES_POR_MILLON) {
+            throw new IllegalArgumentException("La tasa mensual debe estar entre 0 y menos de "
+                    + BASE_PARTES_POR_MILLON + " partes por millón");
+        }
+        if (plazoMaximoMeses < 1) {
+            throw new IllegalArgumentException("El plazo máximo debe ser de al menos un mes");
+        }
+        this.porcentajeEndeudamientoBps = porcentajeEndeudamientoBps;
+        this.factorCuota = new long[plazoMaximoMeses + 1];
+        for (int plazo = 1; plazo <= plazoMaximoMeses; plazo++) {
+            factorCuota[plazo] = factorCuota(tasaMensualPpm, plazo)
+                    .setScale(DECIMALES_FACTOR, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+        }
+    }
+
+    /** Factor del sistema francés {@code r / (1 - (1 + r)^-n)}, o {@code 1 / n} sin tasa, con 40 dígitos. */
+    public static BigDecimal factorCuota(long tasaMensualPpm, int plazoMeses) {
+        if (tasaMensualPpm == 0) {
+            return BigDecimal.ONE.divide(BigDecimal.valueOf(plazoMeses), PRECISION_FACTOR);
+        }
+        BigDecimal tasa = BigDecimal.valueOf(tasaMensualPpm, 6);
+        BigDecimal crecimiento = BigDecimal.ONE.add(tasa).pow(plazoMeses, PRECISION_FACTOR);
+        return tasa.multiply(crecimiento, PRECISION_FACTOR)
+                .divide(crecimiento.subtract(BigDecimal.ONE, PRECISION_FACTOR), PRECISION_FACTOR);
+    }
+
+    /** Cuota mensual en centavos, redondeada al centavo más cercano. */
+    public long cuota(long montoCentavos, int plazoMeses) {
+        if (plazoMeses < 1 || plazoMeses >= factorCuota.length) {
+            throw new IllegalArgumentException("El plazo debe estar entre 1 y " + (factorCuota.length - 1) + " meses");
+        }
+        if (montoCentavos < 0 || montoCentavos > MONTO_MAXIMO_CENTAVOS) {
+            throw new IllegalArgumentException("El monto debe estar entre 0 y " + MONTO_MAXIMO_CENTAVOS + " centavos");
+        }
+        return multiplicarRedondeado(montoCentavos, factorCuota[plazoMeses]);
+    }
+
+    /** Fracción del salario mensual que puede destinarse a cuotas, truncada al centavo. */
+    public long capacidadMaxima(long salarioCentavos) {
+        // Separado en cociente y resto para no desbordar con salarios grandes
+        return salarioCentavos / BASE_PUNTOS_BASICOS * porcentajeEndeudamientoBps
+                + salarioCentavos % BASE_PUNTOS_BASICOS * porcentajeEndeudamientoBps / BASE_PUNTOS_BASICOS;
+    }
+
+    /** Suma de las cuotas de los préstamos en {@code [desde, hasta)}. */
+    public long cuotas(long[] montosCentavos, int[] plazosMeses, int desde, int hasta) {
+        long total = 0;
+        for (int i = desde; i < hasta; i++) {
+            total += cuota(montosCentavos[i], plazosMeses[i]);
+        }
+        return total;
+    }
+
+    public CapacidadEndeudamiento evaluar(long salarioCentavos, long[] montosActivos, int[] plazosActivos,
+                                          long montoSolicitadoCentavos, int plazoSolicitadoMeses) {
+        long capacidadMaxima = capacidadMaxima(salarioCentavos);
+        long cuotasActivas = cuotas(montosActivos, plazosActivos, 0, montosActivos.length);
+        return new CapacidadEndeudamiento(salarioCentavos, capacidadMaxima, cuotasActivas,
+                capacidadMaxima - cuotasActivas, cuota(montoSolicitadoCentavos, plazoSolicitadoMeses));
+    }
+
+    /** Evalúa los solicitantes {@code [desde, hasta)} del lote y escribe sus resultados en el mismo lote. */
+    public void evaluar(LoteCapacidad lote, int desde, int hasta) {
+        long[] salarios = lote.salarios;
+        int[] inicio = lote.inicioPrestamos;
+        for (int i = desde; i < hasta; i++) {
+            long cuotasActivas = cuotas(lote.montosPrestamos, lote.plazosPrestamos, inicio[i], inicio[i + 1]);
+            lote.disponibles[i] = capacidadMaxima(salarios[i]) - cuotasActivas;
+            lote.cuotasSolicitadas[i] = cuota(lote.montosSolicitados[i], lote.plazosSolicitados[i]);
+        }
+    }
+
+    /**
+     * {@code monto * factor / 1e18} redondeado mitad hacia arriba, exacto sin pasar por 128 bits: ambos se
+     * parten en dígitos de base 1e9 y ningún producto parcial supera {@code Long.MAX_VALUE} mientras el monto
+     * no pase de {@link #MONTO_MAXIMO_CENTAVOS} y el factor sea menor a 2.
+     */
+    static long multiplicarRedondeado(long monto, long factor) {
+        long montoAlto = monto / MIL_MILLONES;
+        long montoBajo = monto % MIL_MILLONES;
+        long factorAlto = factor / MIL_MILLONES;
+        long factorBajo = factor % MIL_MILLONES;
+        long medio = montoAlto * factorBajo + montoBajo * factorAlto;
+        long bajo = medio % MIL_MILLONES * MIL_MILLONES + montoBajo * factorBajo;
+        long cuota = montoAlto * factorAlto + medio / MIL_MILLONES + bajo / ESCALA_FACTOR;
+        return bajo % ESCALA_FACTOR >= ESCALA_FACTOR / 2 ? cuota + 1 : cuota;
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.camilo.model.exception;
+
+/**
+ * Otro proceso modificó la solicitud entre la lectura y la escritura (la versión ya no coincide).
+ * No se toman bloqueos de fila: el cliente debe releer el recurso y reintentar.
+ */
+public class ConcurrenciaOptimistaException extends RuntimeException {
+
+    public ConcurrenciaOptimistaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.camilo.model.exception;
+
+/**
+ * El servicio no puede aceptar más trabajo por ahora (por ejemplo, la cola de escritura está llena).
+ * Es reintentable: el cliente debe volver a intentar pasado un momento.
+ */
+public class ServicioSaturadoException extends RuntimeException {
+
+    public ServicioSaturadoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.camilo.model.solicitante;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Usuario registrado en autenticacion-service que puede radicar solicitudes. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class Solicitante {
+
+    private int id;
+    private String nombre;
+    private String apellido;
+    private String correoElectronico;
+    private int salarioBase;
+}
@@ -0,0 +1,14 @@
+package co.com.camilo.model.solicitante.gateways;
+
+import co.com.camilo.model.solicitante.Solicitante;
+import reactor.core.publisher.Mono;
+
+public interface SolicitanteGateway {
+
+    /**
+     * Busca al solicitante en el registro de usuarios; vacío si el correo no está registrado. Si el
+     * registro no responde a tiempo o no admite más consultas falla con
+     * {@link co.com.camilo.model.exception.ServicioSaturadoException}.
+     */
+    Mono<Solicitante> findByCorreo(String correoElectronico);
+}
@@ -0,0 +1,39 @@
+package co.com.camilo.model.solicitud;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ciclo de vida de una solicitud. Las transiciones permitidas son explícitas: un asesor toma la
+ * solicitud pendiente, la aprueba, la rechaza o la devuelve a la cola. Aprobada y rechazada son finales.
+ */
+public enum EstadoSolicitud {
+    PENDIENTE_REVISION,
+    EN_REVISION,
+    APROBADA,
+    RECHAZADA;
+
+    private static final Map<EstadoSolicitud, Set<EstadoSolicitud>> TRANSICIONES = new EnumMap<>(EstadoSolicitud.class);
+
+    static {
+        TRANSICIONES.put(PENDIENTE_REVISION, EnumSet.of(EN_REVISION, RECHAZADA));
+        TRANSICIONES.put(EN_REVISION, EnumSet.of(APROBADA, RECHAZADA, PENDIENTE_REVISION));
+        TRANSICIONES.put(APROBADA, EnumSet.noneOf(EstadoSolicitud.class));
+        TRANSICIONES.put(RECHAZADA, EnumSet.noneOf(EstadoSolicitud.class));
+    }
+
+    public Set<EstadoSolicitud> siguientes() {
+        return Collections.unmodifiableSet(TRANSICIONES.get(this));
+    }
+
+    public boolean permiteTransicionA(EstadoSolicitud destino) {
+        return destino != null && TRANSICIONES.get(this).contains(destino);
+    }
+
+    public boolean esFinal() {
+        return TRANSICIONES.get(this).isEmpty();
+    }
+}
@@ -2,13 +2,40 @@ package co.com.camilo.model.solicitud;
 import lombok.Builder;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-//import lombok.NoArgsConstructor;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
-//@NoArgsConstructor
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
 public class Solicitud {
+
+    private Long id;
+    private String documentoIdentidad;
+    private String correoElectronico;
+    private BigDecimal monto;
+    private int plazoMeses;
+    private String tipoPrestamo;
+    private EstadoSolicitud estado;
+    private LocalDateTime fechaCreacion;
+    // Versión para concurrencia optimista; la incrementa la persistencia en cada actualización
+    private Long version;
+
+    /**
+     * Devuelve una copia en el estado destino, conservando la versión leída para que la escritura
+     * solo se aplique si nadie la cambió entretanto.
+     *
+     * @throws IllegalStateException si el ciclo de vida no permite la transición
+     */
+    public Solicitud transicionarA(EstadoSolicitud destino) {
+        if (estado == null || !estado.permiteTransicionA(destino)) {
+            throw new IllegalStateException("La solicitud no puede pasar de " + estado + " a " + destino);
+        }
+        return toBuilder().estado(destino).build();
+    }
 }
@@ -1,4 +1,33 @@
 package co.com.camilo.model.solicitud.gateways;
 
+import co.com.camilo.model.solicitud.Solicitud;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
 public interface SolicitudRepository {
+
+    /**
+     * Registra la solicitud. La implementación puede agruparla con otras concurrentes en una sola
+     * inserción; si no puede aceptar más trabajo falla con
+     * {@link co.com.camilo.model.exception.ServicioSaturadoException}.
+     */
+    Mono<Solicitud> save(Solicitud solicitud);
+
+    /** Registra las solicitudes en lote y las emite en el mismo orden con su id asignado. */
+    Flux<Solicitud> saveAll(List<Solicitud> solicitudes);
+
+    /** Lee la solicitud con su versión vigente; vacío si no existe. */
+    Mono<Solicitud> findById(Long id);
+
+    /**
+     * Actualiza la solicitud solo si su versión sigue siendo la leída y la emite con la versión nueva.
+     * Si otro proceso la modificó entretanto falla con
+     * {@link co.com.camilo.model.exception.ConcurrenciaOptimistaException}.
+     */
+    Mono<Solicitud> actualizar(Solicitud solicitud);
+
+    /** Préstamos aprobados del solicitante cuyo plazo aún no termina; son los que comprometen su capacidad. */
+    Flux<Solicitud> findPrestamosActivos(String correoElectronico);
 }
@@ -0,0 +1,151 @@
+package co.com.camilo.model.capacidad;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MotorCapacidad Tests")
+class MotorCapacidadTest {
+
+    // 1 % mensual
+    private final MotorCapacidad motor = new MotorCapacidad(3_500, 10_000L, 360);
+
+    @Nested
+    @DisplayName("Cuotas")
+    class CuotaTests {
+
+        @Test
+        @DisplayName("Debe calcular la cuota fija del sistema francés al centavo")
+        void shouldComputeFrenchInstallment() {
+            // Act: 1.000.000 a 12 meses al 1 % mensual
+            long cuota = motor.cuota(Centavos.de(new BigDecimal("1000000.00")), 12);
+
+            // Assert
+            assertEquals(new BigDecimal("88848.79"), Centavos.aBigDecimal(cuota));
+        }
+
+        @Test
+        @DisplayName("Sin tasa la cuota es el monto dividido en el plazo")
+        void shouldSplitEvenlyWithoutInterest() {
+            // Arrange
+            MotorCapacidad sinTasa = new MotorCapacidad(3_500, 0L, 360);
+
+            // Act & Assert
+            assertEquals(10_000L, sinTasa.cuota(120_000L, 12));
+        }
+
+        @Test
+        @DisplayName("Debe coincidir con la fórmula en BigDecimal hasta el límite de NUMERIC(15, 2)")
+        void shouldMatchBigDecimalAtNumericLimit() {
+            long[] montos = {MotorCapacidad.MONTO_MAXIMO_CENTAVOS, 987_654_321_098_765L, 123_456_789L, 15L, 1L};
+            long[] tasas = {0L, 10_000L, MotorCapacidad.TASA_MENSUAL_PPM, 999_999L};
+            int[] plazos = {1, 2, 3, 12, 60, 360};
+
+            for (long tasa : tasas) {
+                MotorCapacidad motorTasa = new MotorCapacidad(3_500, tasa, 360);
+                for (int plazo : plazos) {
+                    BigDecimal factor = MotorCapacidad.factorCuota(tasa, plazo);
+                    BigDecimal factorRedondeado = factor.setScale(MotorCapacidad.DECIMALES_FACTOR, RoundingMode.HALF_UP);
+                    for (long monto : montos) {
+                        // Act
+                        long cuota = motorTasa.cuota(monto, plazo);
+
+                        // Assert: igual al cálculo en BigDecimal con el mismo factor y a menos de un centavo del exacto
+                        BigDecimal esperada = BigDecimal.valueOf(monto).multiply(factorRedondeado)
+                                .setScale(0, RoundingMode.HALF_UP);
+                        assertEquals(esperada.longValueExact(), cuota, () -> "tasa " + tasa + ", plazo " + plazo);
+                        BigDecimal exacta = BigDecimal.valueOf(monto).multiply(factor);
+                        assertTrue(exacta.subtract(BigDecimal.valueOf(cuota)).abs().compareTo(BigDecimal.ONE) < 0);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Debe rechazar montos fuera del rango de la columna")
+        void shouldRejectAmountsOutsideColumnRange() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> motor.cuota(MotorCapacidad.MONTO_MAXIMO_CENTAVOS + 1, 12));
+            assertThrows(IllegalArgumentException.class, () -> motor.cuota(-1L, 12));
+        }
+
+        @Test
+        @DisplayName("Debe rechazar plazos fuera de la tabla")
+        void shouldRejectTermsOutsideTable() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> motor.cuota(100_000L, 0));
+            assertThrows(IllegalArgumentException.class, () -> motor.cuota(100_000L, 361));
+        }
+    }
+
+    @Nested
+    @DisplayName("Capacidad")
+    class CapacidadTests {
+
+        @Test
+        @DisplayName("Debe descontar las cuotas activas de la fracción permitida del salario")
+        void shouldSubtractActiveInstallments() {
+            // Arrange
+            long salario = Centavos.dePesos(5_000_000);
+            long[] montos = {Centavos.de(new BigDecimal("1000000.00"))};
+            int[] plazos = {12};
+
+            // Act
+            CapacidadEndeudamiento capacidad = motor.evaluar(salario, montos, plazos,
+                    Centavos.de(new BigDecimal("20000000.00")), 60);
+
+            // Assert
+            assertEquals(175_000_000L, capacidad.getCapacidadMaximaCentavos());
+            assertEquals(8_884_879L, capacidad.getCuotasActivasCentavos());
+            assertEquals(175_000_000L - 8_884_879L, capacidad.getDisponibleCentavos());
+            assertEquals(44_488_895L, capacidad.getCuotaSolicitadaCentavos());
+            assertTrue(capacidad.isAprobable());
+        }
+
+        @Test
+        @DisplayName("El lote debe dar los mismos resultados que la evaluación individual")
+        void batchShouldMatchSingleEvaluation() {
+            // Arrange: el primero sin préstamos activos, el segundo con dos
+            LoteCapacidad lote = new LoteCapacidad(
+                    new long[]{Centavos.dePesos(2_000_000), Centavos.dePesos(3_000_000)},
+                    new long[]{Centavos.dePesos(10_000_000), Centavos.dePesos(30_000_000)},
+                    new int[]{36, 24},
+                    new int[]{0, 0, 2},
+                    new long[]{Centavos.dePesos(5_000_000), Centavos.dePesos(8_000_000)},
+                    new int[]{12, 48});
+
+            // Act
+            motor.evaluar(lote, 0, lote.tamano());
+
+            // Assert
+            for (int i = 0; i < lote.tamano(); i++) {
+                int desde = lote.inicioPrestamos[i];
+                int hasta = lote.inicioPrestamos[i + 1];
+                CapacidadEndeudamiento individual = motor.evaluar(lote.salarios[i],
+                        Arrays.copyOfRange(lote.montosPrestamos, desde, hasta),
+                        Arrays.copyOfRange(lote.plazosPrestamos, desde, hasta),
+                        lote.montosSolicitados[i], lote.plazosSolicitados[i]);
+                assertEquals(individual.getDisponibleCentavos(), lote.disponibleCentavos(i));
+                assertEquals(individual.getCuotaSolicitadaCentavos(), lote.cuotaSolicitadaCentavos(i));
+                assertEquals(individual.isAprobable(), lote.aprobable(i));
+            }
+            assertTrue(lote.aprobable(0));
+            assertFalse(lote.aprobable(1));
+        }
+
+        @Test
+        @DisplayName("Debe rechazar columnas de lote inconsistentes")
+        void shouldRejectInconsistentBatch() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> new LoteCapacidad(
+                    new long[]{1L}, new long[]{1L}, new int[]{12}, new int[]{0, 1}, new long[0], new int[0]));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package co.com.camilo.model.solicitud;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Solicitud Model Tests")
+class SolicitudTest {
+
+    private static Solicitud solicitudEn(EstadoSolicitud estado) {
+        return Solicitud.builder()
+                .id(7L)
+                .documentoIdentidad("1020304050")
+                .correoElectronico("ana@email.com")
+                .monto(new BigDecimal("1500000.00"))
+                .plazoMeses(24)
+                .tipoPrestamo("LIBRE_INVERSION")
+                .estado(estado)
+                .version(3L)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Transiciones de estado")
+    class TransicionTests {
+
+        @Test
+        @DisplayName("Debe pasar de pendiente a en revisión conservando la versión leída")
+        void shouldMoveToReviewKeepingVersion() {
+            // Arrange
+            Solicitud pendiente = solicitudEn(EstadoSolicitud.PENDIENTE_REVISION);
+
+            // Act
+            Solicitud enRevision = pendiente.transicionarA(EstadoSolicitud.EN_REVISION);
+
+            // Assert
+            assertEquals(EstadoSolicitud.EN_REVISION, enRevision.getEstado());
+            assertEquals(3L, enRevision.getVersion());
+            assertEquals(7L, enRevision.getId());
+            assertEquals(EstadoSolicitud.PENDIENTE_REVISION, pendiente.getEstado());
+        }
+
+        @Test
+        @DisplayName("Debe permitir aprobar una solicitud en revisión")
+        void shouldApproveFromReview() {
+            // Act
+            Solicitud aprobada = solicitudEn(EstadoSolicitud.EN_REVISION).transicionarA(EstadoSolicitud.APROBADA);
+
+            // Assert
+            assertEquals(EstadoSolicitud.APROBADA, aprobada.getEstado());
+        }
+
+        @Test
+        @DisplayName("No debe aprobar una solicitud que nadie ha revisado")
+        void shouldRejectApprovalFromPending() {
+            // Arrange
+            Solicitud pendiente = solicitudEn(EstadoSolicitud.PENDIENTE_REVISION);
+
+            // Act & Assert
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> pendiente.transicionarA(EstadoSolicitud.APROBADA));
+            assertTrue(ex.getMessage().contains("PENDIENTE_REVISION"));
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = EstadoSolicitud.class, names = {"APROBADA", "RECHAZADA"})
+        @DisplayName("Los estados finales no admiten transiciones")
+        void finalStatesHaveNoTransitions(EstadoSolicitud estado) {
+            // Assert
+            assertTrue(estado.esFinal());
+            for (EstadoSolicitud destino : EstadoSolicitud.values()) {
+                assertThrows(IllegalStateException.class, () -> solicitudEn(estado).transicionarA(destino));
+            }
+        }
+
+        @Test
+        @DisplayName("No debe aceptar un destino nulo ni una solicitud sin estado")
+        void shouldRejectNulls() {
+            // Act & Assert
+            assertFalse(EstadoSolicitud.EN_REVISION.permiteTransicionA(null));
+            assertThrows(IllegalStateException.class,
+                    () -> solicitudEn(null).transicionarA(EstadoSolicitud.EN_REVISION));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package co.com.camilo.usecase.capacidad;
+
+import co.com.camilo.model.capacidad.CapacidadEndeudamiento;
+import co.com.camilo.model.capacidad.Centavos;
+import co.com.camilo.model.capacidad.LoteCapacidad;
+import co.com.camilo.model.capacidad.MotorCapacidad;
+import co.com.camilo.model.solicitante.Solicitante;
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CapacidadUseCase {
+
+    // Solicitantes por tarea del lote: suficiente para amortizar el cambio de hilo
+    static final int TAMANO_TRAMO = 512;
+
+    private final SolicitudRepository solicitudRepository;
+    private final SolicitanteGateway solicitanteGateway;
+    private final MotorCapacidad motorCapacidad;
+    private final Scheduler capacidadScheduler;
+
+    /**
+     * Capacidad del solicitante frente a la cuota de la solicitud, con su salario del registro de usuarios
+     * y las cuotas de sus otros préstamos activos. Vacío si la solicitud no existe.
+     */
+    public Mono<CapacidadEndeudamiento> evaluarSolicitud(Long id) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("El id de la solicitud no puede ser nulo"));
+        }
+        return solicitudRepository.findById(id)
+                .flatMap(solicitud -> Mono.zip(
+                                solicitanteGateway.findByCorreo(solicitud.getCorreoElectronico())
+                                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(
+                                                "El solicitante " + solicitud.getCorreoElectronico() + " no está registrado"))),
+                                solicitudRepository.findPrestamosActivos(solicitud.getCorreoElectronico())
+                                        .filter(prestamo -> !id.equals(prestamo.getId()))
+                                        .collectList())
+                        .map(datos -> evaluar(solicitud, datos.getT1(), datos.getT2())));
+    }
+
+    /**
+     * Evalúa el lote en tramos de {@value #TAMANO_TRAMO} solicitantes, en paralelo sobre el scheduler de
+     * capacidad (acotado a sus hilos), y lo emite con los resultados escritos.
+     */
+    public Mono<LoteCapacidad> evaluarLote(LoteCapacidad lote) {
+        int tamano = lote.tamano();
+        int tramos = (tamano + TAMANO_TRAMO - 1) / TAMANO_TRAMO;
+        return Flux.range(0, tramos)
+                .parallel()
+                .runOn(capacidadScheduler)
+                .doOnNext(tramo -> motorCapacidad.evaluar(lote, tramo * TAMANO_TRAMO,
+                        Math.min(tamano, (tramo + 1) * TAMANO_TRAMO)))
+                .sequential()
+                .then(Mono.just(lote));
+    }
+
+    private CapacidadEndeudamiento evaluar(Solicitud solicitud, Solicitante solicitante, List<Solicitud> activos) {
+        long[] montos = new long[activos.size()];
+        int[] plazos = new int[activos.size()];
+        for (int i = 0; i < montos.length; i++) {
+            montos[i] = Centavos.de(activos.get(i).getMonto());
+            plazos[i] = activos.get(i).getPlazoMeses();
+        }
+        return motorCapacidad.evaluar(Centavos.dePesos(solicitante.getSalarioBase()), montos, plazos,
+                Centavos.de(solicitud.getMonto()), solicitud.getPlazoMeses());
+    }
+}
@@ -1,6 +1,105 @@
 package co.com.camilo.usecase.solicitud;
 
+import co.com.camilo.model.exception.ConcurrenciaOptimistaException;
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
 @RequiredArgsConstructor
 public class SolicitudUseCase {
+
+    public static final int PLAZO_MINIMO_MESES = 1;
+    public static final int PLAZO_MAXIMO_MESES = 360;
+    // Reintentos ante una carrera entre la lectura y el UPDATE condicional; cada uno relee y revalida
+    static final int MAX_REINTENTOS_CONFLICTO = 3;
+    static final Duration ESPERA_INICIAL_CONFLICTO = Duration.ofMillis(10);
+
+    private final SolicitudRepository solicitudRepository;
+    private final SolicitanteGateway solicitanteGateway;
+
+    /** Valida la solicitud, verifica que el solicitante esté registrado y la registra como pendiente de revisión. */
+    public Mono<Solicitud> registrarSolicitud(Solicitud solicitud) {
+        return validateSolicitud(solicitud)
+                .flatMap(valid -> solicitanteGateway.findByCorreo(valid.getCorreoElectronico())
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(
+                                "El solicitante " + valid.getCorreoElectronico() + " no está registrado")))
+                        .thenReturn(valid))
+                .map(valid -> valid.toBuilder()
+                        .id(null)
+                        .estado(EstadoSolicitud.PENDIENTE_REVISION)
+                        .build())
+                .flatMap(solicitudRepository::save);
+    }
+
+    /**
+     * Lleva la solicitud al estado indicado si su ciclo de vida lo permite, sin bloquear la fila: la
+     * escritura solo se aplica si la versión no cambió desde la lectura.
+     * <p>
+     * Con {@code versionEsperada} el cliente fija la versión sobre la que decidió; si ya no es la vigente
+     * falla con {@link ConcurrenciaOptimistaException} para que relea. Sin ella, una carrera con otro
+     * asesor se reintenta releyendo y revalidando la transición, de modo que si el otro ya la cerró el
+     * resultado es una transición inválida y no una sobrescritura.
+     *
+     * @return la solicitud actualizada con su nueva versión, o vacío si no existe
+     */
+    public Mono<Solicitud> cambiarEstado(Long id, EstadoSolicitud destino, Long versionEsperada) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("El id de la solicitud no puede ser nulo"));
+        }
+        if (destino == null) {
+            return Mono.error(new IllegalArgumentException("El estado destino no puede ser nulo"));
+        }
+
+        Mono<Solicitud> intento = Mono.defer(() -> solicitudRepository.findById(id))
+                .flatMap(actual -> {
+                    if (versionEsperada != null && !versionEsperada.equals(actual.getVersion())) {
+                        return Mono.error(new ConcurrenciaOptimistaException("La solicitud " + id
+                                + " cambió (versión " + actual.getVersion() + "); vuelva a consultarla"));
+                    }
+                    return solicitudRepository.actualizar(actual.transicionarA(destino));
+                });
+        if (versionEsperada != null) {
+            return intento;
+        }
+        return intento.retryWhen(Retry.backoff(MAX_REINTENTOS_CONFLICTO, ESPERA_INICIAL_CONFLICTO)
+                .filter(ConcurrenciaOptimistaException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Mono<Solicitud> validateSolicitud(Solicitud solicitud) {
+        if (solicitud == null) {
+            return Mono.error(new IllegalArgumentException("La solicitud no puede ser nula"));
+        }
+        if (isBlank(solicitud.getDocumentoIdentidad())) {
+            return Mono.error(new IllegalArgumentException("El documento de identidad no puede ser nulo o vacío"));
+        }
+        if (isBlank(solicitud.getCorreoElectronico())) {
+            return Mono.error(new IllegalArgumentException("El email no puede ser nulo o vacío"));
+        }
+        if (isBlank(solicitud.getTipoPrestamo())) {
+            return Mono.error(new IllegalArgumentException("El tipo de préstamo no puede ser nulo o vacío"));
+        }
+        if (solicitud.getMonto() == null || solicitud.getMonto().compareTo(BigDecimal.ZERO) <= 0) {
+            return Mono.error(new IllegalArgumentException("El monto debe ser mayor a 0"));
+        }
+        if (solicitud.getMonto().scale() > 2) {
+            return Mono.error(new IllegalArgumentException("El monto admite como máximo dos decimales"));
+        }
+        if (solicitud.getPlazoMeses() < PLAZO_MINIMO_MESES || solicitud.getPlazoMeses() > PLAZO_MAXIMO_MESES) {
+            return Mono.error(new IllegalArgumentException("El plazo debe estar entre " + PLAZO_MINIMO_MESES
+                    + " y " + PLAZO_MAXIMO_MESES + " meses"));
+        }
+        return Mono.just(solicitud);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
 }
@@ -0,0 +1,177 @@
+package co.com.camilo.usecase.capacidad;
+
+import co.com.camilo.model.capacidad.LoteCapacidad;
+import co.com.camilo.model.capacidad.MotorCapacidad;
+import co.com.camilo.model.solicitante.Solicitante;
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CapacidadUseCase Tests")
+class CapacidadUseCaseTest {
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    @Mock
+    private SolicitanteGateway solicitanteGateway;
+
+    // 1 % mensual para que las cuotas esperadas sean fáciles de verificar
+    private final MotorCapacidad motor = new MotorCapacidad(3_500, 10_000L, 360);
+
+    private Scheduler scheduler;
+
+    private CapacidadUseCase capacidadUseCase;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newParallel("capacidad-test", 4);
+        capacidadUseCase = new CapacidadUseCase(solicitudRepository, solicitanteGateway, motor, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    private static Solicitud solicitud(Long id, String monto, int plazoMeses, EstadoSolicitud estado) {
+        return Solicitud.builder()
+                .id(id)
+                .documentoIdentidad("1020304050")
+                .correoElectronico("juan@email.com")
+                .monto(new BigDecimal(monto))
+                .plazoMeses(plazoMeses)
+                .tipoPrestamo("LIBRE_INVERSION")
+                .estado(estado)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Evaluar solicitud")
+    class EvaluarSolicitudTests {
+
+        @Test
+        @DisplayName("Should discount the other active loans from the applicant's capacity")
+        void shouldDiscountOtherActiveLoans() {
+            // Arrange
+            when(solicitudRepository.findById(7L))
+                    .thenReturn(Mono.just(solicitud(7L, "20000000.00", 60, EstadoSolicitud.EN_REVISION)));
+            when(solicitanteGateway.findByCorreo("juan@email.com"))
+                    .thenReturn(Mono.just(Solicitante.builder().id(3).correoElectronico("juan@email.com")
+                            .salarioBase(5_000_000).build()));
+            when(solicitudRepository.findPrestamosActivos("juan@email.com")).thenReturn(Flux.just(
+                    solicitud(3L, "1000000.00", 12, EstadoSolicitud.APROBADA),
+                    solicitud(7L, "20000000.00", 60, EstadoSolicitud.APROBADA)));
+
+            // Act & Assert
+            StepVerifier.create(capacidadUseCase.evaluarSolicitud(7L))
+                    .expectNextMatches(capacidad -> capacidad.getCapacidadMaximaCentavos() == 175_000_000L
+                            && capacidad.getCuotasActivasCentavos() == 8_884_879L
+                            && capacidad.getCuotaSolicitadaCentavos() == 44_488_895L
+                            && capacidad.isAprobable())
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should fail when the applicant is not registered")
+        void shouldFailWhenApplicantIsNotRegistered() {
+            // Arrange
+            when(solicitudRepository.findById(7L))
+                    .thenReturn(Mono.just(solicitud(7L, "20000000.00", 60, EstadoSolicitud.EN_REVISION)));
+            when(solicitanteGateway.findByCorreo("juan@email.com")).thenReturn(Mono.empty());
+            when(solicitudRepository.findPrestamosActivos("juan@email.com")).thenReturn(Flux.empty());
+
+            // Act & Assert
+            StepVerifier.create(capacidadUseCase.evaluarSolicitud(7L))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should complete empty when the application does not exist")
+        void shouldCompleteEmptyWhenApplicationDoesNotExist() {
+            // Arrange
+            when(solicitudRepository.findById(99L)).thenReturn(Mono.empty());
+
+            // Act & Assert
+            StepVerifier.create(capacidadUseCase.evaluarSolicitud(99L))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Evaluar lote")
+    class EvaluarLoteTests {
+
+        private LoteCapacidad lote(int tamano) {
+            long[] salarios = new long[tamano];
+            long[] montos = new long[tamano];
+            int[] plazos = new int[tamano];
+            int[] inicio = new int[tamano + 1];
+            long[] montosActivos = new long[tamano];
+            int[] plazosActivos = new int[tamano];
+            for (int i = 0; i < tamano; i++) {
+                salarios[i] = 100_000_000L + i * 10_000L;
+                montos[i] = 500_000_000L + i * 50_000L;
+                plazos[i] = 12 + i % 48;
+                inicio[i + 1] = i + 1;
+                montosActivos[i] = 200_000_000L;
+                plazosActivos[i] = 24;
+            }
+            return new LoteCapacidad(salarios, montos, plazos, inicio, montosActivos, plazosActivos);
+        }
+
+        @Test
+        @DisplayName("Should produce the same results as a sequential evaluation across chunks")
+        void shouldMatchSequentialEvaluation() {
+            // Arrange: más de dos tramos, el último incompleto
+            int tamano = CapacidadUseCase.TAMANO_TRAMO * 2 + 100;
+            LoteCapacidad paralelo = lote(tamano);
+            LoteCapacidad secuencial = lote(tamano);
+            motor.evaluar(secuencial, 0, tamano);
+
+            // Act
+            StepVerifier.create(capacidadUseCase.evaluarLote(paralelo))
+                    .expectNext(paralelo)
+                    .verifyComplete();
+
+            // Assert
+            for (int i = 0; i < tamano; i++) {
+                assertEquals(secuencial.disponibleCentavos(i), paralelo.disponibleCentavos(i));
+                assertEquals(secuencial.cuotaSolicitadaCentavos(i), paralelo.cuotaSolicitadaCentavos(i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should emit an empty batch without scheduling work")
+        void shouldEmitEmptyBatch() {
+            // Arrange
+            LoteCapacidad vacio = lote(0);
+
+            // Act & Assert
+            StepVerifier.create(capacidadUseCase.evaluarLote(vacio))
+                    .expectNext(vacio)
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package co.com.camilo.usecase.solicitud;
+
+import co.com.camilo.model.exception.ConcurrenciaOptimistaException;
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import co.com.camilo.model.solicitante.Solicitante;
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitudUseCase Tests")
+class SolicitudUseCaseTest {
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    @Mock
+    private SolicitanteGateway solicitanteGateway;
+
+    @InjectMocks
+    private SolicitudUseCase solicitudUseCase;
+
+    private Solicitud validSolicitud;
+
+    @BeforeEach
+    void setUp() {
+        validSolicitud = Solicitud.builder()
+                .documentoIdentidad("1020304050")
+                .correoElectronico("juan@email.com")
+                .monto(new BigDecimal("5000000.00"))
+                .plazoMeses(24)
+                .tipoPrestamo("LIBRE_INVERSION")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Registrar solicitud")
+    class RegistrarSolicitudTests {
+
+        private void stubSolicitanteRegistrado() {
+            when(solicitanteGateway.findByCorreo("juan@email.com"))
+                    .thenReturn(Mono.just(Solicitante.builder().id(3).correoElectronico("juan@email.com").build()));
+        }
+
+        @Test
+        @DisplayName("Should register a valid application as pending review")
+        void shouldRegisterAsPendingReview() {
+            // Arrange
+            stubSolicitanteRegistrado();
+            when(solicitudRepository.save(any(Solicitud.class)))
+                    .thenAnswer(invocation -> Mono.just(invocation.<Solicitud>getArgument(0).toBuilder().id(1L).build()));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud))
+                    .expectNextMatches(saved -> saved.getId() == 1L
+                            && saved.getEstado() == EstadoSolicitud.PENDIENTE_REVISION)
+                    .verifyComplete();
+            verify(solicitudRepository).save(argThat(solicitud -> solicitud.getEstado() == EstadoSolicitud.PENDIENTE_REVISION));
+        }
+
+        @Test
+        @DisplayName("Should ignore a client supplied state and id")
+        void shouldIgnoreClientState() {
+            // Arrange
+            stubSolicitanteRegistrado();
+            Solicitud tampered = validSolicitud.toBuilder().id(99L).estado(EstadoSolicitud.APROBADA).build();
+            when(solicitudRepository.save(any(Solicitud.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(tampered))
+                    .expectNextMatches(saved -> saved.getId() == null
+                            && saved.getEstado() == EstadoSolicitud.PENDIENTE_REVISION)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject non positive amounts")
+        void shouldRejectNonPositiveAmount() {
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud.toBuilder().monto(BigDecimal.ZERO).build()))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+            verify(solicitudRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject amounts with more than two decimals")
+        void shouldRejectAmountScale() {
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud.toBuilder().monto(new BigDecimal("10.001")).build()))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should reject terms outside the allowed range")
+        void shouldRejectTerm() {
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud.toBuilder().plazoMeses(0).build()))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud.toBuilder().plazoMeses(361).build()))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should reject a missing identity document")
+        void shouldRejectMissingDocument() {
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud.toBuilder().documentoIdentidad(" ").build()))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should propagate saturation from the repository")
+        void shouldPropagateSaturation() {
+            // Arrange
+            stubSolicitanteRegistrado();
+            when(solicitudRepository.save(any(Solicitud.class)))
+                    .thenReturn(Mono.error(new ServicioSaturadoException("Cola llena")));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud))
+                    .expectError(ServicioSaturadoException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should reject an applicant missing from the user registry")
+        void shouldRejectUnregisteredApplicant() {
+            // Arrange
+            when(solicitanteGateway.findByCorreo("juan@email.com")).thenReturn(Mono.empty());
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud))
+                    .expectErrorMatches(ex -> ex instanceof IllegalArgumentException
+                            && ex.getMessage().contains("no está registrado"))
+                    .verify();
+            verify(solicitudRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should not register when the user registry is unavailable")
+        void shouldPropagateRegistryUnavailability() {
+            // Arrange
+            when(solicitanteGateway.findByCorreo("juan@email.com"))
+                    .thenReturn(Mono.error(new ServicioSaturadoException("Registro de usuarios sin respuesta")));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.registrarSolicitud(validSolicitud))
+                    .expectError(ServicioSaturadoException.class)
+                    .verify();
+            verify(solicitudRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cambiar estado")
+    class CambiarEstadoTests {
+
+        private Solicitud enEstado(EstadoSolicitud estado, long version) {
+            return validSolicitud.toBuilder().id(9L).estado(estado).version(version).build();
+        }
+
+        private void stubActualizarIncrementaVersion() {
+            when(solicitudRepository.actualizar(any(Solicitud.class)))
+                    .thenAnswer(invocation -> {
+                        Solicitud s = invocation.getArgument(0);
+                        return Mono.just(s.toBuilder().version(s.getVersion() + 1).build());
+                    });
+        }
+
+        @Test
+        @DisplayName("Should apply an allowed transition on the version it read")
+        void shouldApplyAllowedTransition() {
+            // Arrange
+            when(solicitudRepository.findById(9L)).thenReturn(Mono.just(enEstado(EstadoSolicitud.PENDIENTE_REVISION, 4)));
+            stubActualizarIncrementaVersion();
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.EN_REVISION, 4L))
+                    .expectNextMatches(s -> s.getEstado() == EstadoSolicitud.EN_REVISION && s.getVersion() == 5L)
+                    .verifyComplete();
+            verify(solicitudRepository).actualizar(argThat(s -> s.getVersion() == 4L));
+        }
+
+        @Test
+        @DisplayName("Should reject a transition the lifecycle does not allow")
+        void shouldRejectInvalidTransition() {
+            // Arrange
+            when(solicitudRepository.findById(9L)).thenReturn(Mono.just(enEstado(EstadoSolicitud.RECHAZADA, 2)));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.APROBADA, null))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+            verify(solicitudRepository, never()).actualizar(any(Solicitud.class));
+        }
+
+        @Test
+        @DisplayName("Should fail without writing when the client's version is stale")
+        void shouldFailOnStaleExpectedVersion() {
+            // Arrange
+            when(solicitudRepository.findById(9L)).thenReturn(Mono.just(enEstado(EstadoSolicitud.EN_REVISION, 6)));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.APROBADA, 5L))
+                    .expectError(ConcurrenciaOptimistaException.class)
+                    .verify();
+            verify(solicitudRepository, never()).actualizar(any(Solicitud.class));
+        }
+
+        @Test
+        @DisplayName("Should not retry a conflict when the client fixed the version")
+        void shouldNotRetryWithExpectedVersion() {
+            // Arrange
+            when(solicitudRepository.findById(9L)).thenReturn(Mono.just(enEstado(EstadoSolicitud.EN_REVISION, 6)));
+            when(solicitudRepository.actualizar(any(Solicitud.class)))
+                    .thenReturn(Mono.error(new ConcurrenciaOptimistaException("conflicto")));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.APROBADA, 6L))
+                    .expectError(ConcurrenciaOptimistaException.class)
+                    .verify();
+            verify(solicitudRepository, times(1)).findById(9L);
+        }
+
+        @Test
+        @DisplayName("Should re-read and revalidate after losing a race")
+        void shouldRereadAfterLosingRace() {
+            // Arrange: otro asesor la toma entre la lectura y la escritura
+            when(solicitudRepository.findById(9L))
+                    .thenReturn(Mono.just(enEstado(EstadoSolicitud.PENDIENTE_REVISION, 1)))
+                    .thenReturn(Mono.just(enEstado(EstadoSolicitud.EN_REVISION, 2)));
+            when(solicitudRepository.actualizar(any(Solicitud.class)))
+                    .thenReturn(Mono.error(new ConcurrenciaOptimistaException("conflicto")));
+
+            // Act & Assert: al releer, la misma transición ya no es válida
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.EN_REVISION, null))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+            verify(solicitudRepository, times(2)).findById(9L);
+        }
+
+        @Test
+        @DisplayName("Should surface the conflict once retries are exhausted")
+        void shouldSurfaceConflictAfterRetries() {
+            // Arrange
+            when(solicitudRepository.findById(9L)).thenReturn(Mono.just(enEstado(EstadoSolicitud.EN_REVISION, 3)));
+            when(solicitudRepository.actualizar(any(Solicitud.class)))
+                    .thenReturn(Mono.error(new ConcurrenciaOptimistaException("conflicto")));
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.RECHAZADA, null))
+                    .expectError(ConcurrenciaOptimistaException.class)
+                    .verify();
+            verify(solicitudRepository, times(SolicitudUseCase.MAX_REINTENTOS_CONFLICTO + 1)).findById(9L);
+        }
+
+        @Test
+        @DisplayName("Should complete empty when the application does not exist")
+        void shouldCompleteEmptyWhenMissing() {
+            // Arrange
+            when(solicitudRepository.findById(9L)).thenReturn(Mono.empty());
+
+            // Act & Assert
+            StepVerifier.create(solicitudUseCase.cambiarEstado(9L, EstadoSolicitud.EN_REVISION, null))
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.camilo.r2dbc;
+
+import co.com.camilo.r2dbc.entity.SolicitudEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+public interface SolicitudReactiveRepository extends ReactiveCrudRepository<SolicitudEntity, Long>,
+        ReactiveQueryByExampleExecutor<SolicitudEntity> {
+
+    // Usa el índice de correo; los préstamos de un solicitante son pocos, el resto se filtra sobre esas filas
+    @Query("""
+            SELECT * FROM solicitudes
+            WHERE correo_electronico = $1
+              AND estado = 'APROBADA'
+              AND fecha_creacion + make_interval(months => plazo_meses) > now()
+            """)
+    Flux<SolicitudEntity> findPrestamosActivos(String correoElectronico);
+}
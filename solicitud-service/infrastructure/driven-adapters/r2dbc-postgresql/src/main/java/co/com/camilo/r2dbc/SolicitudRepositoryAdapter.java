@@ -0,0 +1,154 @@
+package co.com.camilo.r2dbc;
+
+import co.com.camilo.model.exception.ConcurrenciaOptimistaException;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.model.solicitud.gateways.SolicitudRepository;
+import co.com.camilo.r2dbc.batch.MicroBatchWriter;
+import co.com.camilo.r2dbc.config.SolicitudIntakeProperties;
+import co.com.camilo.r2dbc.entity.SolicitudEntity;
+import co.com.camilo.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.camilo.r2dbc.mapper.SolicitudEntityMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class SolicitudRepositoryAdapter extends ReactiveAdapterOperations<
+        Solicitud,
+        SolicitudEntity,
+        Long,
+        SolicitudReactiveRepository
+        > implements SolicitudRepository, DisposableBean {
+
+    // Una sola sentencia para cualquier tamaño de lote (un arreglo por columna), así el driver la prepara
+    // una vez por conexión. unnest conserva el orden de los arreglos y RETURNING el de inserción.
+    static final String INSERT_BATCH_SQL = """
+            INSERT INTO solicitudes (documento_identidad, correo_electronico, monto, plazo_meses, tipo_prestamo, estado)
+            SELECT * FROM unnest($1::varchar[], $2::varchar[], $3::numeric[], $4::int[], $5::varchar[], $6::varchar[])
+            RETURNING *
+            """;
+    // Lotes de saveAll; acota el tamaño de los arreglos enviados en una sola sentencia
+    public static final int MAX_BATCH_SIZE = 5_000;
+
+    private final DatabaseClient databaseClient;
+    private final MicroBatchWriter<SolicitudEntity> intakeWriter;
+
+    public SolicitudRepositoryAdapter(SolicitudReactiveRepository repository, DatabaseClient databaseClient,
+                                      SolicitudIntakeProperties intakeProperties,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        super(repository, SolicitudEntityMapper::toData, SolicitudEntityMapper::toEntity);
+        this.databaseClient = databaseClient;
+        this.intakeWriter = new MicroBatchWriter<>("solicitudes", this::insertBatch,
+                intakeProperties.maxBatchSize(), intakeProperties.maxDelay(), intakeProperties.queueCapacity(),
+                intakeProperties.maxConcurrentBatches(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /** Las solicitudes nuevas se agrupan con las concurrentes en una sola inserción. */
+    @Override
+    protected Mono<SolicitudEntity> saveData(SolicitudEntity data) {
+        return data.getId() == null ? intakeWriter.submit(data) : super.saveData(data);
+    }
+
+    /**
+     * Lee del primario y no de una réplica: la versión leída alimenta el UPDATE condicional y una réplica
+     * atrasada solo produciría conflictos.
+     */
+    @Override
+    public Mono<Solicitud> findById(Long id) {
+        return repository.findById(id).map(this::toEntity);
+    }
+
+    /**
+     * El UPDATE lleva {@code WHERE id = ? AND version = ?} (ver {@link SolicitudEntity#getVersion()}); si
+     * no afecta filas es que otro proceso la modificó y se informa como conflicto reintentable.
+     */
+    @Override
+    public Mono<Solicitud> actualizar(Solicitud solicitud) {
+        if (solicitud.getId() == null || solicitud.getVersion() == null) {
+            return Mono.error(new IllegalArgumentException("Solo se actualizan solicitudes leídas con id y versión"));
+        }
+        return save(solicitud)
+                .onErrorMap(OptimisticLockingFailureException.class, ex -> new ConcurrenciaOptimistaException(
+                        "La solicitud " + solicitud.getId() + " fue modificada por otro proceso"));
+    }
+
+    // Del primario, como findById: alimenta decisiones de aprobación
+    @Override
+    public Flux<Solicitud> findPrestamosActivos(String correoElectronico) {
+        return repository.findPrestamosActivos(correoElectronico).map(this::toEntity);
+    }
+
+    @Override
+    public Flux<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        return saveAllEntities(Flux.fromIterable(solicitudes));
+    }
+
+    @Override
+    protected Flux<SolicitudEntity> saveData(Flux<SolicitudEntity> data) {
+        return data.buffer(MAX_BATCH_SIZE)
+                .concatMap(this::insertBatch);
+    }
+
+    Flux<SolicitudEntity> insertBatch(List<SolicitudEntity> batch) {
+        if (batch.isEmpty()) {
+            return Flux.empty();
+        }
+
+        int size = batch.size();
+        String[] documentos = new String[size];
+        String[] correos = new String[size];
+        BigDecimal[] montos = new BigDecimal[size];
+        Integer[] plazos = new Integer[size];
+        String[] tipos = new String[size];
+        String[] estados = new String[size];
+        for (int i = 0; i < size; i++) {
+            SolicitudEntity entity = batch.get(i);
+            documentos[i] = entity.getDocumentoIdentidad();
+            correos[i] = entity.getCorreoElectronico();
+            montos[i] = entity.getMonto();
+            plazos[i] = entity.getPlazoMeses();
+            tipos[i] = entity.getTipoPrestamo();
+            estados[i] = entity.getEstado();
+        }
+
+        return databaseClient.sql(INSERT_BATCH_SQL)
+                .bind(0, documentos)
+                .bind(1, correos)
+                .bind(2, montos)
+                .bind(3, plazos)
+                .bind(4, tipos)
+                .bind(5, estados)
+                .map(SolicitudRepositoryAdapter::readEntity)
+                .all();
+    }
+
+    static SolicitudEntity readEntity(Readable row) {
+        return SolicitudEntity.builder()
+                .id(row.get("id", Long.class))
+                .documentoIdentidad(row.get("documento_identidad", String.class))
+                .correoElectronico(row.get("correo_electronico", String.class))
+                .monto(row.get("monto", BigDecimal.class))
+                .plazoMeses(row.get("plazo_meses", Integer.class))
+                .tipoPrestamo(row.get("tipo_prestamo", String.class))
+                .estado(row.get("estado", String.class))
+                .fechaCreacion(row.get("fecha_creacion", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        intakeWriter.dispose();
+    }
+}
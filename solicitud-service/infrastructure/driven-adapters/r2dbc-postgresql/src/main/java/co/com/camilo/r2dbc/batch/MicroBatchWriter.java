@@ -0,0 +1,160 @@
+package co.com.camilo.r2dbc.batch;
+
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Agrupa escrituras concurrentes en lotes: cada {@link #submit} entra a una cola acotada y se escribe junto
+ * con las demás en cuanto el lote llega a {@code maxBatchSize} o pasa {@code maxDelay} desde el primer
+ * elemento. Como mucho {@code maxConcurrentBatches} lotes se escriben a la vez.
+ * <p>
+ * La cola solo se vacía a medida que terminan los lotes en curso, así que cuando la base (o su pool) no
+ * da abasto la cola se llena y {@link #submit} falla de inmediato con {@link ServicioSaturadoException},
+ * en lugar de acumular memoria y latencia sin límite.
+ * <p>
+ * Si un lote falla se reintenta cada elemento por separado, para que una fila inválida no arrastre al
+ * resto. {@code writer} debe emitir un resultado por elemento y en el mismo orden.
+ * <p>
+ * Cancelar el {@link Mono} de {@link #submit} no retira el elemento: si ya estaba en la cola, se escribe igual.
+ */
+@Slf4j
+public class MicroBatchWriter<T> implements Disposable {
+
+    private final Function<List<T>, Flux<T>> writer;
+    private final Sinks.Many<Pending<T>> queue;
+    private final Disposable subscription;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final DistributionSummary batchSize;
+    private final Timer writeTimer;
+    private final Counter rejected;
+
+    public MicroBatchWriter(String name, Function<List<T>, Flux<T>> writer, int maxBatchSize, Duration maxDelay,
+                            int queueCapacity, int maxConcurrentBatches, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.queue = Sinks.many().unicast().onBackpressureBuffer(Queues.<Pending<T>>get(queueCapacity).get());
+
+        this.batchSize = DistributionSummary.builder("r2dbc.batch.size")
+                .description("Elementos escritos por lote")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("r2dbc.batch.write")
+                .description("Duración de la escritura de cada lote")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("r2dbc.batch.rejected")
+                .description("Escrituras rechazadas por cola llena")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("r2dbc.batch.pending", pending, AtomicInteger::get)
+                .description("Escrituras aceptadas que aún no terminan")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        // fairBackpressure: solo se piden elementos a la cola cuando hay capacidad para escribir otro lote
+        this.subscription = queue.asFlux()
+                .bufferTimeout(maxBatchSize, maxDelay, true)
+                .flatMap(this::write, maxConcurrentBatches)
+                .subscribe(null, error -> log.error("El escritor por lotes {} se detuvo", name, error));
+    }
+
+    /** Encola el elemento; completa con su resultado cuando se escriba el lote que lo contiene. */
+    public Mono<T> submit(T item) {
+        return Mono.defer(() -> {
+            Sinks.One<T> result = Sinks.one();
+            Sinks.EmitResult emitted;
+            // La cola admite un solo productor a la vez
+            synchronized (queue) {
+                emitted = queue.tryEmitNext(new Pending<>(item, result));
+            }
+            if (emitted == Sinks.EmitResult.FAIL_OVERFLOW) {
+                rejected.increment();
+                return Mono.error(new ServicioSaturadoException("El servicio está saturado, intente de nuevo"));
+            }
+            if (emitted.isFailure()) {
+                return Mono.error(new IllegalStateException("El escritor por lotes no acepta más escrituras"));
+            }
+            pending.incrementAndGet();
+            return result.asMono();
+        });
+    }
+
+    private Mono<Void> write(List<Pending<T>> batch) {
+        List<T> items = new ArrayList<>(batch.size());
+        for (Pending<T> entry : batch) {
+            items.add(entry.item());
+        }
+        batchSize.record(batch.size());
+        long start = System.nanoTime();
+        return Flux.defer(() -> writer.apply(items))
+                .collectList()
+                .doOnNext(results -> {
+                    writeTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                    complete(batch, results);
+                })
+                .then()
+                .onErrorResume(error -> batch.size() == 1
+                        ? Mono.fromRunnable(() -> fail(batch.get(0), error))
+                        : Flux.fromIterable(batch).concatMap(this::writeOne).then());
+    }
+
+    private Mono<Void> writeOne(Pending<T> entry) {
+        return Flux.defer(() -> writer.apply(List.of(entry.item())))
+                .collectList()
+                .doOnNext(results -> complete(List.of(entry), results))
+                .then()
+                .onErrorResume(error -> Mono.fromRunnable(() -> fail(entry, error)));
+    }
+
+    private void complete(List<Pending<T>> batch, List<T> results) {
+        if (results.size() != batch.size()) {
+            IllegalStateException error = new IllegalStateException(
+                    "El lote devolvió " + results.size() + " resultados para " + batch.size() + " elementos");
+            batch.forEach(entry -> fail(entry, error));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            pending.decrementAndGet();
+            batch.get(i).result().tryEmitValue(results.get(i));
+        }
+    }
+
+    private void fail(Pending<T> entry, Throwable error) {
+        pending.decrementAndGet();
+        entry.result().tryEmitError(error);
+    }
+
+    /** Deja de aceptar escrituras y termina de escribir las que ya estaban en la cola. */
+    @Override
+    public void dispose() {
+        synchronized (queue) {
+            queue.tryEmitComplete();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return subscription.isDisposed();
+    }
+
+    private record Pending<T>(T item, Sinks.One<T> result) {
+    }
+}
@@ -0,0 +1,28 @@
+package co.com.camilo.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Agrupación de los registros de solicitudes concurrentes en inserciones por lote.
+ *
+ * @param maxBatchSize         filas por inserción; el lote sale al llenarse o al cumplirse {@code maxDelay}
+ * @param maxDelay             espera máxima de una solicitud antes de que su lote se escriba
+ * @param queueCapacity        solicitudes en espera; con la cola llena se responde 503 en lugar de encolar
+ * @param maxConcurrentBatches inserciones simultáneas; debe quedar por debajo del tamaño del pool
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.intake")
+public record SolicitudIntakeProperties(
+        Integer maxBatchSize,
+        Duration maxDelay,
+        Integer queueCapacity,
+        Integer maxConcurrentBatches) {
+
+    public SolicitudIntakeProperties {
+        maxBatchSize = maxBatchSize == null ? 500 : Math.max(maxBatchSize, 1);
+        maxDelay = maxDelay == null ? Duration.ofMillis(5) : maxDelay;
+        queueCapacity = queueCapacity == null ? 10_000 : Math.max(queueCapacity, maxBatchSize);
+        maxConcurrentBatches = maxConcurrentBatches == null ? 4 : Math.max(maxConcurrentBatches, 1);
+    }
+}
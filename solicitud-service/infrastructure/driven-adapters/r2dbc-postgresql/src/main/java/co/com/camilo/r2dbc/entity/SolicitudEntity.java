@@ -0,0 +1,37 @@
+package co.com.camilo.r2dbc.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table("solicitudes")
+public class SolicitudEntity {
+
+    @Id
+    private Long id;
+    @Column("documento_identidad")
+    private String documentoIdentidad;
+    @Column("correo_electronico")
+    private String correoElectronico;
+    private BigDecimal monto;
+    @Column("plazo_meses")
+    private int plazoMeses;
+    @Column("tipo_prestamo")
+    private String tipoPrestamo;
+    private String estado;
+    @Column("fecha_creacion")
+    private LocalDateTime fechaCreacion;
+    // Con @Version, repository.save de una fila existente emite UPDATE ... WHERE id = ? AND version = ?
+    @Version
+    private Long version;
+}
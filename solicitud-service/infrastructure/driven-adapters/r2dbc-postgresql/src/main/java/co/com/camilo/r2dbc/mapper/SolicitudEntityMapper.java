@@ -0,0 +1,40 @@
+package co.com.camilo.r2dbc.mapper;
+
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.r2dbc.entity.SolicitudEntity;
+
+/** Conversión explícita entre el modelo y la fila de {@code solicitudes}; el estado se guarda por nombre. */
+public final class SolicitudEntityMapper {
+
+    private SolicitudEntityMapper() {
+    }
+
+    public static SolicitudEntity toData(Solicitud solicitud) {
+        return SolicitudEntity.builder()
+                .id(solicitud.getId())
+                .documentoIdentidad(solicitud.getDocumentoIdentidad())
+                .correoElectronico(solicitud.getCorreoElectronico())
+                .monto(solicitud.getMonto())
+                .plazoMeses(solicitud.getPlazoMeses())
+                .tipoPrestamo(solicitud.getTipoPrestamo())
+                .estado(solicitud.getEstado() != null ? solicitud.getEstado().name() : null)
+                .fechaCreacion(solicitud.getFechaCreacion())
+                .version(solicitud.getVersion())
+                .build();
+    }
+
+    public static Solicitud toEntity(SolicitudEntity entity) {
+        return Solicitud.builder()
+                .id(entity.getId())
+                .documentoIdentidad(entity.getDocumentoIdentidad())
+                .correoElectronico(entity.getCorreoElectronico())
+                .monto(entity.getMonto())
+                .plazoMeses(entity.getPlazoMeses())
+                .tipoPrestamo(entity.getTipoPrestamo())
+                .estado(entity.getEstado() != null ? EstadoSolicitud.valueOf(entity.getEstado()) : null)
+                .fechaCreacion(entity.getFechaCreacion())
+                .version(entity.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package co.com.camilo.r2dbc.metrics;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Forma normalizada de una sentencia SQL para agrupar sus métricas: literales y parámetros pasan a
+ * {@code ?}, los espacios se colapsan y las listas {@code VALUES (...), (...)} de los INSERT multi-fila
+ * quedan en una sola tupla, de modo que un lote de 10 o de 5000 filas cuentan como la misma sentencia.
+ */
+public final class StatementFingerprint {
+
+    static final int MAX_LENGTH = 200;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern BIND_MARKER = Pattern.compile("\\$\\d+|(?<!:):[A-Za-z_]\\w*");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern REPEATED_TUPLES = Pattern.compile("(\\([?, ]*\\))(?:\\s*,\\s*\\([?, ]*\\))+");
+
+    private StatementFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = BIND_MARKER.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = REPEATED_TUPLES.matcher(normalized).replaceAll("$1, ...");
+        normalized = normalized.toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) + "..." : normalized;
+    }
+
+    /** Identificador corto y estable de la sentencia normalizada (FNV-1a de 32 bits en hexadecimal). */
+    public static String id(String fingerprint) {
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            hash ^= fingerprint.charAt(i);
+            hash *= 0x01000193;
+        }
+        return String.format("%08x", hash);
+    }
+}
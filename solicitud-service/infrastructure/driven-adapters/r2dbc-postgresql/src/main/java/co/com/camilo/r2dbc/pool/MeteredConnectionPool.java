@@ -0,0 +1,56 @@
+package co.com.camilo.r2dbc.pool;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConnectionPool} que mide la espera para obtener una conexión ({@code r2dbc.pool.acquire}) y,
+ * en modo adaptativo, la entrega a la {@link AdaptiveAllocationStrategy} y publica su límite actual
+ * ({@code r2dbc.pool.adaptive.limit}).
+ */
+public class MeteredConnectionPool extends ConnectionPool {
+
+    private final Timer acquireTimer;
+    private final AdaptiveAllocationStrategy allocationStrategy;
+
+    public MeteredConnectionPool(ConnectionPoolConfiguration configuration, String poolName,
+                                 MeterRegistry meterRegistry, AdaptiveAllocationStrategy allocationStrategy) {
+        super(configuration);
+        this.allocationStrategy = allocationStrategy;
+        this.acquireTimer = Timer.builder("r2dbc.pool.acquire")
+                .description("Espera para obtener una conexión del pool")
+                .tag("name", poolName)
+                .register(meterRegistry);
+
+        if (allocationStrategy != null) {
+            Gauge.builder("r2dbc.pool.adaptive.limit", allocationStrategy, AdaptiveAllocationStrategy::limit)
+                    .description("Límite de conexiones fijado por el modo adaptativo")
+                    .tag("name", poolName)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return super.create()
+                    .doOnSuccess(connection -> recordAcquire(System.nanoTime() - start))
+                    .doOnError(error -> recordAcquire(System.nanoTime() - start));
+        });
+    }
+
+    private void recordAcquire(long nanos) {
+        acquireTimer.record(nanos, TimeUnit.NANOSECONDS);
+        if (allocationStrategy != null) {
+            allocationStrategy.recordAcquireLatency(nanos);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package co.com.camilo.r2dbc.routing;
+
+import co.com.camilo.r2dbc.config.PostgresqlConnectionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envía al primario todas las consultas, salvo las marcadas con {@link ReadOnlyRouting}, que se
+ * reparten en round-robin entre las réplicas sanas. Si ninguna réplica está sana (caída o con
+ * retraso mayor a {@code max-lag}) la lectura vuelve al primario.
+ */
+public class ReadWriteRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private final ConnectionFactory writer;
+    private final Map<String, ConnectionFactory> readers;
+    private final PostgresqlConnectionProperties.ReadRouting routing;
+    private final List<ReplicaHealth> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReadWriteRoutingConnectionFactory(ConnectionFactory writer, Map<String, ConnectionFactory> readers,
+                                             PostgresqlConnectionProperties.ReadRouting routing,
+                                             MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.readers = readers;
+        this.routing = routing;
+
+        List<ReplicaHealth> health = new ArrayList<>(readers.size());
+        readers.forEach((name, reader) -> health.add(new ReplicaHealth(name, reader, routing.maxLag(),
+                routing.healthCheckTimeout(), meterRegistry)));
+        this.replicas = List.copyOf(health);
+
+        this.replicaReads = Counter.builder("r2dbc.routing.reads")
+                .description("Lecturas marcadas según el destino que las atendió")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("r2dbc.routing.reads")
+                .description("Lecturas marcadas según el destino que las atendió")
+                .tag("target", "primary")
+                .register(meterRegistry);
+
+        setDefaultTargetConnectionFactory(writer);
+        setTargetConnectionFactories(new HashMap<>(readers));
+        afterPropertiesSet();
+    }
+
+    /** Inicia las verificaciones periódicas de las réplicas. */
+    public void start() {
+        replicas.forEach(replica -> replica.start(routing.healthCheckInterval()));
+    }
+
+    List<ReplicaHealth> replicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> {
+            if (!ReadOnlyRouting.isReadOnly(context)) {
+                return Mono.empty();
+            }
+            ReplicaHealth replica = nextHealthyReplica();
+            if (replica == null) {
+                primaryReads.increment();
+                return Mono.empty();
+            }
+            replicaReads.increment();
+            return Mono.just(replica.name());
+        });
+    }
+
+    private ReplicaHealth nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int offset = 0; offset < size; offset++) {
+            ReplicaHealth replica = replicas.get((start + offset) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(ReplicaHealth::stop);
+        readers.values().forEach(ReadWriteRoutingConnectionFactory::dispose);
+        dispose(writer);
+    }
+
+    private static void dispose(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.camilo.r2dbc;
+
+import co.com.camilo.model.exception.ConcurrenciaOptimistaException;
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.r2dbc.config.SolicitudIntakeProperties;
+import co.com.camilo.r2dbc.entity.SolicitudEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SolicitudRepositoryAdapterTest {
+
+    private SolicitudReactiveRepository repository;
+    private SolicitudRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = Mockito.mock(SolicitudReactiveRepository.class);
+        ObjectProvider<MeterRegistry> meterRegistry = Mockito.mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        adapter = new SolicitudRepositoryAdapter(repository, Mockito.mock(DatabaseClient.class),
+                new SolicitudIntakeProperties(null, null, null, null), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.destroy();
+    }
+
+    private static Solicitud leida(long version) {
+        return Solicitud.builder()
+                .id(5L)
+                .documentoIdentidad("1020304050")
+                .correoElectronico("ana@email.com")
+                .monto(new BigDecimal("800000.00"))
+                .plazoMeses(12)
+                .tipoPrestamo("LIBRE_INVERSION")
+                .estado(EstadoSolicitud.EN_REVISION)
+                .version(version)
+                .build();
+    }
+
+    @Test
+    void actualizarSendsReadVersionAndReturnsNewOne() {
+        when(repository.save(any(SolicitudEntity.class))).thenAnswer(invocation -> {
+            SolicitudEntity entity = invocation.getArgument(0);
+            return Mono.just(SolicitudEntity.builder()
+                    .id(entity.getId())
+                    .estado(entity.getEstado())
+                    .version(entity.getVersion() + 1)
+                    .build());
+        });
+
+        StepVerifier.create(adapter.actualizar(leida(2L).transicionarA(EstadoSolicitud.APROBADA)))
+                .expectNextMatches(s -> s.getVersion() == 3L && s.getEstado() == EstadoSolicitud.APROBADA)
+                .verifyComplete();
+        verify(repository).save(argThat((SolicitudEntity e) -> e.getVersion() == 2L && "APROBADA".equals(e.getEstado())));
+    }
+
+    @Test
+    void actualizarMapsStaleVersionToRetryableConflict() {
+        when(repository.save(any(SolicitudEntity.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("0 filas actualizadas")));
+
+        StepVerifier.create(adapter.actualizar(leida(2L)))
+                .expectError(ConcurrenciaOptimistaException.class)
+                .verify();
+    }
+
+    @Test
+    void actualizarRequiresIdAndVersion() {
+        StepVerifier.create(adapter.actualizar(leida(2L).toBuilder().version(null).build()))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(repository, never()).save(any(SolicitudEntity.class));
+    }
+}
@@ -0,0 +1,122 @@
+package co.com.camilo.r2dbc.batch;
+
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MicroBatchWriter Tests")
+class MicroBatchWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private MicroBatchWriter<Integer> writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.dispose();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("Should coalesce concurrent submissions into full batches")
+        void shouldCoalesceIntoBatches() {
+            // Arrange
+            writer = writer(recording(items -> Flux.fromIterable(items).map(item -> item * 10)), 5, Duration.ofSeconds(5), 100);
+
+            // Act & Assert
+            StepVerifier.create(Flux.range(1, 10).flatMap(item -> writer.submit(item)).collectList())
+                    .assertNext(results -> assertEquals(List.of(10, 20, 30, 40, 50, 60, 70, 80, 90, 100),
+                            results.stream().sorted().toList()))
+                    .verifyComplete();
+            assertEquals(List.of(5, 5), batches.stream().map(List::size).toList());
+            assertEquals(10.0, meterRegistry.get("r2dbc.batch.size").summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("Should flush a partial batch once the delay expires")
+        void shouldFlushOnDelay() {
+            // Arrange
+            writer = writer(recording(Flux::fromIterable), 100, Duration.ofMillis(20), 100);
+
+            // Act & Assert
+            StepVerifier.create(writer.submit(7))
+                    .expectNext(7)
+                    .verifyComplete();
+            assertEquals(List.of(List.of(7)), batches);
+        }
+
+        @Test
+        @DisplayName("Should retry items one by one when a batch fails")
+        void shouldIsolateFailingItem() {
+            // Arrange
+            writer = writer(recording(items -> items.size() > 1 || items.get(0) == 3
+                    ? Flux.error(new IllegalArgumentException("fila inválida"))
+                    : Flux.fromIterable(items)), 5, Duration.ofSeconds(5), 100);
+
+            // Act: las cinco se encolan antes de que se forme el lote
+            List<Mono<Integer>> submissions = IntStream.rangeClosed(1, 5)
+                    .mapToObj(item -> writer.submit(item).cache())
+                    .toList();
+            submissions.forEach(submission -> submission.subscribe(null, error -> { }));
+
+            // Assert
+            StepVerifier.create(submissions.get(0)).expectNext(1).verifyComplete();
+            StepVerifier.create(submissions.get(2)).expectError(IllegalArgumentException.class).verify();
+            StepVerifier.create(submissions.get(4)).expectNext(5).verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Should reject submissions once the queue is full")
+        void shouldRejectWhenSaturated() {
+            // Arrange: la escritura nunca termina, así que la cola no se vacía
+            writer = writer(items -> Flux.never(), 1, Duration.ofMillis(1), 8);
+
+            // Act
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                writer.submit(i).subscribe(null, errors::add);
+            }
+
+            // Assert
+            assertTrue(errors.stream().anyMatch(ServicioSaturadoException.class::isInstance));
+            assertTrue(meterRegistry.get("r2dbc.batch.rejected").counter().count() > 0);
+        }
+    }
+
+    private Function<List<Integer>, Flux<Integer>> recording(Function<List<Integer>, Flux<Integer>> delegate) {
+        return items -> {
+            batches.add(List.copyOf(items));
+            return delegate.apply(items);
+        };
+    }
+
+    private MicroBatchWriter<Integer> writer(Function<List<Integer>, Flux<Integer>> delegate, int maxBatchSize,
+                                             Duration maxDelay, int queueCapacity) {
+        return new MicroBatchWriter<>("prueba", delegate, maxBatchSize, maxDelay, queueCapacity, 1, meterRegistry);
+    }
+}
@@ -0,0 +1,141 @@
+package co.com.camilo.consumer;
+
+import co.com.camilo.consumer.config.AutenticacionClientProperties;
+import co.com.camilo.consumer.dto.UsuarioResponse;
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import co.com.camilo.model.solicitante.Solicitante;
+import co.com.camilo.model.solicitante.gateways.SolicitanteGateway;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Consulta de solicitantes contra {@code GET /api/v1/usuarios/{email}} de autenticacion-service.
+ * <p>
+ * Las consultas simultáneas por un mismo correo comparten una sola llamada (el futuro en caché) y su
+ * resultado, incluido "no registrado", se conserva por poco tiempo. Las llamadas en vuelo están acotadas:
+ * por encima del límite, o si el servicio no responde a tiempo, se falla con
+ * {@link ServicioSaturadoException} en lugar de acumular espera. Los fallos no quedan en caché.
+ */
+@Component
+public class SolicitanteRestConsumer implements SolicitanteGateway {
+
+    public static final String CACHE_NAME = "solicitantes.por.correo";
+    static final String USUARIO_POR_CORREO = "/api/v1/usuarios/{email}";
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final Semaphore llamadasEnVuelo;
+    private final AsyncCache<String, Optional<Solicitante>> cache;
+    private final Counter rechazadas;
+
+    public SolicitanteRestConsumer(WebClient autenticacionWebClient, AutenticacionClientProperties properties,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this(autenticacionWebClient, properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                Ticker.systemTicker());
+    }
+
+    SolicitanteRestConsumer(WebClient webClient, AutenticacionClientProperties properties,
+                            MeterRegistry meterRegistry, Ticker ticker) {
+        this.webClient = webClient;
+        this.timeout = properties.timeout();
+        this.llamadasEnVuelo = new Semaphore(properties.maxConcurrentCalls());
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .recordStats()
+                .maximumSize(properties.cacheMaximumSize())
+                .expireAfter(new PresenceExpiry(properties))
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.rechazadas = Counter.builder("autenticacion.client.rejected")
+                .description("Consultas rechazadas por superar el límite de llamadas en vuelo")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Solicitante> findByCorreo(String correoElectronico) {
+        if (correoElectronico == null || correoElectronico.isBlank()) {
+            return Mono.empty();
+        }
+        String email = correoElectronico.trim();
+        // El futuro es compartido entre suscriptores concurrentes; cancelar uno no debe cancelar la llamada
+        return Mono.fromFuture(() -> cache.get(email, (key, executor) -> consultar(key)), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private CompletableFuture<Optional<Solicitante>> consultar(String email) {
+        if (!llamadasEnVuelo.tryAcquire()) {
+            rechazadas.increment();
+            return CompletableFuture.failedFuture(new ServicioSaturadoException(
+                    "Demasiadas consultas simultáneas al registro de usuarios, intente de nuevo"));
+        }
+        return webClient.get()
+                .uri(USUARIO_POR_CORREO, email)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.bodyToMono(UsuarioResponse.class)
+                                .map(usuario -> Optional.of(usuario.toSolicitante()));
+                    }
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().thenReturn(Optional.<Solicitante>empty());
+                    }
+                    if (response.statusCode().is4xxClientError()) {
+                        return response.releaseBody().then(Mono.error(new IllegalArgumentException(
+                                "El registro de usuarios rechazó la consulta (" + response.statusCode().value() + ")")));
+                    }
+                    return response.releaseBody().then(Mono.error(new ServicioSaturadoException(
+                            "El registro de usuarios respondió " + response.statusCode().value())));
+                })
+                .timeout(timeout)
+                .onErrorMap(ex -> !(ex instanceof IllegalArgumentException || ex instanceof ServicioSaturadoException),
+                        ex -> new ServicioSaturadoException("El registro de usuarios no está disponible: " + ex.getMessage()))
+                .doFinally(signal -> llamadasEnVuelo.release())
+                .toFuture();
+    }
+
+    /** Vida distinta para solicitantes encontrados y para correos no registrados. */
+    private static final class PresenceExpiry implements Expiry<String, Optional<Solicitante>> {
+
+        private final long presentNanos;
+        private final long absentNanos;
+
+        private PresenceExpiry(AutenticacionClientProperties properties) {
+            this.presentNanos = properties.expireAfterWrite().toNanos();
+            this.absentNanos = properties.negativeExpireAfterWrite().toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String email, Optional<Solicitante> value, long currentTime) {
+            return value.isPresent() ? presentNanos : absentNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String email, Optional<Solicitante> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(email, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String email, Optional<Solicitante> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
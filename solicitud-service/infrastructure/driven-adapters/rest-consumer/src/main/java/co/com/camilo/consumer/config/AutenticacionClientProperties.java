@@ -0,0 +1,60 @@
+package co.com.camilo.consumer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cliente del registro de usuarios de autenticacion-service.
+ *
+ * @param url                      URL base del servicio
+ * @param protocols                protocolos ofrecidos; con HTTP11 y H2C se negocia HTTP/2 en claro si el
+ *                                 servidor lo admite y se sigue en HTTP/1.1 si no
+ * @param maxConnections           conexiones del pool; con HTTP/2 cada una multiplexa varias consultas
+ * @param pendingAcquireTimeout    espera máxima por una conexión libre del pool
+ * @param maxIdleTime              tiempo tras el cual se cierra una conexión sin uso
+ * @param connectTimeout           tiempo máximo para abrir una conexión
+ * @param timeout                  tiempo máximo de una consulta completa, incluida la espera por conexión
+ * @param maxConcurrentCalls       consultas en vuelo; por encima se responde 503 en lugar de encolar
+ * @param cacheMaximumSize         correos en caché
+ * @param expireAfterWrite         vida de un solicitante encontrado
+ * @param negativeExpireAfterWrite vida de un correo no registrado; corta para ver pronto los registros nuevos
+ */
+@ConfigurationProperties(prefix = "adapters.rest-consumer.autenticacion")
+public record AutenticacionClientProperties(
+        String url,
+        List<HttpProtocol> protocols,
+        Integer maxConnections,
+        Duration pendingAcquireTimeout,
+        Duration maxIdleTime,
+        Duration connectTimeout,
+        Duration timeout,
+        Integer maxConcurrentCalls,
+        Long cacheMaximumSize,
+        Duration expireAfterWrite,
+        Duration negativeExpireAfterWrite) {
+
+    public AutenticacionClientProperties {
+        url = url == null || url.isBlank() ? "http://localhost:8080" : url;
+        protocols = protocols == null || protocols.isEmpty()
+                ? List.of(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                : List.copyOf(protocols);
+        maxConnections = maxConnections == null ? 16 : Math.max(maxConnections, 1);
+        pendingAcquireTimeout = pendingAcquireTimeout == null ? Duration.ofMillis(500) : pendingAcquireTimeout;
+        maxIdleTime = maxIdleTime == null ? Duration.ofSeconds(30) : maxIdleTime;
+        connectTimeout = connectTimeout == null ? Duration.ofMillis(500) : connectTimeout;
+        timeout = timeout == null ? Duration.ofSeconds(2) : timeout;
+        maxConcurrentCalls = maxConcurrentCalls == null ? 64 : Math.max(maxConcurrentCalls, 1);
+        cacheMaximumSize = cacheMaximumSize == null ? 10_000L : Math.max(cacheMaximumSize, 1L);
+        expireAfterWrite = expireAfterWrite == null ? Duration.ofSeconds(30) : expireAfterWrite;
+        negativeExpireAfterWrite = negativeExpireAfterWrite == null
+                ? Duration.ofSeconds(2)
+                : min(negativeExpireAfterWrite, expireAfterWrite);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.camilo.consumer.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class RestConsumerConfig {
+
+    static final String POOL_NAME = "autenticacion";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider autenticacionConnectionProvider(AutenticacionClientProperties properties) {
+        return connectionProvider(properties);
+    }
+
+    // El builder de Spring Boot trae los codecs de la aplicación y la observación http.client.requests
+    @Bean
+    public WebClient autenticacionWebClient(WebClient.Builder builder,
+                                            ConnectionProvider autenticacionConnectionProvider,
+                                            AutenticacionClientProperties properties) {
+        return webClient(builder, autenticacionConnectionProvider, properties);
+    }
+
+    public static ConnectionProvider connectionProvider(AutenticacionClientProperties properties) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    public static WebClient webClient(WebClient.Builder builder, ConnectionProvider connectionProvider,
+                                      AutenticacionClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(properties.protocols().toArray(HttpProtocol[]::new))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.timeout());
+        return builder
+                .baseUrl(properties.url())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
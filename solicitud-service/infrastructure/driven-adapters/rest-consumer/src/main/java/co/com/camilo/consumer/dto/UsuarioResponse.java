@@ -0,0 +1,27 @@
+package co.com.camilo.consumer.dto;
+
+import co.com.camilo.model.solicitante.Solicitante;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/** Campos de {@code GET /api/v1/usuarios/{email}} que interesan a las solicitudes. */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UsuarioResponse {
+
+    private int id;
+    private String nombre;
+    private String apellido;
+    private String correoElectronico;
+    private int salarioBase;
+
+    public Solicitante toSolicitante() {
+        return Solicitante.builder()
+                .id(id)
+                .nombre(nombre)
+                .apellido(apellido)
+                .correoElectronico(correoElectronico)
+                .salarioBase(salarioBase)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package co.com.camilo.consumer;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor local que imita {@code GET /api/v1/usuarios/{email}} de autenticacion-service, con la misma
+ * negociación HTTP/1.1 / h2c que el servicio real. Permite fijar la demora y forzar un estado de respuesta.
+ */
+final class AutenticacionStubServer implements AutoCloseable {
+
+    private final DisposableServer server;
+    private final Map<String, String> usuarios = new ConcurrentHashMap<>();
+    private final AtomicInteger llamadas = new AtomicInteger();
+    private volatile Duration demora = Duration.ZERO;
+    private volatile HttpResponseStatus estadoForzado;
+
+    AutenticacionStubServer() {
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .route(routes -> routes.get("/api/v1/usuarios/{email}", (request, response) -> {
+                    llamadas.incrementAndGet();
+                    String email = URLDecoder.decode(request.param("email"), StandardCharsets.UTF_8);
+                    return Mono.delay(demora).then(Mono.defer(() -> {
+                        if (estadoForzado != null) {
+                            return response.status(estadoForzado).send().then();
+                        }
+                        String body = usuarios.get(email);
+                        if (body == null) {
+                            return response.status(HttpResponseStatus.NOT_FOUND).send().then();
+                        }
+                        return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                .sendString(Mono.just(body))
+                                .then();
+                    }));
+                }))
+                .bindNow();
+    }
+
+    String url() {
+        return "http://localhost:" + server.port();
+    }
+
+    void registrar(int id, String email, int salarioBase) {
+        usuarios.put(email, """
+                {"id":%d,"nombre":"Ana","apellido":"Gómez","correoElectronico":"%s",\
+                "fechaNacimiento":"1990-01-01","salarioBase":%d}""".formatted(id, email, salarioBase));
+    }
+
+    void demora(Duration demora) {
+        this.demora = demora;
+    }
+
+    void forzarEstado(HttpResponseStatus estado) {
+        this.estadoForzado = estado;
+    }
+
+    int llamadas() {
+        return llamadas.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
@@ -0,0 +1,213 @@
+package co.com.camilo.consumer;
+
+import co.com.camilo.consumer.config.AutenticacionClientProperties;
+import co.com.camilo.consumer.config.RestConsumerConfig;
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import co.com.camilo.model.solicitante.Solicitante;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("SolicitanteRestConsumer Tests")
+class SolicitanteRestConsumerTest {
+
+    private static final String EMAIL = "ana@email.com";
+
+    private AutenticacionStubServer stub;
+    private ConnectionProvider connectionProvider;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        stub = new AutenticacionStubServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        stub.close();
+    }
+
+    private SolicitanteRestConsumer consumer(Duration timeout, int maxConcurrentCalls) {
+        AutenticacionClientProperties properties = new AutenticacionClientProperties(stub.url(), null, null, null,
+                null, null, timeout, maxConcurrentCalls, null, Duration.ofSeconds(30), Duration.ofSeconds(2));
+        connectionProvider = RestConsumerConfig.connectionProvider(properties);
+        WebClient webClient = RestConsumerConfig.webClient(WebClient.builder(), connectionProvider, properties);
+        return new SolicitanteRestConsumer(webClient, properties, new SimpleMeterRegistry(), nanos::get);
+    }
+
+    private SolicitanteRestConsumer consumer() {
+        return consumer(Duration.ofSeconds(2), 64);
+    }
+
+    @Nested
+    @DisplayName("Consulta")
+    class ConsultaTests {
+
+        @Test
+        @DisplayName("Should map a registered user to an applicant")
+        void shouldFindRegisteredUser() {
+            // Arrange
+            stub.registrar(12, EMAIL, 4_500_000);
+
+            // Act & Assert
+            StepVerifier.create(consumer().findByCorreo(EMAIL))
+                    .expectNextMatches(s -> s.getId() == 12
+                            && EMAIL.equals(s.getCorreoElectronico())
+                            && s.getSalarioBase() == 4_500_000)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should complete empty for an unregistered email")
+        void shouldCompleteEmptyWhenNotFound() {
+            // Act & Assert
+            StepVerifier.create(consumer().findByCorreo("nadie@email.com"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should report an unavailable registry as a retryable error")
+        void shouldMapServerErrors() {
+            // Arrange
+            stub.forzarEstado(HttpResponseStatus.BAD_GATEWAY);
+
+            // Act & Assert
+            StepVerifier.create(consumer().findByCorreo(EMAIL))
+                    .expectError(ServicioSaturadoException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Agrupación y caché")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should share one call among concurrent lookups of the same email")
+        void shouldCoalesceConcurrentLookups() {
+            // Arrange
+            stub.registrar(12, EMAIL, 4_500_000);
+            stub.demora(Duration.ofMillis(200));
+            SolicitanteRestConsumer consumer = consumer();
+
+            // Act & Assert
+            StepVerifier.create(Flux.range(0, 50).flatMap(i -> consumer.findByCorreo(EMAIL)))
+                    .expectNextCount(50)
+                    .verifyComplete();
+            assertEquals(1, stub.llamadas());
+        }
+
+        @Test
+        @DisplayName("Should serve repeated lookups from cache until they expire")
+        void shouldCacheBriefly() {
+            // Arrange
+            stub.registrar(12, EMAIL, 4_500_000);
+            SolicitanteRestConsumer consumer = consumer();
+            consumer.findByCorreo(EMAIL).block();
+
+            // Act
+            consumer.findByCorreo(EMAIL).block();
+            int antesDeExpirar = stub.llamadas();
+            nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+            consumer.findByCorreo(EMAIL).block();
+
+            // Assert
+            assertEquals(1, antesDeExpirar);
+            assertEquals(2, stub.llamadas());
+        }
+
+        @Test
+        @DisplayName("Should keep unregistered emails for a shorter time")
+        void shouldExpireNegativeResultsSooner() {
+            // Arrange
+            SolicitanteRestConsumer consumer = consumer();
+            consumer.findByCorreo(EMAIL).block();
+
+            // Act: el usuario se registra después de la primera consulta
+            stub.registrar(12, EMAIL, 4_500_000);
+            Solicitante enCache = consumer.findByCorreo(EMAIL).block();
+            nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+            Solicitante refrescado = consumer.findByCorreo(EMAIL).block();
+
+            // Assert
+            assertNull(enCache);
+            assertNotNull(refrescado);
+            assertEquals(2, stub.llamadas());
+        }
+
+        @Test
+        @DisplayName("Should not cache failures")
+        void shouldNotCacheFailures() {
+            // Arrange
+            stub.forzarEstado(HttpResponseStatus.SERVICE_UNAVAILABLE);
+            SolicitanteRestConsumer consumer = consumer();
+            StepVerifier.create(consumer.findByCorreo(EMAIL))
+                    .expectError(ServicioSaturadoException.class)
+                    .verify();
+
+            // Act
+            stub.forzarEstado(null);
+            stub.registrar(12, EMAIL, 4_500_000);
+
+            // Assert
+            StepVerifier.create(consumer.findByCorreo(EMAIL))
+                    .expectNextCount(1)
+                    .verifyComplete();
+            assertEquals(2, stub.llamadas());
+        }
+    }
+
+    @Nested
+    @DisplayName("Límites")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should fail fast when the registry is slower than the timeout")
+        void shouldTimeOut() {
+            // Arrange
+            stub.registrar(12, EMAIL, 4_500_000);
+            stub.demora(Duration.ofMillis(500));
+
+            // Act & Assert
+            StepVerifier.create(consumer(Duration.ofMillis(100), 64).findByCorreo(EMAIL))
+                    .expectError(ServicioSaturadoException.class)
+                    .verify(Duration.ofSeconds(2));
+        }
+
+        @Test
+        @DisplayName("Should reject lookups above the in-flight limit instead of queueing them")
+        void shouldBoundConcurrentCalls() {
+            // Arrange
+            stub.registrar(12, EMAIL, 4_500_000);
+            stub.registrar(13, "luis@email.com", 3_000_000);
+            stub.demora(Duration.ofMillis(300));
+            SolicitanteRestConsumer consumer = consumer(Duration.ofSeconds(2), 1);
+            CompletableFuture<Solicitante> enVuelo = consumer.findByCorreo(EMAIL).toFuture();
+
+            // Act & Assert
+            StepVerifier.create(consumer.findByCorreo("luis@email.com"))
+                    .expectError(ServicioSaturadoException.class)
+                    .verify();
+            assertEquals(12, enVuelo.join().getId());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package co.com.camilo.api.DTO;
+
+import lombok.Data;
+
+@Data
+public class CambioEstadoRequest {
+
+    private String estado;
+    // Versión sobre la que decidió el asesor; opcional
+    private Long version;
+}
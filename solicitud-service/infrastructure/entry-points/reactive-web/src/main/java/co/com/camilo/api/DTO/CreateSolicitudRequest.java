@@ -0,0 +1,26 @@
+package co.com.camilo.api.DTO;
+
+import lombok.Data;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+// Solo forma y presencia de los campos; los rangos de monto y plazo los valida SolicitudUseCase
+@Data
+public class CreateSolicitudRequest {
+
+    @NotBlank(message = "El documento de identidad es obligatorio")
+    private String documentoIdentidad;
+
+    @NotBlank(message = "El correo electrónico es obligatorio")
+    @Pattern(regexp = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$", message = "El formato del correo no es válido")
+    private String correoElectronico;
+
+    @NotNull(message = "El monto es obligatorio")
+    private BigDecimal monto;
+
+    private int plazoMeses;
+
+    @NotBlank(message = "El tipo de préstamo es obligatorio")
+    private String tipoPrestamo;
+}
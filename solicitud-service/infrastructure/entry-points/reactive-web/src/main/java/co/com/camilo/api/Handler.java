@@ -1,29 +1,81 @@
 package co.com.camilo.api;
 
+import co.com.camilo.api.DTO.CambioEstadoRequest;
+import co.com.camilo.api.DTO.CreateSolicitudRequest;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.api.validation.RequestValidator;
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class Handler {
-//private  final UseCase useCase;
-//private  final UseCase2 useCase2;
 
-    public Mono<ServerResponse> listenGETUseCase(ServerRequest serverRequest) {
-        // useCase.logic();
-        return ServerResponse.ok().bodyValue("");
+    private static final RequestValidator<CreateSolicitudRequest> CREATE_SOLICITUD_VALIDATOR =
+            RequestValidator.of(CreateSolicitudRequest.class);
+
+    private final SolicitudUseCase solicitudUseCase;
+    private final GlobalExceptionHandler exceptionHandler;
+
+    public Mono<ServerResponse> listenSaveSolicitud(ServerRequest serverRequest) {
+        return serverRequest.bodyToMono(CreateSolicitudRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("El cuerpo de la solicitud es obligatorio")))
+                .flatMap(Handler::validateCreateSolicitudRequest)
+                .map(Handler::toSolicitud)
+                .flatMap(solicitudUseCase::registrarSolicitud)
+                .flatMap(saved -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(saved))
+                .onErrorResume(Throwable.class, ex ->
+                        exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    public Mono<ServerResponse> listenCambiarEstado(ServerRequest serverRequest) {
+        return Mono.fromSupplier(() -> Long.valueOf(serverRequest.pathVariable("id")))
+                .zipWith(serverRequest.bodyToMono(CambioEstadoRequest.class)
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("El cuerpo de la solicitud es obligatorio"))))
+                .flatMap(tuple -> solicitudUseCase.cambiarEstado(tuple.getT1(), toEstado(tuple.getT2().getEstado()),
+                        tuple.getT2().getVersion()))
+                .flatMap(updated -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(updated))
+                .switchIfEmpty(ServerResponse.notFound().build())
+                .onErrorResume(Throwable.class, ex ->
+                        exceptionHandler.handleAnyException(ex, serverRequest));
+    }
+
+    private static Mono<CreateSolicitudRequest> validateCreateSolicitudRequest(CreateSolicitudRequest request) {
+        List<String> errors = CREATE_SOLICITUD_VALIDATOR.validate(request);
+        if (!errors.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(
+                    "Errores de validación: " + String.join(", ", errors)));
+        }
+        return Mono.just(request);
     }
 
-    public Mono<ServerResponse> listenGETOtherUseCase(ServerRequest serverRequest) {
-        // useCase2.logic();
-        return ServerResponse.ok().bodyValue("");
+    private static EstadoSolicitud toEstado(String estado) {
+        if (estado == null || estado.isBlank()) {
+            throw new IllegalArgumentException("El estado destino es obligatorio");
+        }
+        return EstadoSolicitud.valueOf(estado.trim().toUpperCase());
     }
 
-    public Mono<ServerResponse> listenPOSTUseCase(ServerRequest serverRequest) {
-        // useCase.logic();
-        return ServerResponse.ok().bodyValue("");
+    private static Solicitud toSolicitud(CreateSolicitudRequest request) {
+        return Solicitud.builder()
+                .documentoIdentidad(request.getDocumentoIdentidad())
+                .correoElectronico(request.getCorreoElectronico())
+                .monto(request.getMonto())
+                .plazoMeses(request.getPlazoMeses())
+                .tipoPrestamo(request.getTipoPrestamo())
+                .build();
     }
 }
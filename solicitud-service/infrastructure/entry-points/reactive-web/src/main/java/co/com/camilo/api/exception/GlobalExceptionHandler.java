@@ -0,0 +1,69 @@
+package co.com.camilo.api.exception;
+
+import co.com.camilo.model.exception.ConcurrenciaOptimistaException;
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Component
+public class GlobalExceptionHandler {
+
+    // Segundos sugeridos al cliente antes de reintentar cuando el servicio está saturado
+    static final String RETRY_AFTER_SECONDS = "1";
+    // Un conflicto de versión se resuelve releyendo de inmediato
+    static final String RETRY_AFTER_CONFLICT_SECONDS = "0";
+
+    public Mono<ServerResponse> handleAnyException(Throwable ex, ServerRequest request) {
+        HttpStatus status = determineHttpStatus(ex);
+
+        Map<String, Object> errorResponse = Map.of(
+            "status", status.value(),
+            "error", status.getReasonPhrase(),
+            "message", String.valueOf(ex.getMessage())
+        );
+
+        ServerResponse.BodyBuilder response = ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        } else if (ex instanceof ConcurrenciaOptimistaException) {
+            response.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_CONFLICT_SECONDS);
+        }
+        return response.bodyValue(errorResponse);
+    }
+
+    public HttpStatus determineHttpStatus(Throwable ex) {
+        if (ex instanceof ServicioSaturadoException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;  // 503
+        }
+
+        if (ex instanceof ConcurrenciaOptimistaException) {
+            return HttpStatus.CONFLICT;           // 409, reintentable tras releer
+        }
+
+        if (ex instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;        // 400
+        }
+
+        if (ex instanceof IllegalStateException) {
+            return HttpStatus.CONFLICT;           // 409
+        }
+
+        if (ex instanceof NullPointerException) {
+            return HttpStatus.BAD_REQUEST;        // 400
+        }
+
+        if (ex instanceof UnsupportedOperationException) {
+            return HttpStatus.METHOD_NOT_ALLOWED; // 405
+        }
+
+        return HttpStatus.INTERNAL_SERVER_ERROR;  // 500
+    }
+}
@@ -1,60 +1,145 @@
 package co.com.camilo.api;
 
-import org.assertj.core.api.Assertions;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.model.exception.ConcurrenciaOptimistaException;
+import co.com.camilo.model.exception.ServicioSaturadoException;
+import co.com.camilo.model.solicitud.EstadoSolicitud;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
-@ContextConfiguration(classes = {RouterRest.class, Handler.class})
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {RouterRest.class, Handler.class, GlobalExceptionHandler.class})
 @WebFluxTest
 class RouterRestTest {
 
     @Autowired
     private WebTestClient webTestClient;
 
+    @MockitoBean
+    private SolicitudUseCase solicitudUseCase;
+
     @Test
-    void testListenGETUseCase() {
-        webTestClient.get()
-                .uri("/api/usecase/path")
-                .accept(MediaType.APPLICATION_JSON)
+    void testListenSaveSolicitud() {
+        when(solicitudUseCase.registrarSolicitud(any(Solicitud.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.<Solicitud>getArgument(0).toBuilder()
+                        .id(1L)
+                        .estado(EstadoSolicitud.PENDIENTE_REVISION)
+                        .build()));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(solicitudBody())
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(String.class)
-                .value(userResponse -> {
-                            Assertions.assertThat(userResponse).isEmpty();
-                        }
-                );
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.estado").isEqualTo("PENDIENTE_REVISION")
+                .jsonPath("$.monto").isEqualTo(5000000.5);
     }
 
     @Test
-    void testListenGETOtherUseCase() {
-        webTestClient.get()
-                .uri("/api/otherusercase/path")
-                .accept(MediaType.APPLICATION_JSON)
+    void testListenSaveSolicitudWhenSaturated() {
+        when(solicitudUseCase.registrarSolicitud(any(Solicitud.class)))
+                .thenReturn(Mono.error(new ServicioSaturadoException("El servicio está saturado, intente de nuevo")));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(solicitudBody())
                 .exchange()
-                .expectStatus().isOk()
-                .expectBody(String.class)
-                .value(userResponse -> {
-                            Assertions.assertThat(userResponse).isEmpty();
-                        }
-                );
+                .expectStatus().isEqualTo(503)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER);
     }
 
     @Test
-    void testListenPOSTUseCase() {
+    void testListenSaveSolicitudWhenInvalid() {
         webTestClient.post()
-                .uri("/api/usecase/otherpath")
-                .accept(MediaType.APPLICATION_JSON)
-                .bodyValue("")
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "documentoIdentidad", "1020304050",
+                        "correoElectronico", "no-es-correo",
+                        "plazoMeses", 24,
+                        "tipoPrestamo", "LIBRE_INVERSION"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertThat((String) message)
+                        .startsWith("Errores de validación: ")
+                        .contains("El formato del correo no es válido")
+                        .contains("El monto es obligatorio"));
+
+        verifyNoInteractions(solicitudUseCase);
+    }
+
+    @Test
+    void testListenCambiarEstado() {
+        when(solicitudUseCase.cambiarEstado(eq(7L), eq(EstadoSolicitud.APROBADA), eq(3L)))
+                .thenReturn(Mono.just(Solicitud.builder().id(7L).estado(EstadoSolicitud.APROBADA).version(4L).build()));
+
+        webTestClient.patch()
+                .uri("/api/v1/solicitud/7/estado")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("estado", "APROBADA", "version", 3))
                 .exchange()
                 .expectStatus().isOk()
-                .expectBody(String.class)
-                .value(userResponse -> {
-                            Assertions.assertThat(userResponse).isEmpty();
-                        }
-                );
+                .expectBody()
+                .jsonPath("$.estado").isEqualTo("APROBADA")
+                .jsonPath("$.version").isEqualTo(4);
+    }
+
+    @Test
+    void testListenCambiarEstadoWhenVersionConflict() {
+        when(solicitudUseCase.cambiarEstado(eq(7L), eq(EstadoSolicitud.RECHAZADA), isNull()))
+                .thenReturn(Mono.error(new ConcurrenciaOptimistaException("La solicitud 7 fue modificada por otro proceso")));
+
+        webTestClient.patch()
+                .uri("/api/v1/solicitud/7/estado")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("estado", "RECHAZADA"))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER);
+    }
+
+    @Test
+    void testListenCambiarEstadoWhenMissing() {
+        when(solicitudUseCase.cambiarEstado(eq(8L), eq(EstadoSolicitud.EN_REVISION), isNull()))
+                .thenReturn(Mono.empty());
+
+        webTestClient.patch()
+                .uri("/api/v1/solicitud/8/estado")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("estado", "EN_REVISION"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static Map<String, Object> solicitudBody() {
+        return Map.of(
+                "documentoIdentidad", "1020304050",
+                "correoElectronico", "juan@email.com",
+                "monto", new BigDecimal("5000000.50"),
+                "plazoMeses", 24,
+                "tipoPrestamo", "LIBRE_INVERSION");
     }
 }
@@ -2,14 +2,25 @@ package co.com.camilo.api.config;
 
 import co.com.camilo.api.Handler;
 import co.com.camilo.api.RouterRest;
+import co.com.camilo.api.exception.GlobalExceptionHandler;
+import co.com.camilo.model.solicitud.Solicitud;
+import co.com.camilo.usecase.solicitud.SolicitudUseCase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
-@ContextConfiguration(classes = {RouterRest.class, Handler.class})
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {RouterRest.class, Handler.class, GlobalExceptionHandler.class})
 @WebFluxTest
 @Import({CorsConfig.class, SecurityHeadersConfig.class})
 class ConfigTest {
@@ -17,10 +28,23 @@ class ConfigTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @MockitoBean
+    private SolicitudUseCase solicitudUseCase;
+
     @Test
     void corsConfigurationShouldAllowOrigins() {
-        webTestClient.get()
-                .uri("/api/usecase/path")
+        when(solicitudUseCase.registrarSolicitud(any(Solicitud.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.<Solicitud>getArgument(0)));
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "documentoIdentidad", "1020304050",
+                        "correoElectronico", "juan@email.com",
+                        "monto", 5000000,
+                        "plazoMeses", 24,
+                        "tipoPrestamo", "LIBRE_INVERSION"))
                 .exchange()
                 .expectStatus().isOk()
                 .expectHeader().valueEquals("Content-Security-Policy",
@@ -0,0 +1,150 @@
+package co.com.camilo.api.validation;
+
+import co.com.camilo.api.DTO.CreateSolicitudRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("RequestValidator Tests")
+class RequestValidatorTest {
+
+    private final RequestValidator<CreateSolicitudRequest> validator = RequestValidator.of(CreateSolicitudRequest.class);
+    private final Validator jakartaValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private CreateSolicitudRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new CreateSolicitudRequest();
+        request.setDocumentoIdentidad("1020304050");
+        request.setCorreoElectronico("juan@email.com");
+        request.setMonto(new BigDecimal("5000000.50"));
+        request.setPlazoMeses(24);
+        request.setTipoPrestamo("LIBRE_INVERSION");
+    }
+
+    @Nested
+    @DisplayName("CreateSolicitudRequest")
+    class CreateSolicitudRequestTests {
+
+        @Test
+        @DisplayName("Should return the shared empty list for a valid request")
+        void shouldReturnEmptyListWhenValid() {
+            // Act
+            List<String> errors = validator.validate(request);
+
+            // Assert
+            assertSame(List.of(), errors);
+        }
+
+        @Test
+        @DisplayName("Should report the same messages as Jakarta Validation")
+        void shouldMatchJakartaMessages() {
+            // Arrange
+            request.setDocumentoIdentidad(" ");
+            request.setCorreoElectronico("no-es-correo");
+            request.setMonto(null);
+            request.setTipoPrestamo(null);
+
+            // Act
+            List<String> errors = validator.validate(request);
+
+            // Assert
+            assertEquals(jakartaMessages(request), Set.copyOf(errors));
+            assertEquals(4, errors.size());
+        }
+
+        @Test
+        @DisplayName("Should leave amount and term ranges to the use case")
+        void shouldNotCheckBusinessRanges() {
+            // Arrange
+            request.setMonto(BigDecimal.ZERO);
+            request.setPlazoMeses(0);
+
+            // Act
+            List<String> errors = validator.validate(request);
+
+            // Assert
+            assertSame(List.of(), errors);
+        }
+
+        @Test
+        @DisplayName("Should report both blank and pattern errors for an empty email")
+        void shouldReportBlankAndPatternForEmptyEmail() {
+            // Arrange
+            request.setCorreoElectronico("");
+
+            // Act
+            List<String> errors = validator.validate(request);
+
+            // Assert
+            assertEquals(jakartaMessages(request), Set.copyOf(errors));
+        }
+    }
+
+    @Nested
+    @DisplayName("Compilation")
+    class CompilationTests {
+
+        @Test
+        @DisplayName("Should reuse the compiled validator per class")
+        void shouldCacheValidatorPerClass() {
+            assertSame(validator, RequestValidator.of(CreateSolicitudRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should use a generic message for default message templates")
+        void shouldReplaceDefaultTemplates() {
+            // Arrange
+            SizedRequest sized = new SizedRequest();
+            sized.codigo = "abcd";
+
+            // Act
+            List<String> errors = RequestValidator.of(SizedRequest.class).validate(sized);
+
+            // Assert
+            assertEquals(List.of("El campo codigo no es válido"), errors);
+        }
+
+        @Test
+        @DisplayName("Should fail fast on unsupported constraints")
+        void shouldRejectUnsupportedConstraints() {
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> RequestValidator.of(UnsupportedRequest.class));
+
+            assertTrue(error.getMessage().contains("@Email"));
+        }
+    }
+
+    private Set<String> jakartaMessages(CreateSolicitudRequest target) {
+        return jakartaValidator.validate(target).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+
+    static class SizedRequest {
+        @Size(max = 3)
+        String codigo;
+    }
+
+    static class UnsupportedRequest {
+        @Email
+        String correo;
+    }
+}